@@ -26,7 +26,18 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.exporters.BulkDefinitionExporter;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.item.ItemIconRenderer;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +56,10 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "itemicons", true, "directory to render item icons to");
+
+		options.addOption(null, "ndjson", false, "dump items, npcs or objects to a single newline delimited json file");
+		options.addOption(null, "summary", false, "with --ndjson, also write a tab separated summary of each definition");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -62,6 +77,8 @@ public class Cache
 		String cache = cmd.getOptionValue("cache");
 
 		Store store = loadStore(cache);
+		boolean ndjson = cmd.hasOption("ndjson");
+		boolean summary = cmd.hasOption("summary");
 
 		if (cmd.hasOption("items"))
 		{
@@ -74,7 +91,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			dumpItems(store, new File(itemdir), ndjson, summary);
 		}
 		else if (cmd.hasOption("npcs"))
 		{
@@ -87,7 +104,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			dumpNpcs(store, new File(npcdir), ndjson, summary);
 		}
 		else if (cmd.hasOption("objects"))
 		{
@@ -100,7 +117,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			dumpObjects(store, new File(objectdir), ndjson, summary);
 		}
 		else if (cmd.hasOption("sprites"))
 		{
@@ -115,6 +132,19 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("itemicons"))
+		{
+			String icondir = cmd.getOptionValue("itemicons");
+
+			if (icondir == null)
+			{
+				System.err.println("Item icon directory must be specified");
+				return;
+			}
+
+			System.out.println("Rendering item icons to " + icondir);
+			dumpItemIcons(store, new File(icondir));
+		}
 		else
 		{
 			System.err.println("Nothing to do");
@@ -123,32 +153,59 @@ public class Cache
 
 	private static Store loadStore(String cache) throws IOException
 	{
-		Store store = new Store(new File(cache));
+		Store store = new Store(new DiskStorage(new File(cache), true));
 		store.load();
 		return store;
 	}
 
-	private static void dumpItems(Store store, File itemdir) throws IOException
+	private static void dumpItems(Store store, File itemdir, boolean ndjson, boolean summary) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
 		dumper.load();
-		dumper.export(itemdir);
+		if (ndjson)
+		{
+			itemdir.mkdirs();
+			BulkDefinitionExporter.items().export(dumper.getItems(), new File(itemdir, "items.ndjson"),
+				summary ? new File(itemdir, "items.tsv") : null);
+		}
+		else
+		{
+			dumper.export(itemdir);
+		}
 		dumper.java(itemdir);
 	}
 
-	private static void dumpNpcs(Store store, File npcdir) throws IOException
+	private static void dumpNpcs(Store store, File npcdir, boolean ndjson, boolean summary) throws IOException
 	{
 		NpcManager dumper = new NpcManager(store);
 		dumper.load();
-		dumper.dump(npcdir);
+		if (ndjson)
+		{
+			npcdir.mkdirs();
+			BulkDefinitionExporter.npcs().export(dumper.getNpcs(), new File(npcdir, "npcs.ndjson"),
+				summary ? new File(npcdir, "npcs.tsv") : null);
+		}
+		else
+		{
+			dumper.dump(npcdir);
+		}
 		dumper.java(npcdir);
 	}
 
-	private static void dumpObjects(Store store, File objectdir) throws IOException
+	private static void dumpObjects(Store store, File objectdir, boolean ndjson, boolean summary) throws IOException
 	{
 		ObjectManager dumper = new ObjectManager(store);
 		dumper.load();
-		dumper.dump(objectdir);
+		if (ndjson)
+		{
+			objectdir.mkdirs();
+			BulkDefinitionExporter.objects().export(dumper.getObjects(), new File(objectdir, "objects.ndjson"),
+				summary ? new File(objectdir, "objects.tsv") : null);
+		}
+		else
+		{
+			dumper.dump(objectdir);
+		}
 		dumper.java(objectdir);
 	}
 
@@ -158,4 +215,39 @@ public class Cache
 		dumper.load();
 		dumper.export(spritedir);
 	}
+
+	private static void dumpItemIcons(Store store, File icondir) throws IOException
+	{
+		ItemManager itemManager = new ItemManager(store);
+		itemManager.load();
+		itemManager.link();
+
+		SpriteManager spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		Index models = store.getIndex(IndexType.MODELS);
+		ModelProvider modelProvider = modelId ->
+		{
+			Archive archive = models.getArchive(modelId);
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			return new ModelLoader().load(modelId, data);
+		};
+
+		List<Integer> itemIds = new ArrayList<>();
+		for (ItemDefinition item : itemManager.getItems())
+		{
+			if (item.name != null && !item.name.equalsIgnoreCase("null"))
+			{
+				itemIds.add(item.id);
+			}
+		}
+
+		icondir.mkdirs();
+		ItemIconRenderer renderer = new ItemIconRenderer(itemManager, modelProvider, spriteManager, textureManager);
+		int count = renderer.exportIcons(icondir, itemIds, 1, 1, 3153952, ForkJoinPool.commonPool());
+		System.out.println("Rendered " + count + " item icons");
+	}
 }
@@ -34,7 +34,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
@@ -51,36 +50,33 @@ public class InterfaceManager
 
 	public void load() throws IOException
 	{
-		InterfaceLoader loader = new InterfaceLoader();
-
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.INTERFACES);
 
 		int max = index.getArchives().stream().mapToInt(a -> a.getArchiveId()).max().getAsInt();
 		interfaces = new InterfaceDefinition[max + 1][];
 
-		for (Archive archive : index.getArchives())
-		{
-			int archiveId = archive.getArchiveId();
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
+		store.loadArchives(index.getArchives(), null, this::loadGroup,
+			(archive, ifaces) -> interfaces[archive.getArchiveId()] = ifaces);
+	}
 
-			InterfaceDefinition[] ifaces = interfaces[archiveId];
-			if (ifaces == null)
-			{
-				ifaces = interfaces[archiveId] = new InterfaceDefinition[archive.getFileData().length];
-			}
+	private InterfaceDefinition[] loadGroup(Archive archive, ArchiveFiles files)
+	{
+		InterfaceLoader loader = new InterfaceLoader();
 
-			for (FSFile file : files.getFiles())
-			{
-				int fileId = file.getFileId();
+		int archiveId = archive.getArchiveId();
+		InterfaceDefinition[] ifaces = new InterfaceDefinition[archive.getFileData().length];
+
+		for (FSFile file : files.getFiles())
+		{
+			int fileId = file.getFileId();
 
-				int widgetId = (archiveId << 16) + fileId;
+			int widgetId = (archiveId << 16) + fileId;
 
-				InterfaceDefinition iface = loader.load(widgetId, file.getContents());
-				ifaces[fileId] = iface;
-			}
+			InterfaceDefinition iface = loader.load(widgetId, file.getContents());
+			ifaces[fileId] = iface;
 		}
+
+		return ifaces;
 	}
 
 	public int getNumInterfaceGroups()
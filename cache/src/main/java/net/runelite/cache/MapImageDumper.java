@@ -30,11 +30,18 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -79,6 +86,9 @@ public class MapImageDumper
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
 
+	// labels are centered on their position, so can extend this far in pixels from it
+	private static final int LABEL_MARGIN = 512;
+
 	private static byte[][][] TILE_SHAPE_2D;
 
 	private final int wallColor = (238 + (int) (random() * 20.0D) - 10 << 16) + (238 + (int) (random() * 20.0D) - 10 << 8) + (238 + (int) (random() * 20.0D) - 10);
@@ -98,6 +108,8 @@ public class MapImageDumper
 	private RSTextureProvider rsTextureProvider;
 	private final ObjectManager objectManager;
 
+	private final ThreadLocal<PlaneScratch> planeScratch = ThreadLocal.withInitial(PlaneScratch::new);
+
 	@Getter
 	@Setter
 	private boolean labelRegions;
@@ -160,6 +172,8 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tilesize").hasArg().desc("render z/x/y tiles of this many regions square").build());
+		options.addOption(Option.builder().longOpt("incremental").desc("only redraw tiles changed since the last tiled render").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -177,6 +191,8 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final String tileSize = cmd.getOptionValue("tilesize");
+		final boolean incremental = cmd.hasOption("incremental");
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -192,9 +208,34 @@ public class MapImageDumper
 		{
 			store.load();
 
-			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
+			RegionLoader regionLoader = new RegionLoader(store, xteaKeyManager);
+			MapImageDumper dumper = new MapImageDumper(store, regionLoader);
 			dumper.load();
 
+			if (tileSize != null)
+			{
+				int regionsPerTile = Integer.parseInt(tileSize);
+
+				File manifestFile = new File(outDir, "manifest.json");
+				MapTileManifest manifest = MapTileManifest.build(store, regionLoader, xteaKeyManager, regionsPerTile);
+				Set<Integer> dirtyRegions = null;
+				if (incremental && manifestFile.exists())
+				{
+					dirtyRegions = manifest.findDirtyRegions(MapTileManifest.load(manifestFile), regionLoader);
+				}
+
+				for (int i = 0; i < Region.Z; ++i)
+				{
+					MapTileWriter writer = new MapTileWriter(new File(outDir, Integer.toString(i)), dumper.getTileZoomLevels(regionsPerTile));
+					dumper.drawMapTiles(i, regionsPerTile, dirtyRegions, ForkJoinPool.commonPool(), writer);
+					writer.writeZoomLevels(ForkJoinPool.commonPool(), dumper.isTransparency());
+					log.info("Wrote tiles for plane {} to {}", i, outDir);
+				}
+
+				manifest.save(manifestFile);
+				return;
+			}
+
 			for (int i = 0; i < Region.Z; ++i)
 			{
 				BufferedImage image = dumper.drawMap(i);
@@ -264,11 +305,226 @@ public class MapImageDumper
 		drawMap(image, z);
 		drawObjects(image, z);
 		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		drawMapLabels(image, z, regionLoader.getLowestX().getBaseX(), regionLoader.getHighestY().getBaseY());
 
 		return image;
 	}
 
+	/**
+	 * Get the number of zoom levels above the full resolution tiles
+	 * needed to fit the whole map into one tile.
+	 *
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @return
+	 */
+	public int getTileZoomLevels(int regionsPerTile)
+	{
+		int tilesX = (regionLoader.getHighestX().getRegionX() - regionLoader.getLowestX().getRegionX()) / regionsPerTile + 1;
+		int tilesY = (regionLoader.getHighestY().getRegionY() - regionLoader.getLowestY().getRegionY()) / regionsPerTile + 1;
+
+		int zoom = 0;
+		while ((1 << zoom) < Math.max(tilesX, tilesY))
+		{
+			++zoom;
+		}
+		return zoom;
+	}
+
+	/**
+	 * Render a plane of the map as a grid of square tiles, each {@code regionsPerTile} regions wide.
+	 * Tiles are numbered from the north west corner of the map, and tiles with no regions are skipped.
+	 * Tiles are rendered in parallel on {@code executor} and handed to {@code consumer} from the
+	 * rendering thread as each finishes, so the memory used is bounded by the tile size rather than
+	 * the map size.
+	 *
+	 * @param z plane
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param executor executor to render tiles on
+	 * @param consumer consumer of finished tiles, called concurrently
+	 * @throws IOException if the consumer throws
+	 */
+	public void drawMapTiles(int z, int regionsPerTile, Executor executor, TileConsumer consumer) throws IOException
+	{
+		drawMapTiles(z, regionsPerTile, null, executor, consumer);
+	}
+
+	/**
+	 * Render the tiles of a plane of the map which contain any of the given regions. Tiles which
+	 * no longer contain any regions are passed to {@link TileConsumer#remove(int, int)}.
+	 *
+	 * @param z plane
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param regionIds ids of the regions to redraw the tiles of, or null for all tiles
+	 * @param executor executor to render tiles on
+	 * @param consumer consumer of finished tiles, called concurrently
+	 * @throws IOException if the consumer throws
+	 * @see MapTileManifest#findDirtyRegions(MapTileManifest, RegionLoader)
+	 */
+	public void drawMapTiles(int z, int regionsPerTile, Set<Integer> regionIds, Executor executor, TileConsumer consumer) throws IOException
+	{
+		prepareTileRendering();
+
+		int lowestRegionX = regionLoader.getLowestX().getRegionX();
+		int highestRegionY = regionLoader.getHighestY().getRegionY();
+
+		Set<Integer> tiles = new HashSet<>();
+		Set<Integer> populatedTiles = new HashSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int tileX = (region.getRegionX() - lowestRegionX) / regionsPerTile;
+			int tileY = (highestRegionY - region.getRegionY()) / regionsPerTile;
+			populatedTiles.add(tileX << 16 | tileY);
+		}
+
+		if (regionIds == null)
+		{
+			tiles.addAll(populatedTiles);
+		}
+		else
+		{
+			for (int regionId : regionIds)
+			{
+				int regionX = regionId >> 8;
+				int regionY = regionId & 0xFF;
+				if (regionX < lowestRegionX || regionY > highestRegionY)
+				{
+					continue;
+				}
+
+				int tileX = (regionX - lowestRegionX) / regionsPerTile;
+				int tileY = (highestRegionY - regionY) / regionsPerTile;
+				tiles.add(tileX << 16 | tileY);
+			}
+		}
+
+		log.info("Rendering {} tiles of {}px for plane {}", tiles.size(), regionsPerTile * Region.X * MAP_SCALE, z);
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(tiles.size());
+		for (int tile : tiles)
+		{
+			int tileX = tile >>> 16;
+			int tileY = tile & 0xFFFF;
+			boolean populated = populatedTiles.contains(tile);
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					if (populated)
+					{
+						consumer.accept(tileX, tileY, drawMapTile(z, regionsPerTile, tileX, tileY));
+					}
+					else
+					{
+						consumer.remove(tileX, tileY);
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor));
+		}
+
+		try
+		{
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Render a single map tile
+	 *
+	 * @param z plane
+	 * @param regionsPerTile width and height of a tile in regions
+	 * @param tileX tile x, from the west edge of the map
+	 * @param tileY tile y, from the north edge of the map
+	 * @return
+	 * @see #drawMapTiles(int, int, Executor, TileConsumer)
+	 */
+	public BufferedImage drawMapTile(int z, int regionsPerTile, int tileX, int tileY)
+	{
+		int pixels = regionsPerTile * Region.X * MAP_SCALE;
+		BufferedImage image = new BufferedImage(pixels, pixels, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		// region coordinates of the north west region of the tile
+		int westRegionX = regionLoader.getLowestX().getRegionX() + tileX * regionsPerTile;
+		int northRegionY = regionLoader.getHighestY().getRegionY() - tileY * regionsPerTile;
+
+		int originX = westRegionX * Region.X;
+		int originY = northRegionY * Region.Y;
+
+		List<Region> regions = new ArrayList<>();
+		List<Region> nearbyRegions = new ArrayList<>();
+		// objects and icons can overlap into neighboring tiles, so draw those from one region further out
+		for (int rx = westRegionX - 1; rx <= westRegionX + regionsPerTile; ++rx)
+		{
+			for (int ry = northRegionY + 1; ry >= northRegionY - regionsPerTile; --ry)
+			{
+				Region region = regionLoader.findRegionForRegionCoordinates(rx, ry);
+				if (region == null)
+				{
+					continue;
+				}
+
+				nearbyRegions.add(region);
+				if (rx >= westRegionX && rx < westRegionX + regionsPerTile && ry <= northRegionY && ry > northRegionY - regionsPerTile)
+				{
+					regions.add(region);
+				}
+			}
+		}
+
+		for (Region region : regions)
+		{
+			drawMap(image, region.getBaseX() - originX, originY - region.getBaseY(), z, region);
+		}
+		for (Region region : nearbyRegions)
+		{
+			drawObjects(image, region.getBaseX() - originX, originY - region.getBaseY(), region, z);
+		}
+		for (Region region : nearbyRegions)
+		{
+			drawMapIcons(image, region.getBaseX() - originX, originY - region.getBaseY(), region, z);
+		}
+		drawMapLabels(image, z, originX, originY);
+
+		return image;
+	}
+
+	/**
+	 * Initialize the lazily built state used by rendering up front, as tiles
+	 * are rendered from multiple threads which would otherwise race on it.
+	 */
+	private void prepareTileRendering()
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		for (SpriteDefinition sprite : mapDecorations)
+		{
+			sprite.normalize();
+		}
+
+		for (AreaDefinition area : areas.getAreas())
+		{
+			SpriteDefinition sprite = sprites.findSprite(area.spriteId, 0);
+			if (sprite != null)
+			{
+				sprite.normalize();
+			}
+		}
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
@@ -310,7 +566,8 @@ public class MapImageDumper
 			return;
 		}
 
-		int[][][] map = new int[4][][];
+		PlaneScratch map = planeScratch.get();
+		Arrays.fill(map.drawn, false);
 
 		for (int x = 0; x < Region.X; ++x)
 		{
@@ -363,14 +620,18 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawTile(BufferedImage to, int[][][] planes, Region region, int drawBaseX, int drawBaseY, int z, int x, int y)
+	private void drawTile(BufferedImage to, PlaneScratch planes, Region region, int drawBaseX, int drawBaseY, int z, int x, int y)
 	{
-		int[][] pixels = planes[z];
+		int[][] pixels = planes.planes[z];
 
-		if (pixels == null)
+		if (!planes.drawn[z])
 		{
-			pixels = planes[z] = new int[Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
+			for (int[] column : pixels)
+			{
+				Arrays.fill(column, 0);
+			}
 			drawMap(pixels, region, z);
+			planes.drawn[z] = true;
 		}
 
 		for (int i = 0; i < MAP_SCALE; ++i)
@@ -1581,7 +1842,11 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapLabels(BufferedImage image, int z)
+	/**
+	 * @param originX world x of the left edge of the image
+	 * @param originY world y of the base of the top row of regions in the image
+	 */
+	private void drawMapLabels(BufferedImage image, int z, int originX, int originY)
 	{
 		if (!renderLabels)
 		{
@@ -1599,6 +1864,14 @@ public class MapImageDumper
 				continue;
 			}
 
+			int drawX = worldPosition.getX() - originX;
+			int drawY = originY - worldPosition.getY() + Region.Y - 2;
+			if (drawX * MAP_SCALE < -LABEL_MARGIN || drawX * MAP_SCALE > image.getWidth() + LABEL_MARGIN
+				|| drawY * MAP_SCALE < -LABEL_MARGIN || drawY * MAP_SCALE > image.getHeight() + LABEL_MARGIN)
+			{
+				continue;
+			}
+
 			FontName fontSize = fontSizes[area.getTextScale()];
 			FontDefinition font = fonts.findFontByName(fontSize.getName());
 			String areaLabel = area.getName();
@@ -1615,8 +1888,6 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
 						blitGlyph(image,
 							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
 							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
@@ -1904,24 +2175,56 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// glyphs are shared between threads when drawing tiles, so recolor a copy
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
+	}
+
+	/**
+	 * Consumer of rendered map tiles
+	 */
+	@FunctionalInterface
+	public interface TileConsumer
+	{
+		void accept(int tileX, int tileY, BufferedImage image) throws IOException;
+
+		/**
+		 * Called for a tile being redrawn which no longer contains any regions
+		 */
+		default void remove(int tileX, int tileY) throws IOException
+		{
+		}
+	}
+
+	/**
+	 * Per thread buffers for ground rendering of a single region
+	 */
+	private static class PlaneScratch
+	{
+		final int[][][] planes = new int[Region.Z][Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
+		final boolean[] drawn = new boolean[Region.Z];
 	}
 }
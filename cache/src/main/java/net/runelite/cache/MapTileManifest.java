@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.primitives.Ints;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Crc32;
+import net.runelite.cache.util.KeyProvider;
+
+/**
+ * A record of the cache contents a set of map tiles was rendered from. Comparing the manifest
+ * of the previous render to the current cache gives the regions whose tiles need to be redrawn.
+ */
+@Data
+@Slf4j
+public class MapTileManifest
+{
+	private static final Gson GSON = new Gson();
+
+	private int regionsPerTile;
+	private int lowestRegionX;
+	private int lowestRegionY;
+	private int highestRegionX;
+	private int highestRegionY;
+	/**
+	 * crc of the cache contents which can affect any tile, such as sprites and textures
+	 */
+	private int globalCrc;
+	private Map<Integer, RegionEntry> regions = new HashMap<>();
+	/**
+	 * crc of each underlay, overlay and object definition
+	 */
+	private Map<Integer, Integer> underlays = new HashMap<>();
+	private Map<Integer, Integer> overlays = new HashMap<>();
+	private Map<Integer, Integer> objects = new HashMap<>();
+
+	@Data
+	public static class RegionEntry
+	{
+		private int mapCrc;
+		private int mapRevision;
+		private int locationsCrc;
+		private int locationsRevision;
+		/**
+		 * whether the locations could be decrypted
+		 */
+		private boolean keyed;
+	}
+
+	public static MapTileManifest build(Store store, RegionLoader regionLoader, KeyProvider keyProvider, int regionsPerTile) throws IOException
+	{
+		MapTileManifest manifest = new MapTileManifest();
+		manifest.regionsPerTile = regionsPerTile;
+		manifest.lowestRegionX = regionLoader.getLowestX().getRegionX();
+		manifest.lowestRegionY = regionLoader.getLowestY().getRegionY();
+		manifest.highestRegionX = regionLoader.getHighestX().getRegionX();
+		manifest.highestRegionY = regionLoader.getHighestY().getRegionY();
+
+		Index configs = store.getIndex(IndexType.CONFIGS);
+
+		Crc32 crc = new Crc32();
+		for (IndexType type : new IndexType[]{IndexType.SPRITES, IndexType.TEXTURES, IndexType.FONTS, IndexType.WORLDMAP})
+		{
+			Index index = store.getIndex(type);
+			crc.update(Ints.toByteArray(index != null ? index.getCrc() : 0), 0, 4);
+		}
+		crc.update(Ints.toByteArray(configs.getArchive(ConfigType.AREA.getId()).getCrc()), 0, 4);
+		manifest.globalCrc = crc.getHash();
+
+		Index maps = store.getIndex(IndexType.MAPS);
+		for (Region region : regionLoader.getRegions())
+		{
+			Archive map = maps.findArchiveByName("m" + region.getRegionX() + "_" + region.getRegionY());
+			Archive land = maps.findArchiveByName("l" + region.getRegionX() + "_" + region.getRegionY());
+
+			RegionEntry entry = new RegionEntry();
+			entry.mapCrc = map.getCrc();
+			entry.mapRevision = map.getRevision();
+			entry.locationsCrc = land.getCrc();
+			entry.locationsRevision = land.getRevision();
+			entry.keyed = keyProvider.getKey(region.getRegionID()) != null;
+			manifest.regions.put(region.getRegionID(), entry);
+		}
+
+		hashDefinitions(store, configs.getArchive(ConfigType.UNDERLAY.getId()), manifest.underlays);
+		hashDefinitions(store, configs.getArchive(ConfigType.OVERLAY.getId()), manifest.overlays);
+		hashDefinitions(store, configs.getArchive(ConfigType.OBJECT.getId()), manifest.objects);
+
+		return manifest;
+	}
+
+	private static void hashDefinitions(Store store, Archive archive, Map<Integer, Integer> hashes) throws IOException
+	{
+		ArchiveFiles files = archive.getFiles(store.getStorage().loadArchive(archive));
+		for (FSFile file : files.getFiles())
+		{
+			Crc32 crc = new Crc32();
+			crc.update(file.getContents(), 0, file.getContents().length);
+			hashes.put(file.getFileId(), crc.getHash());
+		}
+	}
+
+	public static MapTileManifest load(File file) throws IOException
+	{
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			return GSON.fromJson(reader, MapTileManifest.class);
+		}
+	}
+
+	public void save(File file) throws IOException
+	{
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			GSON.toJson(this, writer);
+		}
+	}
+
+	/**
+	 * Find the regions whose tiles need to be redrawn to go from {@code previous} to this manifest.
+	 * This includes regions which were added or removed, regions using a changed definition, and the
+	 * neighbors of all of those, since ground blending and objects cross region boundaries.
+	 *
+	 * @param previous manifest of the previous render
+	 * @param regionLoader regions of the current cache
+	 * @return ids of the regions to redraw, or null if every tile must be redrawn
+	 */
+	public Set<Integer> findDirtyRegions(MapTileManifest previous, RegionLoader regionLoader)
+	{
+		if (previous.regionsPerTile != regionsPerTile
+			|| previous.lowestRegionX != lowestRegionX
+			|| previous.lowestRegionY != lowestRegionY
+			|| previous.highestRegionX != highestRegionX
+			|| previous.highestRegionY != highestRegionY
+			|| previous.globalCrc != globalCrc)
+		{
+			// the tile grid or zoom levels changed, or something drawn everywhere changed
+			return null;
+		}
+
+		Set<Integer> changed = new HashSet<>();
+		for (Map.Entry<Integer, RegionEntry> entry : regions.entrySet())
+		{
+			if (!entry.getValue().equals(previous.regions.get(entry.getKey())))
+			{
+				changed.add(entry.getKey());
+			}
+		}
+		for (Integer regionId : previous.regions.keySet())
+		{
+			if (!regions.containsKey(regionId))
+			{
+				changed.add(regionId);
+			}
+		}
+
+		Set<Integer> changedUnderlays = changedDefinitions(underlays, previous.underlays);
+		Set<Integer> changedOverlays = changedDefinitions(overlays, previous.overlays);
+		Set<Integer> changedObjects = changedDefinitions(objects, previous.objects);
+
+		for (Region region : regionLoader.getRegions())
+		{
+			if (!changed.contains(region.getRegionID())
+				&& (usesGround(region, changedUnderlays, changedOverlays) || usesObject(region, changedObjects)))
+			{
+				changed.add(region.getRegionID());
+			}
+		}
+
+		Set<Integer> dirty = new HashSet<>();
+		for (int regionId : changed)
+		{
+			int x = regionId >> 8;
+			int y = regionId & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					dirty.add((x + dx) << 8 | (y + dy));
+				}
+			}
+		}
+
+		log.debug("{} regions changed, {} with neighbors, {} underlays, {} overlays, {} objects changed",
+			changed.size(), dirty.size(), changedUnderlays.size(), changedOverlays.size(), changedObjects.size());
+
+		return dirty;
+	}
+
+	private static Set<Integer> changedDefinitions(Map<Integer, Integer> current, Map<Integer, Integer> previous)
+	{
+		Set<Integer> changed = new HashSet<>();
+		for (Map.Entry<Integer, Integer> entry : current.entrySet())
+		{
+			if (!Objects.equals(entry.getValue(), previous.get(entry.getKey())))
+			{
+				changed.add(entry.getKey());
+			}
+		}
+		for (Integer id : previous.keySet())
+		{
+			if (!current.containsKey(id))
+			{
+				changed.add(id);
+			}
+		}
+		return changed;
+	}
+
+	private static boolean usesGround(Region region, Set<Integer> changedUnderlays, Set<Integer> changedOverlays)
+	{
+		if (changedUnderlays.isEmpty() && changedOverlays.isEmpty())
+		{
+			return false;
+		}
+
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					// ids are stored off by one, with 0 being none
+					int underlayId = region.getUnderlayId(z, x, y);
+					int overlayId = region.getOverlayId(z, x, y);
+					if ((underlayId > 0 && changedUnderlays.contains(underlayId - 1))
+						|| (overlayId > 0 && changedOverlays.contains(overlayId - 1)))
+					{
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean usesObject(Region region, Set<Integer> changedObjects)
+	{
+		if (changedObjects.isEmpty())
+		{
+			return false;
+		}
+
+		for (Location location : region.getLocations())
+		{
+			if (changedObjects.contains(location.getId()))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes map tiles as a z/x/y png pyramid. Full resolution tiles are written at the highest
+ * zoom level as they are rendered, and each lower zoom level is then built by downsampling
+ * the level above it, reading back only the four tiles needed for each tile written. Only
+ * the tiles above tiles written or removed through this writer are rebuilt.
+ */
+@Slf4j
+public class MapTileWriter implements MapImageDumper.TileConsumer
+{
+	private final File directory;
+	private final int maxZoom;
+	private final Set<Integer> changedTiles = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param directory directory to write the z/x/y tiles to
+	 * @param maxZoom zoom level of the full resolution tiles
+	 */
+	public MapTileWriter(File directory, int maxZoom)
+	{
+		this.directory = directory;
+		this.maxZoom = maxZoom;
+	}
+
+	@Override
+	public void accept(int tileX, int tileY, BufferedImage image) throws IOException
+	{
+		write(maxZoom, tileX, tileY, image);
+		changedTiles.add(tileX << 16 | tileY);
+	}
+
+	@Override
+	public void remove(int tileX, int tileY) throws IOException
+	{
+		delete(maxZoom, tileX, tileY);
+		changedTiles.add(tileX << 16 | tileY);
+	}
+
+	/**
+	 * Build the zoom levels below the full resolution tiles, down to a single tile at zoom 0.
+	 *
+	 * @param executor executor to downsample tiles on
+	 * @param transparency whether tiles have an alpha channel
+	 * @throws IOException
+	 */
+	public void writeZoomLevels(Executor executor, boolean transparency) throws IOException
+	{
+		Set<Integer> changed = new HashSet<>(changedTiles);
+		for (int zoom = maxZoom - 1; zoom >= 0; --zoom)
+		{
+			int z = zoom;
+
+			Set<Integer> parents = new HashSet<>();
+			for (int tile : changed)
+			{
+				parents.add((tile >>> 17) << 16 | (tile & 0xFFFF) >>> 1);
+			}
+			changed = parents;
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>(parents.size());
+			for (int tile : parents)
+			{
+				int tileX = tile >>> 16;
+				int tileY = tile & 0xFFFF;
+				futures.add(CompletableFuture.runAsync(() ->
+				{
+					try
+					{
+						downsample(z, tileX, tileY, transparency);
+					}
+					catch (IOException ex)
+					{
+						throw new UncheckedIOException(ex);
+					}
+				}, executor));
+			}
+
+			try
+			{
+				CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+			}
+			catch (CompletionException ex)
+			{
+				if (ex.getCause() instanceof UncheckedIOException)
+				{
+					throw ((UncheckedIOException) ex.getCause()).getCause();
+				}
+				throw ex;
+			}
+
+			log.debug("Wrote {} tiles for zoom level {}", parents.size(), zoom);
+		}
+	}
+
+	private void downsample(int zoom, int tileX, int tileY, boolean transparency) throws IOException
+	{
+		BufferedImage image = null;
+		Graphics2D graphics = null;
+
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				File file = tileFile(zoom + 1, tileX * 2 + dx, tileY * 2 + dy);
+				if (!file.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(file);
+				if (image == null)
+				{
+					image = new BufferedImage(child.getWidth(), child.getHeight(), transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+					graphics = image.createGraphics();
+					graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				}
+
+				int w = image.getWidth() / 2;
+				int h = image.getHeight() / 2;
+				graphics.drawImage(child, dx * w, dy * h, w, h, null);
+			}
+		}
+
+		if (image != null)
+		{
+			graphics.dispose();
+			write(zoom, tileX, tileY, image);
+		}
+		else
+		{
+			delete(zoom, tileX, tileY);
+		}
+	}
+
+	private void write(int zoom, int tileX, int tileY, BufferedImage image) throws IOException
+	{
+		File file = tileFile(zoom, tileX, tileY);
+		file.getParentFile().mkdirs();
+		ImageIO.write(image, "png", file);
+	}
+
+	private void delete(int zoom, int tileX, int tileY) throws IOException
+	{
+		Files.deleteIfExists(tileFile(zoom, tileX, tileY).toPath());
+	}
+
+	private File tileFile(int zoom, int tileX, int tileY)
+	{
+		return new File(directory, zoom + File.separator + tileX + File.separator + tileY + ".png");
+	}
+}
@@ -37,9 +37,7 @@ import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
-import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Djb2;
 
@@ -56,22 +54,18 @@ public class SpriteManager implements SpriteProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
-		for (Archive a : index.getArchives())
-		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
-
-			SpriteLoader loader = new SpriteLoader();
-			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
-
-			for (SpriteDefinition sprite : defs)
+		store.loadArchives(index.getArchives(), null,
+			(a, files) -> new SpriteLoader().load(a.getArchiveId(), files.findFile(0).getContents()),
+			(a, defs) ->
 			{
-				sprites.put(sprite.getId(), sprite);
-				spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
-			}
-		}
+				for (SpriteDefinition sprite : defs)
+				{
+					sprites.put(sprite.getId(), sprite);
+					spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
+				}
+			});
 	}
 
 	public Collection<SpriteDefinition> getSprites()
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A column of a {@link DBTable}. Each row of a column holds any number of
+ * tuples, and each tuple has one field per column type. The tuples of all rows
+ * are stored back to back, with one array per field.
+ */
+public class DBColumn
+{
+	private static final int[] NO_ROWS = new int[0];
+
+	private final DBTable table;
+	private final int columnId;
+	private final ScriptVarType[] types;
+	// the tuples of row i are offsets[i] until offsets[i + 1]
+	private final int[] offsets;
+	private final int[][] fields;
+	// per field, the sorted keys of the cache index and the sorted rows holding each key
+	private final int[][] indexKeys;
+	private final int[][][] indexRows;
+
+	DBColumn(DBTable table, int columnId, ScriptVarType[] types, int[] offsets, int[][] fields)
+	{
+		this.table = table;
+		this.columnId = columnId;
+		this.types = types;
+		this.offsets = offsets;
+		this.fields = fields;
+		this.indexKeys = new int[types.length][];
+		this.indexRows = new int[types.length][][];
+	}
+
+	void setIndex(int field, int[] keys, int[][] rows)
+	{
+		Integer[] order = new Integer[keys.length];
+		for (int i = 0; i < order.length; ++i)
+		{
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(keys[a], keys[b]));
+
+		int[] sortedKeys = new int[keys.length];
+		int[][] sortedRows = new int[keys.length][];
+		for (int i = 0; i < order.length; ++i)
+		{
+			sortedKeys[i] = keys[order[i]];
+			sortedRows[i] = rows[order[i]];
+		}
+		indexKeys[field] = sortedKeys;
+		indexRows[field] = sortedRows;
+	}
+
+	public int getColumnId()
+	{
+		return columnId;
+	}
+
+	public ScriptVarType[] getTypes()
+	{
+		return types.clone();
+	}
+
+	public boolean isString(int field)
+	{
+		return types[field] == ScriptVarType.STRING;
+	}
+
+	/**
+	 * Whether lookups on a field are answered by the cache index instead of a scan.
+	 */
+	public boolean isIndexed(int field)
+	{
+		return indexKeys[field] != null;
+	}
+
+	public int getTupleCount(int row)
+	{
+		return offsets[row + 1] - offsets[row];
+	}
+
+	public int getInt(int row, int tuple, int field)
+	{
+		return fields[field][tuple(row, tuple)];
+	}
+
+	public String getString(int row, int tuple, int field)
+	{
+		return table.string(fields[field][tuple(row, tuple)]);
+	}
+
+	/**
+	 * Gets a field of a row as a boxed value, {@link Integer} or {@link String}.
+	 */
+	public Object getValue(int row, int tuple, int field)
+	{
+		return isString(field) ? getString(row, tuple, field) : getInt(row, tuple, field);
+	}
+
+	private int tuple(int row, int tuple)
+	{
+		if (tuple < 0 || tuple >= getTupleCount(row))
+		{
+			throw new IndexOutOfBoundsException("tuple " + tuple + " of row " + table.getRowId(row) + " column " + columnId);
+		}
+		return offsets[row] + tuple;
+	}
+
+	/**
+	 * Gets the raw value of a field of the first tuple of a row, which is a string code for string fields.
+	 */
+	int first(int row, int field)
+	{
+		return fields[field][offsets[row]];
+	}
+
+	/**
+	 * Whether any tuple of a row has the raw value in a field.
+	 */
+	boolean contains(int row, int field, int value)
+	{
+		int[] values = fields[field];
+		for (int i = offsets[row], end = offsets[row + 1]; i < end; ++i)
+		{
+			if (values[i] == value)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean anyMatch(int row, int field, IntPredicate predicate)
+	{
+		int[] values = fields[field];
+		for (int i = offsets[row], end = offsets[row + 1]; i < end; ++i)
+		{
+			if (predicate.test(values[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the sorted rows with the raw value in a field from the cache index.
+	 */
+	int[] lookup(int field, int value)
+	{
+		int i = Arrays.binarySearch(indexKeys[field], value);
+		return i >= 0 ? indexRows[field][i] : NO_ROWS;
+	}
+}
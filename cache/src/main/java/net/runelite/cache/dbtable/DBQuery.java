@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A selection of rows of a {@link DBTable}. Filters narrow the selection in
+ * place and return the query, so they can be chained:
+ * <pre>
+ * int[] rows = table.query()
+ *     .where(NAME_COLUMN, "Goblin")
+ *     .sortBy(LEVEL_COLUMN, 0)
+ *     .rowIds();
+ * </pre>
+ * A row matches a filter on a field if any of its tuples in the column does.
+ */
+public class DBQuery
+{
+	private final DBTable table;
+	private int[] rows;
+	private int size;
+	// whether rows are in table order, so they can be intersected with the index
+	private boolean ordered;
+
+	DBQuery(DBTable table, int[] rows, boolean ordered)
+	{
+		this.table = table;
+		this.rows = rows;
+		this.size = rows.length;
+		this.ordered = ordered;
+	}
+
+	public DBTable getTable()
+	{
+		return table;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Selects the rows with a value in the first field of a column.
+	 */
+	public DBQuery where(int columnId, int value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	/**
+	 * Selects the rows with a value in a field of a column.
+	 */
+	public DBQuery where(int columnId, int field, int value)
+	{
+		DBColumn column = column(columnId);
+		if (column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is a string");
+		}
+		return whereRaw(column, field, value);
+	}
+
+	/**
+	 * Selects the rows with a string in the first field of a column.
+	 */
+	public DBQuery where(int columnId, String value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	/**
+	 * Selects the rows with a string in a field of a column.
+	 */
+	public DBQuery where(int columnId, int field, String value)
+	{
+		DBColumn column = column(columnId);
+		if (!column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is not a string");
+		}
+
+		int code = table.code(value);
+		if (code == -1)
+		{
+			size = 0;
+			return this;
+		}
+		return whereRaw(column, field, code);
+	}
+
+	private DBQuery whereRaw(DBColumn column, int field, int value)
+	{
+		if (!column.isIndexed(field))
+		{
+			int count = 0;
+			for (int i = 0; i < size; ++i)
+			{
+				if (column.contains(rows[i], field, value))
+				{
+					rows[count++] = rows[i];
+				}
+			}
+			size = count;
+			return this;
+		}
+
+		int[] matches = column.lookup(field, value);
+		if (!ordered)
+		{
+			int count = 0;
+			for (int i = 0; i < size; ++i)
+			{
+				if (Arrays.binarySearch(matches, rows[i]) >= 0)
+				{
+					rows[count++] = rows[i];
+				}
+			}
+			size = count;
+			return this;
+		}
+
+		// both are sorted, merge them
+		int count = 0;
+		for (int i = 0, j = 0; i < size && j < matches.length; )
+		{
+			if (rows[i] < matches[j])
+			{
+				++i;
+			}
+			else if (rows[i] > matches[j])
+			{
+				++j;
+			}
+			else
+			{
+				rows[count++] = rows[i++];
+				++j;
+			}
+		}
+		size = count;
+		return this;
+	}
+
+	/**
+	 * Selects the rows with an integer field matching a predicate.
+	 */
+	public DBQuery filter(int columnId, int field, IntPredicate predicate)
+	{
+		DBColumn column = column(columnId);
+		if (column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is a string");
+		}
+		return filterRaw(column, field, predicate);
+	}
+
+	private DBQuery filterRaw(DBColumn column, int field, IntPredicate predicate)
+	{
+		int count = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			if (column.anyMatch(rows[i], field, predicate))
+			{
+				rows[count++] = rows[i];
+			}
+		}
+		size = count;
+		return this;
+	}
+
+	/**
+	 * Selects the rows with a string field matching a predicate. The predicate
+	 * is tested once per distinct string of the table rather than once per row.
+	 */
+	public DBQuery filterString(int columnId, int field, Predicate<String> predicate)
+	{
+		DBColumn column = column(columnId);
+		if (!column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is not a string");
+		}
+
+		// 0 = untested, 1 = match, 2 = no match
+		byte[] results = new byte[table.getStringCount()];
+		return filterRaw(column, field, code ->
+		{
+			if (results[code] == 0)
+			{
+				results[code] = predicate.test(table.string(code)) ? (byte) 1 : (byte) 2;
+			}
+			return results[code] == 1;
+		});
+	}
+
+	/**
+	 * Sorts the selection by the first tuple of a column, in ascending order. Rows
+	 * with equal values keep their order, and rows without a tuple are placed last.
+	 */
+	public DBQuery sortBy(int columnId, int field)
+	{
+		DBColumn column = column(columnId);
+		int[] ranks = column.isString(field) ? table.stringRanks() : null;
+
+		// pack the value and the position in the selection, so the sort is stable
+		long[] keys = new long[size];
+		int count = 0;
+		int[] empty = new int[size];
+		int emptyCount = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			int row = rows[i];
+			if (column.getTupleCount(row) == 0)
+			{
+				empty[emptyCount++] = row;
+				continue;
+			}
+
+			int value = column.first(row, field);
+			if (ranks != null)
+			{
+				value = ranks[value];
+			}
+			keys[count++] = (long) value << 32 | i;
+		}
+		Arrays.sort(keys, 0, count);
+
+		int[] sorted = new int[size];
+		for (int i = 0; i < count; ++i)
+		{
+			sorted[i] = rows[(int) keys[i]];
+		}
+		System.arraycopy(empty, 0, sorted, count, emptyCount);
+		rows = sorted;
+		ordered = false;
+		return this;
+	}
+
+	/**
+	 * Keeps at most the first limit rows of the selection.
+	 */
+	public DBQuery limit(int limit)
+	{
+		size = Math.min(size, limit);
+		return this;
+	}
+
+	/**
+	 * Gets the positions of the selected rows in the table.
+	 */
+	public int[] rows()
+	{
+		return Arrays.copyOf(rows, size);
+	}
+
+	/**
+	 * Gets the ids of the selected rows.
+	 */
+	public int[] rowIds()
+	{
+		int[] ids = new int[size];
+		for (int i = 0; i < size; ++i)
+		{
+			ids[i] = table.getRowId(rows[i]);
+		}
+		return ids;
+	}
+
+	/**
+	 * Gets an integer field of the first tuple of a column for each selected row.
+	 *
+	 * @return the values, with -1 for rows without a tuple
+	 */
+	public int[] ints(int columnId, int field)
+	{
+		DBColumn column = column(columnId);
+		if (column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is a string");
+		}
+
+		int[] values = new int[size];
+		for (int i = 0; i < size; ++i)
+		{
+			values[i] = column.getTupleCount(rows[i]) > 0 ? column.first(rows[i], field) : -1;
+		}
+		return values;
+	}
+
+	/**
+	 * Gets a string field of the first tuple of a column for each selected row.
+	 *
+	 * @return the values, with null for rows without a tuple
+	 */
+	public String[] strings(int columnId, int field)
+	{
+		DBColumn column = column(columnId);
+		if (!column.isString(field))
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is not a string");
+		}
+
+		String[] values = new String[size];
+		for (int i = 0; i < size; ++i)
+		{
+			values[i] = column.getTupleCount(rows[i]) > 0 ? table.string(column.first(rows[i], field)) : null;
+		}
+		return values;
+	}
+
+	/**
+	 * Follows a dbrow field of the first tuple of a column into another table.
+	 * The rows of the other table are selected in the order they are referenced,
+	 * skipping references to rows which are not in the other table.
+	 *
+	 * @param columnId the column holding the row references
+	 * @param field the field of the column holding the row references
+	 * @param other the table being referenced
+	 * @return a query selecting the referenced rows of the other table
+	 */
+	public DBQuery join(int columnId, int field, DBTable other)
+	{
+		DBColumn column = column(columnId);
+		if (column.getTypes()[field] != ScriptVarType.DBROW)
+		{
+			throw new IllegalArgumentException("field " + field + " of column " + columnId + " is not a dbrow");
+		}
+
+		int[] joined = new int[size];
+		int count = 0;
+		boolean joinedOrdered = true;
+		for (int i = 0; i < size; ++i)
+		{
+			if (column.getTupleCount(rows[i]) == 0)
+			{
+				continue;
+			}
+
+			int row = other.indexOf(column.first(rows[i], field));
+			if (row != -1)
+			{
+				joinedOrdered &= count == 0 || joined[count - 1] < row;
+				joined[count++] = row;
+			}
+		}
+		return new DBQuery(other, Arrays.copyOf(joined, count), joinedOrdered);
+	}
+
+	private DBColumn column(int columnId)
+	{
+		DBColumn column = table.getColumn(columnId);
+		if (column == null)
+		{
+			throw new IllegalArgumentException("table " + table.getId() + " has no column " + columnId);
+		}
+		return column;
+	}
+}
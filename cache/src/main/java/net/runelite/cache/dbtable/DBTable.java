@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.DBTableIndexManager;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A db table stored by column. Rows are ordered by row id and addressed by
+ * their position in that order. Integer fields are stored as primitive arrays,
+ * and string fields as codes into a dictionary shared by the whole table.
+ */
+public class DBTable
+{
+	private final int id;
+	private final int[] rowIds;
+	private final DBColumn[] columns;
+	private String[] strings;
+	private Map<String, Integer> stringCodes;
+	private int[] stringRanks;
+
+	private DBTable(int id, int[] rowIds, int columnCount)
+	{
+		this.id = id;
+		this.rowIds = rowIds;
+		this.columns = new DBColumn[columnCount];
+	}
+
+	/**
+	 * Builds a table from its decoded definitions.
+	 *
+	 * @param def the table definition
+	 * @param rows the rows of the table, rows of other tables are ignored
+	 * @param indexes the column indexes used for lookups, or null to always scan
+	 * @return the table
+	 */
+	public static DBTable build(DBTableDefinition def, Collection<DBRowDefinition> rows, DBTableIndexManager indexes)
+	{
+		List<DBRowDefinition> tableRows = new ArrayList<>();
+		for (DBRowDefinition row : rows)
+		{
+			if (row.getTableId() == def.getId())
+			{
+				tableRows.add(row);
+			}
+		}
+		tableRows.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+
+		int[] rowIds = new int[tableRows.size()];
+		for (int i = 0; i < rowIds.length; ++i)
+		{
+			rowIds[i] = tableRows.get(i).getId();
+		}
+
+		ScriptVarType[][] types = def.getTypes() != null ? def.getTypes() : new ScriptVarType[0][];
+		Object[] defaults = def.getDefaultColumnValues();
+		DBTable table = new DBTable(def.getId(), rowIds, types.length);
+		table.stringCodes = new HashMap<>();
+
+		for (int columnId = 0; columnId < types.length; ++columnId)
+		{
+			if (types[columnId] == null)
+			{
+				continue;
+			}
+
+			Object[] defaultValues = defaults != null ? (Object[]) defaults[columnId] : null;
+			DBColumn column = table.buildColumn(columnId, types[columnId], tableRows, defaultValues);
+			if (indexes != null)
+			{
+				table.buildIndex(column, indexes.get(def.getId(), columnId));
+			}
+			table.columns[columnId] = column;
+		}
+
+		table.strings = new String[table.stringCodes.size()];
+		for (Map.Entry<String, Integer> entry : table.stringCodes.entrySet())
+		{
+			table.strings[entry.getValue()] = entry.getKey();
+		}
+		return table;
+	}
+
+	private DBColumn buildColumn(int columnId, ScriptVarType[] types, List<DBRowDefinition> rows, Object[] defaultValues)
+	{
+		Object[][] values = new Object[rows.size()][];
+		int[] offsets = new int[rows.size() + 1];
+		for (int i = 0; i < values.length; ++i)
+		{
+			Object[][] columnValues = rows.get(i).getColumnValues();
+			Object[] rowValues = columnValues != null && columnId < columnValues.length ? columnValues[columnId] : null;
+			values[i] = rowValues != null ? rowValues : defaultValues;
+			offsets[i + 1] = offsets[i] + (values[i] != null ? values[i].length / types.length : 0);
+		}
+
+		int[][] fields = new int[types.length][offsets[values.length]];
+		for (int i = 0; i < values.length; ++i)
+		{
+			for (int tuple = 0; tuple < offsets[i + 1] - offsets[i]; ++tuple)
+			{
+				for (int field = 0; field < types.length; ++field)
+				{
+					Object value = values[i][tuple * types.length + field];
+					fields[field][offsets[i] + tuple] = types[field] == ScriptVarType.STRING ? encode((String) value) : (Integer) value;
+				}
+			}
+		}
+
+		return new DBColumn(this, columnId, types, offsets, fields);
+	}
+
+	private void buildIndex(DBColumn column, DBTableIndex index)
+	{
+		if (index == null || index.getTupleIndexes() == null)
+		{
+			return;
+		}
+
+		List<Map<Object, List<Integer>>> tupleIndexes = index.getTupleIndexes();
+		for (int field = 0; field < tupleIndexes.size() && field < column.getTypes().length; ++field)
+		{
+			Map<Object, List<Integer>> valueToRows = tupleIndexes.get(field);
+			int[] keys = new int[valueToRows.size()];
+			int[][] postings = new int[valueToRows.size()][];
+			int count = 0;
+
+			for (Map.Entry<Object, List<Integer>> entry : valueToRows.entrySet())
+			{
+				Object key = entry.getKey();
+				if (key instanceof String)
+				{
+					keys[count] = encode((String) key);
+				}
+				else if (key instanceof Integer)
+				{
+					keys[count] = (Integer) key;
+				}
+				else
+				{
+					// rows are only ever decoded with integer and string fields, so nothing can match
+					continue;
+				}
+
+				List<Integer> rowIds = entry.getValue();
+				int[] rows = new int[rowIds.size()];
+				int rowCount = 0;
+				for (int rowId : rowIds)
+				{
+					int row = indexOf(rowId);
+					if (row != -1)
+					{
+						rows[rowCount++] = row;
+					}
+				}
+				rows = Arrays.copyOf(rows, rowCount);
+				Arrays.sort(rows);
+				postings[count++] = rows;
+			}
+
+			column.setIndex(field, Arrays.copyOf(keys, count), Arrays.copyOf(postings, count));
+		}
+	}
+
+	private int encode(String value)
+	{
+		return stringCodes.computeIfAbsent(value, k -> stringCodes.size());
+	}
+
+	public int getId()
+	{
+		return id;
+	}
+
+	public int getRowCount()
+	{
+		return rowIds.length;
+	}
+
+	public int getColumnCount()
+	{
+		return columns.length;
+	}
+
+	/**
+	 * Gets a column of the table.
+	 *
+	 * @param columnId the column id
+	 * @return the column, or null if the table has no such column
+	 */
+	public DBColumn getColumn(int columnId)
+	{
+		return columnId >= 0 && columnId < columns.length ? columns[columnId] : null;
+	}
+
+	/**
+	 * Gets the id of the row at a position.
+	 */
+	public int getRowId(int row)
+	{
+		return rowIds[row];
+	}
+
+	/**
+	 * Gets the position of a row.
+	 *
+	 * @param rowId the row id
+	 * @return the position of the row, or -1 if it is not in this table
+	 */
+	public int indexOf(int rowId)
+	{
+		int row = Arrays.binarySearch(rowIds, rowId);
+		return row >= 0 ? row : -1;
+	}
+
+	/**
+	 * Starts a query selecting every row of the table, in row id order.
+	 */
+	public DBQuery query()
+	{
+		int[] rows = new int[rowIds.length];
+		for (int i = 0; i < rows.length; ++i)
+		{
+			rows[i] = i;
+		}
+		return new DBQuery(this, rows, true);
+	}
+
+	/**
+	 * Gets the number of distinct strings in the table.
+	 */
+	public int getStringCount()
+	{
+		return strings.length;
+	}
+
+	String string(int code)
+	{
+		return strings[code];
+	}
+
+	/**
+	 * Gets the code of a string, or -1 if no field of this table has the value.
+	 */
+	int code(String value)
+	{
+		Integer code = stringCodes.get(value);
+		return code != null ? code : -1;
+	}
+
+	/**
+	 * Gets the rank of each string code in the natural string order, for sorting by string fields.
+	 */
+	synchronized int[] stringRanks()
+	{
+		if (stringRanks == null)
+		{
+			Integer[] codes = new Integer[strings.length];
+			for (int i = 0; i < codes.length; ++i)
+			{
+				codes[i] = i;
+			}
+			Arrays.sort(codes, (a, b) -> strings[a].compareTo(strings[b]));
+
+			int[] ranks = new int[strings.length];
+			for (int i = 0; i < codes.length; ++i)
+			{
+				ranks[codes[i]] = i;
+			}
+			stringRanks = ranks;
+		}
+		return stringRanks;
+	}
+}
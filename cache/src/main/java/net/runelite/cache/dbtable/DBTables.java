@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.DBRowManager;
+import net.runelite.cache.DBTableIndexManager;
+import net.runelite.cache.DBTableManager;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Loads every db table of a cache into columnar {@link DBTable}s.
+ */
+public class DBTables
+{
+	private final Store store;
+	private final Map<Integer, DBTable> tables = new HashMap<>();
+
+	public DBTables(Store store)
+	{
+		this.store = store;
+	}
+
+	public void load() throws IOException
+	{
+		DBTableManager tableManager = new DBTableManager(store);
+		tableManager.load();
+		DBRowManager rowManager = new DBRowManager(store);
+		rowManager.load();
+		DBTableIndexManager indexManager = new DBTableIndexManager(store);
+		indexManager.load();
+
+		Map<Integer, List<DBRowDefinition>> rowsByTable = new HashMap<>();
+		for (DBRowDefinition row : rowManager.getRows())
+		{
+			rowsByTable.computeIfAbsent(row.getTableId(), k -> new ArrayList<>()).add(row);
+		}
+
+		for (DBTableDefinition def : tableManager.getTables())
+		{
+			List<DBRowDefinition> rows = rowsByTable.getOrDefault(def.getId(), Collections.emptyList());
+			tables.put(def.getId(), DBTable.build(def, rows, indexManager));
+		}
+	}
+
+	public Collection<DBTable> getTables()
+	{
+		return Collections.unmodifiableCollection(tables.values());
+	}
+
+	public DBTable get(int tableId)
+	{
+		return tables.get(tableId);
+	}
+}
@@ -7,7 +7,7 @@ import net.runelite.cache.models.FaceNormal;
 import net.runelite.cache.models.VertexNormal;
 
 @Data
-public class ModelDefinition
+public class ModelDefinition implements Cloneable
 {
 	public int id;
 
@@ -56,6 +56,21 @@ public class ModelDefinition
 
 	public static transient int animOffsetX, animOffsetY, animOffsetZ;
 
+	/**
+	 * Create a copy of this model which shares its arrays
+	 */
+	public ModelDefinition shallowCopy()
+	{
+		try
+		{
+			return (ModelDefinition) super.clone();
+		}
+		catch (CloneNotSupportedException ex)
+		{
+			throw new AssertionError(ex);
+		}
+	}
+
 	public void computeNormals()
 	{
 		if (this.vertexNormals != null)
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+
+/**
+ * Exports all definitions of a type to a single newline delimited JSON file, one definition
+ * per line in id order, and optionally a tab separated summary of a few fields of each
+ * definition, for diffing between cache revisions. Definitions are serialized in chunks
+ * in parallel, and the chunks are written in order.
+ */
+public class BulkDefinitionExporter<T>
+{
+	private static final Gson GSON = new Gson();
+
+	private static final int CHUNK_SIZE = 512;
+
+	private final ToIntFunction<T> id;
+	private final Map<String, Function<T, Object>> columns = new LinkedHashMap<>();
+
+	public BulkDefinitionExporter(ToIntFunction<T> id)
+	{
+		this.id = id;
+	}
+
+	public static BulkDefinitionExporter<ItemDefinition> items()
+	{
+		return new BulkDefinitionExporter<ItemDefinition>(item -> item.id)
+			.column("name", item -> item.name)
+			.column("cost", item -> item.cost)
+			.column("members", item -> item.members)
+			.column("stackable", item -> item.stackable)
+			.column("notedID", item -> item.notedID)
+			.column("inventoryModel", item -> item.inventoryModel);
+	}
+
+	public static BulkDefinitionExporter<NpcDefinition> npcs()
+	{
+		return new BulkDefinitionExporter<NpcDefinition>(npc -> npc.id)
+			.column("name", npc -> npc.name)
+			.column("combatLevel", npc -> npc.combatLevel)
+			.column("size", npc -> npc.size)
+			.column("models", npc -> npc.models);
+	}
+
+	public static BulkDefinitionExporter<ObjectDefinition> objects()
+	{
+		return new BulkDefinitionExporter<ObjectDefinition>(ObjectDefinition::getId)
+			.column("name", ObjectDefinition::getName)
+			.column("sizeX", ObjectDefinition::getSizeX)
+			.column("sizeY", ObjectDefinition::getSizeY)
+			.column("interactType", ObjectDefinition::getInteractType)
+			.column("objectModels", ObjectDefinition::getObjectModels);
+	}
+
+	/**
+	 * Add a column to the summary. The id is always the first column.
+	 */
+	public BulkDefinitionExporter<T> column(String name, Function<T, Object> value)
+	{
+		columns.put(name, value);
+		return this;
+	}
+
+	/**
+	 * Export definitions, serializing them on the common fork join pool
+	 *
+	 * @param definitions definitions to export
+	 * @param out file to write the definitions to
+	 * @param summary file to write the summary to, or null for no summary
+	 * @throws IOException
+	 */
+	public void export(Collection<T> definitions, File out, File summary) throws IOException
+	{
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		export(definitions, out, summary, pool, pool.getParallelism() * 2);
+	}
+
+	/**
+	 * @param definitions definitions to export
+	 * @param out file to write the definitions to
+	 * @param summary file to write the summary to, or null for no summary
+	 * @param executor executor to serialize definitions on
+	 * @param maxInFlight maximum number of chunks serialized but not yet written
+	 * @throws IOException
+	 */
+	public void export(Collection<T> definitions, File out, File summary, Executor executor, int maxInFlight) throws IOException
+	{
+		List<T> sorted = new ArrayList<>(definitions);
+		sorted.sort(Comparator.comparingInt(id));
+
+		try (FileChannel outChannel = open(out);
+			FileChannel summaryChannel = summary != null ? open(summary) : null)
+		{
+			if (summaryChannel != null)
+			{
+				write(summaryChannel, header());
+			}
+
+			Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>(maxInFlight);
+			int next = 0;
+			while (next < sorted.size() || !pending.isEmpty())
+			{
+				while (next < sorted.size() && pending.size() < maxInFlight)
+				{
+					List<T> chunk = sorted.subList(next, Math.min(next + CHUNK_SIZE, sorted.size()));
+					pending.add(CompletableFuture.supplyAsync(() -> serialize(chunk, summaryChannel != null), executor));
+					next += chunk.size();
+				}
+
+				Chunk chunk = await(pending.poll());
+				write(outChannel, chunk.json);
+				if (summaryChannel != null)
+				{
+					write(summaryChannel, chunk.summary);
+				}
+			}
+		}
+	}
+
+	private Chunk serialize(List<T> definitions, boolean summarize)
+	{
+		StringBuilder json = new StringBuilder(definitions.size() * 512);
+		StringBuilder summary = summarize ? new StringBuilder(definitions.size() * 64) : null;
+		for (T definition : definitions)
+		{
+			GSON.toJson(definition, json);
+			json.append('\n');
+
+			if (summarize)
+			{
+				summary.append(id.applyAsInt(definition));
+				for (Function<T, Object> column : columns.values())
+				{
+					summary.append('\t').append(format(column.apply(definition)));
+				}
+				summary.append('\n');
+			}
+		}
+
+		return new Chunk(
+			json.toString().getBytes(StandardCharsets.UTF_8),
+			summarize ? summary.toString().getBytes(StandardCharsets.UTF_8) : null);
+	}
+
+	private byte[] header()
+	{
+		StringBuilder sb = new StringBuilder("id");
+		for (String name : columns.keySet())
+		{
+			sb.append('\t').append(name);
+		}
+		return sb.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String format(Object value)
+	{
+		if (value == null)
+		{
+			return "";
+		}
+		if (value instanceof int[])
+		{
+			return Arrays.toString((int[]) value);
+		}
+		// keep each definition on its own line
+		return value.toString().replace('\t', ' ').replace('\n', ' ');
+	}
+
+	private static FileChannel open(File file) throws IOException
+	{
+		return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+	}
+
+	private static void write(FileChannel channel, byte[] data) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		while (buf.hasRemaining())
+		{
+			channel.write(buf);
+		}
+	}
+
+	private static Chunk await(CompletableFuture<Chunk> future)
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw ex;
+		}
+	}
+
+	private static class Chunk
+	{
+		private final byte[] json;
+		private final byte[] summary;
+
+		private Chunk(byte[] json, byte[] summary)
+		{
+			this.json = json;
+			this.summary = summary;
+		}
+	}
+}
@@ -33,21 +33,20 @@ import net.runelite.cache.definitions.ItemDefinition;
 
 public class ItemExporter
 {
+	private static final Gson GSON = new GsonBuilder()
+		.setPrettyPrinting()
+		.create();
+
 	private final ItemDefinition item;
-	private final Gson gson;
 
 	public ItemExporter(ItemDefinition item)
 	{
 		this.item = item;
-
-		GsonBuilder builder = new GsonBuilder()
-			.setPrettyPrinting();
-		gson = builder.create();
 	}
 
 	public String export()
 	{
-		return gson.toJson(item);
+		return GSON.toJson(item);
 	}
 
 	public void exportTo(File file) throws IOException
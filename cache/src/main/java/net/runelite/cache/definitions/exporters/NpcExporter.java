@@ -33,21 +33,20 @@ import net.runelite.cache.definitions.NpcDefinition;
 
 public class NpcExporter
 {
+	private static final Gson GSON = new GsonBuilder()
+		.setPrettyPrinting()
+		.create();
+
 	private final NpcDefinition npc;
-	private final Gson gson;
 
 	public NpcExporter(NpcDefinition npc)
 	{
 		this.npc = npc;
-
-		GsonBuilder builder = new GsonBuilder()
-			.setPrettyPrinting();
-		gson = builder.create();
 	}
 
 	public String export()
 	{
-		return gson.toJson(npc);
+		return GSON.toJson(npc);
 	}
 
 	public void exportTo(File file) throws IOException
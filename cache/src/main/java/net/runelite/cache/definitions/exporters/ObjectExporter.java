@@ -33,21 +33,20 @@ import net.runelite.cache.definitions.ObjectDefinition;
 
 public class ObjectExporter
 {
+	private static final Gson GSON = new GsonBuilder()
+		.setPrettyPrinting()
+		.create();
+
 	private final ObjectDefinition object;
-	private final Gson gson;
 
 	public ObjectExporter(ObjectDefinition object)
 	{
 		this.object = object;
-
-		GsonBuilder builder = new GsonBuilder()
-			.setPrettyPrinting();
-		gson = builder.create();
 	}
 
 	public String export()
 	{
-		return gson.toJson(object);
+		return GSON.toJson(object);
 	}
 
 	public void exportTo(File file) throws IOException
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -43,7 +44,6 @@ public class Archive
 	@Getter
 	private final int archiveId;
 	@Getter
-	@Setter
 	private int nameHash;
 	@Getter
 	@Setter
@@ -70,6 +70,16 @@ public class Archive
 		this.archiveId = id;
 	}
 
+	public void setNameHash(int nameHash)
+	{
+		int oldNameHash = this.nameHash;
+		this.nameHash = nameHash;
+		if (oldNameHash != nameHash)
+		{
+			index.archiveRenamed(this, oldNameHash);
+		}
+	}
+
 	public byte[] decompress(byte[] data) throws IOException
 	{
 		return decompress(data, null);
@@ -82,7 +92,20 @@ public class Archive
 			return null;
 		}
 
-		Container container = Container.decompress(data, keys);
+		return decompress(Container.decompress(data, keys));
+	}
+
+	/**
+	 * Decompress archive data read from the buffer's position to its limit.
+	 * Encrypted data is decrypted in place in the buffer.
+	 */
+	public byte[] decompress(ByteBuffer data, int[] keys) throws IOException
+	{
+		return decompress(Container.decompress(data, keys));
+	}
+
+	private byte[] decompress(Container container) throws IOException
+	{
 		byte[] decompressedData = container.data;
 
 		if (this.crc != container.crc)
@@ -115,8 +138,20 @@ public class Archive
 
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
 	{
-		byte[] decompressedData = decompress(data, keys);
+		return loadFiles(decompress(data, keys));
+	}
+
+	/**
+	 * Split archive data read from the buffer's position to its limit into its files.
+	 * Encrypted data is decrypted in place in the buffer.
+	 */
+	public ArchiveFiles getFiles(ByteBuffer data, int[] keys) throws IOException
+	{
+		return loadFiles(decompress(data, keys));
+	}
 
+	private ArchiveFiles loadFiles(byte[] decompressedData) throws IOException
+	{
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
 		{
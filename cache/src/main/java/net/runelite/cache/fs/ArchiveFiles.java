@@ -32,6 +32,7 @@ import java.util.LinkedHashMap;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.util.Djb2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +42,10 @@ public class ArchiveFiles
 	private static final Logger logger = LoggerFactory.getLogger(ArchiveFiles.class);
 
 	private final LinkedHashMap<Integer, FSFile> files = new LinkedHashMap<Integer, FSFile>();
+	/**
+	 * first file for each name hash, built on first lookup
+	 */
+	private NameHashTable<FSFile> filesByName;
 
 	public void addFile(FSFile file)
 	{
@@ -52,6 +57,7 @@ public class ArchiveFiles
 		}
 
 		files.put(file.getFileId(), file);
+		filesByName = null;
 	}
 
 	public Collection<FSFile> getFiles()
@@ -64,9 +70,33 @@ public class ArchiveFiles
 		return files.get(fileId);
 	}
 
+	public FSFile findFileByName(String name)
+	{
+		return findFileByNameHash(Djb2.hash(name));
+	}
+
+	public FSFile findFileByNameHash(int nameHash)
+	{
+		if (filesByName == null)
+		{
+			NameHashTable<FSFile> table = new NameHashTable<>(files.size());
+			for (FSFile file : files.values())
+			{
+				if (table.get(file.getNameHash()) == null)
+				{
+					table.put(file.getNameHash(), file);
+				}
+			}
+			filesByName = table;
+		}
+
+		return filesByName.get(nameHash);
+	}
+
 	public void clear()
 	{
 		files.clear();
+		filesByName = null;
 	}
 
 	public void loadContents(byte[] data)
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads, decrypts, decompresses and splits archives on an executor. At most
+ * {@code maxInFlight} archives are queued at a time, and results are handed
+ * to the consumer on the calling thread in the order of the input archives.
+ */
+class ArchivePipeline<T>
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchivePipeline.class);
+
+	private static final Object MISSING = new Object();
+
+	private final Storage storage;
+	private final Executor executor;
+	private final int maxInFlight;
+	private final Function<Archive, int[]> keys;
+	private final ArchiveDecoder<T> decoder;
+
+	ArchivePipeline(Storage storage, Executor executor, int maxInFlight, Function<Archive, int[]> keys, ArchiveDecoder<T> decoder)
+	{
+		assert maxInFlight > 0;
+
+		this.storage = storage;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.keys = keys;
+		this.decoder = decoder;
+	}
+
+	void run(Collection<Archive> archives, BiConsumer<Archive, T> consumer) throws IOException
+	{
+		Deque<Archive> pendingArchives = new ArrayDeque<>(maxInFlight);
+		Deque<CompletableFuture<Object>> pending = new ArrayDeque<>(maxInFlight);
+		Iterator<Archive> it = archives.iterator();
+
+		try
+		{
+			while (it.hasNext() || !pending.isEmpty())
+			{
+				while (it.hasNext() && pending.size() < maxInFlight)
+				{
+					Archive archive = it.next();
+					pendingArchives.add(archive);
+					pending.add(CompletableFuture.supplyAsync(() -> decode(archive), executor));
+				}
+
+				Archive archive = pendingArchives.poll();
+				Object result = await(pending.poll());
+				if (result != MISSING)
+				{
+					@SuppressWarnings("unchecked")
+					T t = (T) result;
+					consumer.accept(archive, t);
+				}
+			}
+		}
+		finally
+		{
+			for (CompletableFuture<Object> future : pending)
+			{
+				future.cancel(false);
+			}
+		}
+	}
+
+	private Object decode(Archive archive)
+	{
+		try
+		{
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				logger.debug("archive {}/{} is missing from storage", archive.getIndex().getId(), archive.getArchiveId());
+				return MISSING;
+			}
+
+			int[] k = keys != null ? keys.apply(archive) : null;
+			// storage may return the array it holds, so encrypted data is decrypted into a copy
+			ArchiveFiles files = archive.getFiles(data, k);
+			return decoder.decode(archive, files);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) cause).getCause();
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw ex;
+		}
+	}
+}
@@ -27,8 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -92,63 +92,60 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		// decryption is done in place, so leave the caller's data alone
+		return decompress(ByteBuffer.wrap(keys != null ? b.clone() : b), keys);
+	}
+
+	/**
+	 * Decode a container from the buffer's position to its limit. The encrypted
+	 * part of the buffer is decrypted in place, and compressed data is decompressed
+	 * straight into the container's data, which is the only array allocated.
+	 */
+	public static Container decompress(ByteBuffer buf, int[] keys) throws IOException
+	{
+		buf = buf.slice();
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = buf.get(0) & 0xff;
+		int compressedLength = buf.getInt(1);
 		if (compressedLength < 0)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
+		// the decompressed length is encrypted along with the data
+		int encryptedLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		if (5 + encryptedLength > buf.limit())
+		{
+			throw new RuntimeException("Invalid data");
+		}
+
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		crc32.update(buf, 0, 5 + encryptedLength); // compression + length + encrypted data
+
+		if (keys != null)
+		{
+			new Xtea(keys).decrypt(buf, 5, encryptedLength);
+		}
 
 		byte[] data;
 		switch (compression)
 		{
 			case CompressionType.NONE:
 			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				data = decryptedData;
-
+				data = new byte[compressedLength];
+				slice(buf, 5, compressedLength).get(data);
 				break;
 			}
 			case CompressionType.BZ2:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				InputStream decryptedStream = new InputStream(decryptedData);
-
-				int decompressedLength = decryptedStream.readInt();
-				data = BZip2.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				data = new byte[decompressedLength(buf)];
+				BZip2.decompress(slice(buf, 9, compressedLength), data);
 				break;
 			}
 			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				InputStream decryptedStream = new InputStream(decryptedData);
-
-				int decompressedLength = decryptedStream.readInt();
-				data = GZip.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				data = new byte[decompressedLength(buf)];
+				GZip.decompress(slice(buf, 9, compressedLength), data);
 				break;
 			}
 			default:
@@ -156,13 +153,14 @@ public class Container
 		}
 
 		int revision = -1;
-		if (stream.remaining() >= 4)
+		int trailer = 5 + encryptedLength;
+		if (buf.limit() - trailer >= 4)
 		{
-			revision = stream.readInt();
+			revision = buf.getInt(trailer);
 		}
-		else if (stream.remaining() >= 2)
+		else if (buf.limit() - trailer >= 2)
 		{
-			revision = stream.readUnsignedShort();
+			revision = buf.getShort(trailer) & 0xffff;
 		}
 
 		Container container = new Container(compression, revision);
@@ -171,15 +169,21 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static int decompressedLength(ByteBuffer buf)
 	{
-		if (keys == null)
+		int decompressedLength = buf.getInt(5);
+		if (decompressedLength < 0)
 		{
-			return data;
+			throw new RuntimeException("Invalid data");
 		}
+		return decompressedLength;
+	}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+	private static ByteBuffer slice(ByteBuffer buf, int offset, int length)
+	{
+		ByteBuffer b = buf.duplicate();
+		b.limit(offset + length).position(offset);
+		return b.slice();
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -26,7 +26,9 @@ package net.runelite.cache.fs;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -61,6 +63,14 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	/**
+	 * lowest id archive for each name hash
+	 */
+	private final NameHashTable<Archive> archivesByName = new NameHashTable<>();
+	/**
+	 * the remaining archives, in id order, for name hashes shared by more than one archive
+	 */
+	private final Map<Integer, List<Archive>> archiveNameCollisions = new HashMap<>();
 
 	public Index(int id)
 	{
@@ -83,6 +93,7 @@ public class Index
 		idx = -idx - 1;
 		Archive archive = new Archive(this, id);
 		this.archives.add(idx, archive);
+		indexName(archive);
 		return archive;
 	}
 
@@ -127,20 +138,96 @@ public class Index
 
 	public boolean removeArchive(Archive archive)
 	{
-		return archives.remove(archive);
+		int idx = findArchiveIndex(archive.getArchiveId());
+		if (idx < 0 || !archives.get(idx).equals(archive))
+		{
+			return false;
+		}
+
+		Archive removed = archives.remove(idx);
+		unindexName(removed, removed.getNameHash());
+		return true;
 	}
 
 	public Archive findArchiveByName(String name)
 	{
-		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		return findArchiveByNameHash(Djb2.hash(name));
+	}
+
+	public Archive findArchiveByNameHash(int nameHash)
+	{
+		return archivesByName.get(nameHash);
+	}
+
+	void archiveRenamed(Archive archive, int oldNameHash)
+	{
+		int idx = findArchiveIndex(archive.getArchiveId());
+		if (idx < 0 || archives.get(idx) != archive)
+		{
+			// not a member of this index
+			return;
+		}
+
+		unindexName(archive, oldNameHash);
+		indexName(archive);
+	}
+
+	private void indexName(Archive archive)
+	{
+		int nameHash = archive.getNameHash();
+		Archive first = archivesByName.get(nameHash);
+		if (first == null)
+		{
+			archivesByName.put(nameHash, archive);
+			return;
+		}
+
+		Archive other = archive;
+		if (archive.getArchiveId() < first.getArchiveId())
+		{
+			archivesByName.put(nameHash, archive);
+			other = first;
+		}
+
+		List<Archive> collisions = archiveNameCollisions.computeIfAbsent(nameHash, k -> new ArrayList<>(1));
+		int pos = collisions.size();
+		while (pos > 0 && collisions.get(pos - 1).getArchiveId() > other.getArchiveId())
+		{
+			--pos;
+		}
+		collisions.add(pos, other);
+	}
+
+	private void unindexName(Archive archive, int nameHash)
+	{
+		List<Archive> collisions = archiveNameCollisions.get(nameHash);
+		if (archivesByName.get(nameHash) == archive)
 		{
-			if (a.getNameHash() == hash)
+			if (collisions == null)
 			{
-				return a;
+				archivesByName.remove(nameHash);
+				return;
 			}
+
+			archivesByName.put(nameHash, collisions.remove(0));
+		}
+		else if (collisions != null)
+		{
+			// search from the end, as this is usually the most recently added archive
+			for (int i = collisions.size() - 1; i >= 0; --i)
+			{
+				if (collisions.get(i) == archive)
+				{
+					collisions.remove(i);
+					break;
+				}
+			}
+		}
+
+		if (collisions != null && collisions.isEmpty())
+		{
+			archiveNameCollisions.remove(nameHash);
 		}
-		return null;
 	}
 
 	public IndexData toIndexData()
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash table keyed by name hash, which avoids boxing keys on lookup.
+ *
+ * @param <T>
+ */
+final class NameHashTable<T>
+{
+	private static final int MIN_CAPACITY = 16;
+
+	private int[] keys;
+	private Object[] values;
+	private int size;
+
+	NameHashTable()
+	{
+		this(MIN_CAPACITY / 2);
+	}
+
+	NameHashTable(int expectedSize)
+	{
+		int capacity = MIN_CAPACITY;
+		while (capacity < expectedSize * 2)
+		{
+			capacity <<= 1;
+		}
+
+		keys = new int[capacity];
+		values = new Object[capacity];
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int key)
+	{
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); ; i = (i + 1) & mask)
+		{
+			Object value = values[i];
+			if (value == null)
+			{
+				return null;
+			}
+			if (keys[i] == key)
+			{
+				return (T) value;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	T put(int key, T value)
+	{
+		assert value != null;
+
+		if ((size + 1) * 2 > keys.length)
+		{
+			resize(keys.length << 1);
+		}
+
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); ; i = (i + 1) & mask)
+		{
+			Object existing = values[i];
+			if (existing == null)
+			{
+				keys[i] = key;
+				values[i] = value;
+				++size;
+				return null;
+			}
+			if (keys[i] == key)
+			{
+				values[i] = value;
+				return (T) existing;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	T remove(int key)
+	{
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		for (; ; i = (i + 1) & mask)
+		{
+			if (values[i] == null)
+			{
+				return null;
+			}
+			if (keys[i] == key)
+			{
+				break;
+			}
+		}
+
+		T removed = (T) values[i];
+		--size;
+
+		// shift back any following entries in the probe sequence which would be unreachable otherwise
+		for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask)
+		{
+			int k = slot(keys[j], mask);
+			boolean reachable = i <= j
+				? i < k && k <= j
+				: i < k || k <= j;
+			if (!reachable)
+			{
+				keys[i] = keys[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+
+		values[i] = null;
+		return removed;
+	}
+
+	void clear()
+	{
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private void resize(int capacity)
+	{
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+
+		keys = new int[capacity];
+		values = new Object[capacity];
+
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; ++i)
+		{
+			if (oldValues[i] == null)
+			{
+				continue;
+			}
+
+			int j = slot(oldKeys[i], mask);
+			while (values[j] != null)
+			{
+				j = (j + 1) & mask;
+			}
+			keys[j] = oldKeys[i];
+			values[j] = oldValues[i];
+		}
+	}
+
+	private static int slot(int key, int mask)
+	{
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
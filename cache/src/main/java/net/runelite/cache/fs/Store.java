@@ -28,7 +28,12 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
@@ -95,6 +100,46 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Load, decrypt, decompress and split the given archives in parallel on the common
+	 * fork join pool, and decode each with {@code decoder}.
+	 *
+	 * @param archives archives to load
+	 * @param keys xtea keys for each archive, or null if no archives are encrypted
+	 * @param decoder decoder run on the pool for each archive
+	 * @param consumer consumer of the decoded archives, run on the calling thread in archive order
+	 * @param <T>
+	 * @throws IOException
+	 */
+	public <T> void loadArchives(Collection<Archive> archives, Function<Archive, int[]> keys,
+		ArchiveDecoder<T> decoder, BiConsumer<Archive, T> consumer) throws IOException
+	{
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		loadArchives(archives, keys, decoder, consumer, pool, pool.getParallelism() * 4);
+	}
+
+	/**
+	 * Load, decrypt, decompress and split the given archives in parallel, and decode each
+	 * with {@code decoder}. At most {@code maxInFlight} archives are queued on the executor
+	 * at once.
+	 *
+	 * @param archives archives to load
+	 * @param keys xtea keys for each archive, or null if no archives are encrypted
+	 * @param decoder decoder run on the executor for each archive
+	 * @param consumer consumer of the decoded archives, run on the calling thread in archive order
+	 * @param executor
+	 * @param maxInFlight
+	 * @param <T>
+	 * @throws IOException
+	 */
+	public <T> void loadArchives(Collection<Archive> archives, Function<Archive, int[]> keys,
+		ArchiveDecoder<T> decoder, BiConsumer<Archive, T> consumer,
+		Executor executor, int maxInFlight) throws IOException
+	{
+		new ArchivePipeline<>(storage, executor, maxInFlight, keys, decoder)
+			.run(archives, consumer);
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
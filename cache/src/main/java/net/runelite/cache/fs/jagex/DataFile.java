@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +40,61 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	/**
+	 * number of sectors in each mapped region. regions are a whole number of sectors
+	 * so that a sector never straddles two buffers.
+	 */
+	private static final int SECTORS_PER_REGION = Integer.MAX_VALUE / SECTOR_SIZE;
 
 	private final RandomAccessFile dat;
+	/**
+	 * read only mappings of the data file, or null if the file was opened for writing
+	 */
+	private final MappedByteBuffer[] regions;
+	private final long length;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.regions = null;
+		this.length = -1L;
+	}
+
+	/**
+	 * Open a data file. Read only data files are memory mapped, and may be
+	 * read from concurrently by multiple threads without locking.
+	 *
+	 * @param file
+	 * @param readOnly
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean readOnly) throws IOException
+	{
+		if (!readOnly)
+		{
+			this.dat = new RandomAccessFile(file, "rw");
+			this.regions = null;
+			this.length = -1L;
+			return;
+		}
+
+		this.dat = new RandomAccessFile(file, "r");
+		this.length = dat.length();
+
+		FileChannel channel = dat.getChannel();
+		long regionSize = (long) SECTORS_PER_REGION * SECTOR_SIZE;
+		int numRegions = (int) ((length + regionSize - 1) / regionSize);
+		this.regions = new MappedByteBuffer[numRegions];
+		for (int i = 0; i < numRegions; ++i)
+		{
+			long position = i * regionSize;
+			regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, length - position));
+		}
+	}
+
+	public boolean isReadOnly()
+	{
+		return regions != null;
 	}
 
 	@Override
@@ -54,6 +105,7 @@ public class DataFile implements Closeable
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		dat.setLength(0L);
 	}
 
@@ -66,7 +118,17 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (regions != null)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,8 +231,95 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
+
+		// the mapped buffers are shared between threads, so only absolute reads are done on them.
+		// the bulk copy out of each sector goes through a per-read view of the region instead.
+		ByteBuffer[] views = new ByteBuffer[regions.length];
+		byte[] data = new byte[size];
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int region = sector / SECTORS_PER_REGION;
+			MappedByteBuffer buf = regions[region];
+			int pos = (sector % SECTORS_PER_REGION) * SECTOR_SIZE;
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if (pos + headerSize + dataBlockSize > buf.limit())
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = buf.getInt(pos);
+				currentPart = buf.getShort(pos + 4) & 0xFFFF;
+				nextSector = ((buf.get(pos + 6) & 0xFF) << 16)
+					| (buf.getShort(pos + 7) & 0xFFFF);
+				currentIndex = buf.get(pos + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = buf.getShort(pos) & 0xFFFF;
+				currentPart = buf.getShort(pos + 2) & 0xFFFF;
+				nextSector = ((buf.get(pos + 4) & 0xFF) << 16)
+					| (buf.getShort(pos + 5) & 0xFFFF);
+				currentIndex = buf.get(pos + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			ByteBuffer view = views[region];
+			if (view == null)
+			{
+				view = views[region] = buf.duplicate();
+			}
+			view.position(pos + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		checkWritable();
+
 		int sector;
 		int startSector;
 
@@ -250,4 +399,12 @@ public class DataFile implements Closeable
 		res.compressedLength = compressedData.length;
 		return res;
 	}
+
+	private void checkWritable() throws IOException
+	{
+		if (regions != null)
+		{
+			throw new IOException("data file is read only");
+		}
+	}
 }
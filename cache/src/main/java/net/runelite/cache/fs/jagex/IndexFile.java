@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -46,27 +48,70 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	/**
+	 * read only mapping of the index file, or null if the file was opened for writing
+	 */
+	private final ByteBuffer mapped;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = null;
+	}
+
+	/**
+	 * Open an index file. Read only index files are memory mapped, and may be
+	 * read from concurrently by multiple threads without locking. A missing read
+	 * only index file is treated as empty.
+	 *
+	 * @param indexFileId
+	 * @param file
+	 * @param readOnly
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean readOnly) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+
+		if (!readOnly)
+		{
+			this.idx = new RandomAccessFile(file, "rw");
+			this.mapped = null;
+		}
+		else if (!file.exists())
+		{
+			this.idx = null;
+			this.mapped = ByteBuffer.allocate(0).asReadOnlyBuffer();
+		}
+		else
+		{
+			this.idx = new RandomAccessFile(file, "r");
+			this.mapped = idx.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, idx.length());
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		idx.close();
+		if (idx != null)
+		{
+			idx.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		idx.setLength(0L);
 	}
 
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		checkWritable();
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -80,7 +125,17 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (mapped != null)
+		{
+			return readMapped(id);
+		}
+
+		return readFile(id);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -93,6 +148,26 @@ public class IndexFile implements Closeable
 		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
 		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
+		return toEntry(id, length, sector);
+	}
+
+	private IndexEntry readMapped(int id)
+	{
+		int pos = id * INDEX_ENTRY_LEN;
+		if (id < 0 || pos + INDEX_ENTRY_LEN > mapped.limit())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((mapped.get(pos) & 0xFF) << 16) | (mapped.getShort(pos + 1) & 0xFFFF);
+		int sector = ((mapped.get(pos + 3) & 0xFF) << 16) | (mapped.getShort(pos + 4) & 0xFFFF);
+
+		return toEntry(id, length, sector);
+	}
+
+	private IndexEntry toEntry(int id, int length, int sector)
+	{
 		if (length <= 0 || sector <= 0)
 		{
 			logger.debug("invalid length or sector {}/{}", length, sector);
@@ -102,8 +177,24 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		if (mapped != null)
+		{
+			return mapped.limit() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
+	}
+
+	private void checkWritable() throws IOException
+	{
+		if (mapped != null)
+		{
+			throw new IOException("index file " + indexFileId + " is read only");
+		}
 	}
 }
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.JagexColor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Renders item icons, sharing the color palette, decoded textures and decoded
+ * models between icons. Each thread renders with its own rasterizer and lit
+ * model, so icons can be rendered from many threads at once.
+ */
+public class ItemIconRenderer
+{
+	private static final Logger logger = LoggerFactory.getLogger(ItemIconRenderer.class);
+
+	public static final int WIDTH = 36;
+	public static final int HEIGHT = 32;
+
+	// models are mostly used by a handful of items with adjacent ids, except for the note and placeholder templates
+	private static final int MODEL_CACHE_SIZE = 1024;
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int[] colorPalette;
+	private final Cache<Integer, ModelDefinition> models = CacheBuilder.newBuilder()
+		.maximumSize(MODEL_CACHE_SIZE)
+		.build();
+	private final ThreadLocal<RenderContext> contexts = ThreadLocal.withInitial(RenderContext::new);
+
+	public ItemIconRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		this.colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
+	}
+
+	/**
+	 * Render a single icon on the calling thread
+	 *
+	 * @return the icon, or null if the item has no model
+	 */
+	public BufferedImage createSprite(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(contexts.get(), itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render icons in parallel on {@code executor}, handing each to {@code consumer} from the
+	 * rendering thread as it finishes. Items which have no model or fail to render are skipped.
+	 *
+	 * @param itemIds ids of the items to render
+	 * @param executor executor to render icons on
+	 * @param consumer consumer of rendered icons, called concurrently
+	 * @return the number of icons rendered
+	 * @throws IOException if the consumer throws
+	 */
+	public int renderIcons(Collection<Integer> itemIds, int quantity, int border, int shadowColor,
+		Executor executor, IconConsumer consumer) throws IOException
+	{
+		return renderIcons(new ArrayList<>(itemIds), quantity, border, shadowColor, executor,
+			(index, itemId, spritePixels) -> consumer.accept(itemId, spritePixels.toBufferedImage()));
+	}
+
+	/**
+	 * Render icons in parallel and write each to {@code <id>.png} in {@code outDir}
+	 *
+	 * @return the number of icons written
+	 * @see #renderIcons(Collection, int, int, int, Executor, IconConsumer)
+	 */
+	public int exportIcons(File outDir, Collection<Integer> itemIds, int quantity, int border, int shadowColor,
+		Executor executor) throws IOException
+	{
+		return renderIcons(itemIds, quantity, border, shadowColor, executor,
+			(itemId, icon) -> ImageIO.write(icon, "png", new File(outDir, itemId + ".png")));
+	}
+
+	/**
+	 * Render icons in parallel into a single image, {@code columns} icons wide. The icon of the
+	 * n-th item of {@code itemIds} is at column {@code n % columns} and row {@code n / columns}.
+	 * Cells of items which have no model are left transparent.
+	 *
+	 * @see #renderIcons(Collection, int, int, int, Executor, IconConsumer)
+	 */
+	public BufferedImage renderAtlas(List<Integer> itemIds, int columns, int quantity, int border, int shadowColor,
+		Executor executor) throws IOException
+	{
+		int rows = Math.max(1, (itemIds.size() + columns - 1) / columns);
+		BufferedImage atlas = new BufferedImage(columns * WIDTH, rows * HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		int[] atlasPixels = ((DataBufferInt) atlas.getRaster().getDataBuffer()).getData();
+		int stride = columns * WIDTH;
+
+		// each icon is copied into its own cell, so no two threads write the same pixels
+		renderIcons(itemIds, quantity, border, shadowColor, executor, (index, itemId, spritePixels) ->
+		{
+			int offset = (index / columns) * HEIGHT * stride + (index % columns) * WIDTH;
+			int[] pixels = spritePixels.pixels;
+			for (int y = 0; y < HEIGHT; ++y)
+			{
+				for (int x = 0; x < WIDTH; ++x)
+				{
+					int pixel = pixels[y * WIDTH + x];
+					atlasPixels[offset + y * stride + x] = pixel != 0 ? pixel | 0xff000000 : 0;
+				}
+			}
+		});
+		return atlas;
+	}
+
+	private int renderIcons(List<Integer> itemIds, int quantity, int border, int shadowColor,
+		Executor executor, SpriteConsumer consumer) throws IOException
+	{
+		AtomicInteger count = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(itemIds.size());
+		for (int i = 0; i < itemIds.size(); ++i)
+		{
+			int index = i;
+			int itemId = itemIds.get(i);
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				SpritePixels spritePixels;
+				try
+				{
+					spritePixels = createSpritePixels(contexts.get(), itemId, quantity, border, shadowColor, false);
+				}
+				catch (IOException | RuntimeException ex)
+				{
+					logger.warn("error rendering item {}", itemId, ex);
+					return;
+				}
+
+				if (spritePixels == null)
+				{
+					return;
+				}
+
+				try
+				{
+					consumer.accept(index, itemId, spritePixels);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+				count.incrementAndGet();
+			}, executor));
+		}
+
+		try
+		{
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+		return count.get();
+	}
+
+	private SpritePixels createSpritePixels(RenderContext context, int itemId, int quantity, int border, int shadowColor,
+		boolean noted) throws IOException
+	{
+		ItemDefinition item = itemProvider.provide(itemId);
+
+		if (quantity > 1 && item.countObj != null)
+		{
+			int stackItemID = -1;
+
+			for (int i = 0; i < 10; ++i)
+			{
+				if (quantity >= item.countCo[i] && item.countCo[i] != 0)
+				{
+					stackItemID = item.countObj[i];
+				}
+			}
+
+			if (stackItemID != -1)
+			{
+				item = itemProvider.provide(stackItemID);
+			}
+		}
+
+		// the base item is rendered first, before the rasterizer is pointed at this icon and
+		// this item is lit into the shared model
+		SpritePixels auxSpritePixels = null;
+		if (item.notedTemplate != -1)
+		{
+			auxSpritePixels = createSpritePixels(context, item.notedID, 10, 1, 0, true);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+		else if (item.boughtTemplateId != -1)
+		{
+			auxSpritePixels = createSpritePixels(context, item.boughtId, quantity, border, 0, false);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+		else if (item.placeholderTemplateId != -1)
+		{
+			auxSpritePixels = createSpritePixels(context, item.placeholderId, quantity, 0, 0, false);
+			if (auxSpritePixels == null)
+			{
+				return null;
+			}
+		}
+
+		Model itemModel = context.model;
+		if (!light(itemModel, item))
+		{
+			return null;
+		}
+
+		Graphics3D graphics = context.graphics;
+		SpritePixels spritePixels = new SpritePixels(WIDTH, HEIGHT);
+		graphics.setRasterBuffer(spritePixels.pixels, WIDTH, HEIGHT);
+		graphics.reset();
+		graphics.setRasterClipping();
+		graphics.setOffset(16, 16);
+		graphics.rasterGouraudLowRes = false;
+		if (item.placeholderTemplateId != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		int zoom2d = item.zoom2d;
+		if (noted)
+		{
+			zoom2d = (int) ((double) zoom2d * 1.5D);
+		}
+		else if (border == 2)
+		{
+			zoom2d = (int) ((double) zoom2d * 1.04D);
+		}
+
+		int var17 = zoom2d * Graphics3D.SINE[item.xan2d] >> 16;
+		int var18 = zoom2d * Graphics3D.COSINE[item.xan2d] >> 16;
+
+		itemModel.calculateBoundsCylinder();
+		itemModel.projectAndDraw(graphics, 0,
+			item.yan2d,
+			item.zan2d,
+			item.xan2d,
+			item.xOffset2d,
+			itemModel.modelHeight / 2 + var17 + item.yOffset2d,
+			var18 + item.yOffset2d);
+		if (item.boughtTemplateId != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		if (border >= 1)
+		{
+			spritePixels.drawBorder(1);
+		}
+
+		if (border >= 2)
+		{
+			spritePixels.drawBorder(0xffffff);
+		}
+
+		if (shadowColor != 0)
+		{
+			spritePixels.drawShadow(shadowColor);
+		}
+
+		graphics.setRasterBuffer(spritePixels.pixels, WIDTH, HEIGHT);
+		if (item.notedTemplate != -1)
+		{
+			auxSpritePixels.drawAtOn(graphics, 0, 0);
+		}
+
+		graphics.setRasterBuffer(graphics.graphicsPixels,
+			graphics.graphicsPixelsWidth,
+			graphics.graphicsPixelsHeight);
+
+		graphics.setRasterClipping();
+		graphics.rasterGouraudLowRes = true;
+		return spritePixels;
+	}
+
+	/**
+	 * Light the item's inventory model into {@code litModel}
+	 *
+	 * @return false if the item has no model
+	 */
+	private boolean light(Model litModel, ItemDefinition item) throws IOException
+	{
+		ModelDefinition inventoryModel = models.getIfPresent(item.inventoryModel);
+		if (inventoryModel == null)
+		{
+			inventoryModel = modelProvider.provide(item.inventoryModel);
+			if (inventoryModel == null)
+			{
+				return false;
+			}
+
+			// normals are computed lazily, so compute them before the model is shared between threads
+			inventoryModel.computeNormals();
+			models.put(item.inventoryModel, inventoryModel);
+		}
+
+		// the cached model is shared, so copy the parts of it the item modifies
+		boolean resize = item.resizeX != 128 || item.resizeY != 128 || item.resizeZ != 128;
+		if (resize || item.colorFind != null || item.textureFind != null)
+		{
+			inventoryModel = inventoryModel.shallowCopy();
+		}
+
+		if (resize)
+		{
+			inventoryModel.vertexX = inventoryModel.vertexX.clone();
+			inventoryModel.vertexY = inventoryModel.vertexY.clone();
+			inventoryModel.vertexZ = inventoryModel.vertexZ.clone();
+			inventoryModel.resize(item.resizeX, item.resizeY, item.resizeZ);
+		}
+
+		if (item.colorFind != null)
+		{
+			inventoryModel.faceColors = inventoryModel.faceColors.clone();
+			for (int i = 0; i < item.colorFind.length; ++i)
+			{
+				inventoryModel.recolor(item.colorFind[i], item.colorReplace[i]);
+			}
+		}
+
+		if (item.textureFind != null && inventoryModel.faceTextures != null)
+		{
+			inventoryModel.faceTextures = inventoryModel.faceTextures.clone();
+			for (int i = 0; i < item.textureFind.length; ++i)
+			{
+				inventoryModel.retexture(item.textureFind[i], item.textureReplace[i]);
+			}
+		}
+
+		ItemSpriteFactory.light(litModel, inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
+		return true;
+	}
+
+	/**
+	 * The rasterizer and lit model of one thread, reused for every icon it renders. The model's
+	 * drawing buffers are several megabytes, so it is relit for each icon instead of reallocated.
+	 */
+	private class RenderContext
+	{
+		private final Graphics3D graphics = new Graphics3D(textureProvider);
+		private final Model model = new Model();
+
+		private RenderContext()
+		{
+			graphics.colorPalette = colorPalette;
+		}
+	}
+
+	public interface IconConsumer
+	{
+		void accept(int itemId, BufferedImage icon) throws IOException;
+	}
+
+	private interface SpriteConsumer
+	{
+		void accept(int index, int itemId, SpritePixels spritePixels) throws IOException;
+	}
+}
@@ -26,200 +26,38 @@ package net.runelite.cache.item;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.models.FaceNormal;
-import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
+	/**
+	 * Render a single icon. To render many icons, use an {@link ItemIconRenderer}, which shares
+	 * the palette, textures and models between icons.
+	 */
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-			itemId, quantity, border, shadowColor, noted);
-		return spritePixels == null ? null : spritePixels.toBufferedImage();
+		return new ItemIconRenderer(itemProvider, modelProvider, spriteProvider, textureProvider)
+			.createSprite(itemId, quantity, border, shadowColor, noted);
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
-		int itemId, int quantity, int border, int shadowColor,
-		boolean noted) throws IOException
-	{
-		ItemDefinition item = itemProvider.provide(itemId);
-
-		if (quantity > 1 && item.countObj != null)
-		{
-			int stackItemID = -1;
-
-			for (int i = 0; i < 10; ++i)
-			{
-				if (quantity >= item.countCo[i] && item.countCo[i] != 0)
-				{
-					stackItemID = item.countObj[i];
-				}
-			}
-
-			if (stackItemID != -1)
-			{
-				item = itemProvider.provide(stackItemID);
-			}
-		}
-
-		Model itemModel = getModel(modelProvider, item);
-		if (itemModel == null)
-		{
-			return null;
-		}
-
-		SpritePixels auxSpritePixels = null;
-		if (item.notedTemplate != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.notedID, 10, 1, 0, true);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-		else if (item.boughtTemplateId != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.boughtId, quantity, border, 0, false);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-		else if (item.placeholderTemplateId != -1)
-		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-				item.placeholderId, quantity, 0, 0, false);
-			if (auxSpritePixels == null)
-			{
-				return null;
-			}
-		}
-
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
-		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
-		graphics.reset();
-		graphics.setRasterClipping();
-		graphics.setOffset(16, 16);
-		graphics.rasterGouraudLowRes = false;
-		if (item.placeholderTemplateId != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		int zoom2d = item.zoom2d;
-		if (noted)
-		{
-			zoom2d = (int) ((double) zoom2d * 1.5D);
-		}
-		else if (border == 2)
-		{
-			zoom2d = (int) ((double) zoom2d * 1.04D);
-		}
-
-		int var17 = zoom2d * Graphics3D.SINE[item.xan2d] >> 16;
-		int var18 = zoom2d * Graphics3D.COSINE[item.xan2d] >> 16;
-
-		itemModel.calculateBoundsCylinder();
-		itemModel.projectAndDraw(graphics, 0,
-			item.yan2d,
-			item.zan2d,
-			item.xan2d,
-			item.xOffset2d,
-			itemModel.modelHeight / 2 + var17 + item.yOffset2d,
-			var18 + item.yOffset2d);
-		if (item.boughtTemplateId != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		if (border >= 1)
-		{
-			spritePixels.drawBorder(1);
-		}
-
-		if (border >= 2)
-		{
-			spritePixels.drawBorder(0xffffff);
-		}
-
-		if (shadowColor != 0)
-		{
-			spritePixels.drawShadow(shadowColor);
-		}
-
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
-		if (item.notedTemplate != -1)
-		{
-			auxSpritePixels.drawAtOn(graphics, 0, 0);
-		}
-
-		graphics.setRasterBuffer(graphics.graphicsPixels,
-			graphics.graphicsPixelsWidth,
-			graphics.graphicsPixelsHeight);
-
-		graphics.setRasterClipping();
-		graphics.rasterGouraudLowRes = true;
-		return spritePixels;
-	}
-
-	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
-	{
-		Model itemModel;
-		ModelDefinition inventoryModel = modelProvider.provide(item.inventoryModel);
-		if (inventoryModel == null)
-		{
-			return null;
-		}
-
-		if (item.resizeX != 128 || item.resizeY != 128 || item.resizeZ != 128)
-		{
-			inventoryModel.resize(item.resizeX, item.resizeY, item.resizeZ);
-		}
-
-		if (item.colorFind != null)
-		{
-			for (int i = 0; i < item.colorFind.length; ++i)
-			{
-				inventoryModel.recolor(item.colorFind[i], item.colorReplace[i]);
-			}
-		}
-
-		if (item.textureFind != null)
-		{
-			for (int i = 0; i < item.textureFind.length; ++i)
-			{
-				inventoryModel.retexture(item.textureFind[i], item.textureReplace[i]);
-			}
-		}
-
-		itemModel = light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
-		return itemModel;
-	}
-
-	private static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
+	/**
+	 * Light {@code def} into {@code litModel}, which is reset first
+	 */
+	static void light(Model litModel, ModelDefinition def, int ambient, int contrast, int x, int y, int z)
 	{
 		def.computeNormals();
 		int somethingMagnitude = (int) Math.sqrt((double) (z * z + x * x + y * y));
 		int var7 = somethingMagnitude * contrast >> 8;
-		Model litModel = new Model();
+		litModel.reset();
 		litModel.faceColors1 = new int[def.faceCount];
 		litModel.faceColors2 = new int[def.faceCount];
 		litModel.faceColors3 = new int[def.faceCount];
@@ -407,7 +245,6 @@ public class ItemSpriteFactory
 		litModel.facePriorities = def.faceRenderPriorities;
 		litModel.faceTransparencies = def.faceTransparencies;
 		litModel.faceTextures = def.faceTextures;
-		return litModel;
 	}
 
 	static int method2608(int var0, int var1)
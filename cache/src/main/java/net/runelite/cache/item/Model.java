@@ -86,6 +86,29 @@ class Model extends Renderable
 		this.extremeZ = -1;
 	}
 
+	/**
+	 * Reset the model to how it was constructed, keeping the scratch buffers used for drawing
+	 */
+	void reset()
+	{
+		super.modelHeight = 1000;
+		this.verticesCount = 0;
+		this.indicesCount = 0;
+		this.numTextureFaces = 0;
+		this.texIndices1 = null;
+		this.texIndices2 = null;
+		this.texIndices3 = null;
+		this.textureCoords = null;
+		this.boundsType = 0;
+		this.bottomY = 0;
+		this.XYZMag = 0;
+		this.diameter = 0;
+		this.radius = 0;
+		this.extremeX = -1;
+		this.extremeY = -1;
+		this.extremeZ = -1;
+	}
+
 	public void calculateBoundsCylinder()
 	{
 		if (this.boundsType != 1)
@@ -30,6 +30,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -142,4 +144,60 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress headerless bzip2 data straight into {@code out}, which must be
+	 * exactly the size of the decompressed data. The data is read from the
+	 * buffer's position to its limit, and the buffer's position is not changed.
+	 */
+	public static void decompress(ByteBuffer in, byte[] out) throws IOException
+	{
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteBufferInputStream(in.duplicate()));
+		try (InputStream is = new BZip2CompressorInputStream(data))
+		{
+			if (is.readNBytes(out, 0, out.length) != out.length || is.read() != -1)
+			{
+				throw new IOException("Decompressed data does not match the expected length " + out.length);
+			}
+		}
+	}
+
+	private static class ByteBufferInputStream extends InputStream
+	{
+		private final ByteBuffer buf;
+
+		private ByteBufferInputStream(ByteBuffer buf)
+		{
+			this.buf = buf;
+		}
+
+		@Override
+		public int read()
+		{
+			return buf.hasRemaining() ? buf.get() & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len)
+		{
+			if (len == 0)
+			{
+				return 0;
+			}
+			if (!buf.hasRemaining())
+			{
+				return -1;
+			}
+
+			len = Math.min(len, buf.remaining());
+			buf.get(b, off, len);
+			return len;
+		}
+
+		@Override
+		public int available()
+		{
+			return buf.remaining();
+		}
+	}
 }
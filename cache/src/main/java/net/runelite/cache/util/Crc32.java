@@ -25,6 +25,7 @@
 
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
 
 public class Crc32
@@ -36,6 +37,13 @@ public class Crc32
 		crc32.update(data, offset, length);
 	}
 
+	public void update(ByteBuffer buf, int offset, int length)
+	{
+		ByteBuffer b = buf.duplicate();
+		b.limit(offset + length).position(offset);
+		crc32.update(b);
+	}
+
 	public int getHash()
 	{
 		return (int) crc32.getValue();
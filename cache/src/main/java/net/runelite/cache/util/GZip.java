@@ -30,11 +30,36 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 public class GZip
 {
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final int HEADER_LENGTH = 10;
+	private static final int TRAILER_LENGTH = 8;
+
+	// header flags
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	/**
+	 * Raw inflaters for {@link #decompress(ByteBuffer, byte[])}, which are reset when they are returned.
+	 * An inflater holds native memory until it is ended, so inflaters that don't fit back in the pool
+	 * are ended rather than left to be cleaned up when collected.
+	 */
+	private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -61,4 +86,117 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a gzip member straight into {@code out}, which must be exactly
+	 * the size of the decompressed data. The member is read from the buffer's
+	 * position to its limit, and the buffer's position is not changed.
+	 */
+	public static void decompress(ByteBuffer in, byte[] out) throws IOException
+	{
+		int pos = in.position();
+		if (in.remaining() < HEADER_LENGTH + TRAILER_LENGTH || readUnsignedShortLE(in, pos) != GZIP_MAGIC)
+		{
+			throw new ZipException("Not in GZIP format");
+		}
+		if (in.get(pos + 2) != Deflater.DEFLATED)
+		{
+			throw new ZipException("Unsupported compression method");
+		}
+
+		int flags = in.get(pos + 3) & 0xff;
+		pos += HEADER_LENGTH;
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + readUnsignedShortLE(in, pos);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(in, pos);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(in, pos);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		ByteBuffer deflated = in.duplicate();
+		deflated.position(pos);
+
+		Inflater inflater = INFLATERS.poll();
+		if (inflater == null)
+		{
+			inflater = new Inflater(true);
+		}
+		inflater.setInput(deflated);
+		int trailer;
+		try
+		{
+			int n = 0;
+			while (!inflater.finished())
+			{
+				int r = inflater.inflate(out, n, out.length - n);
+				if (r == 0 && !inflater.finished())
+				{
+					// the data is either longer than expected or truncated
+					throw new ZipException("Decompressed data does not match the expected length " + out.length);
+				}
+				n += r;
+			}
+
+			if (n != out.length)
+			{
+				throw new ZipException("Decompressed data does not match the expected length " + out.length);
+			}
+
+			trailer = in.limit() - inflater.getRemaining();
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+		finally
+		{
+			// also drops the reference to the input buffer
+			inflater.reset();
+			if (!INFLATERS.offer(inflater))
+			{
+				inflater.end();
+			}
+		}
+
+		if (trailer + TRAILER_LENGTH > in.limit())
+		{
+			throw new ZipException("Missing GZIP trailer");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out, 0, out.length);
+		if (readIntLE(in, trailer) != (int) crc.getValue() || readIntLE(in, trailer + 4) != out.length)
+		{
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+	}
+
+	private static int skipString(ByteBuffer buf, int pos)
+	{
+		while (buf.get(pos) != 0)
+		{
+			++pos;
+		}
+		return pos + 1;
+	}
+
+	private static int readUnsignedShortLE(ByteBuffer buf, int pos)
+	{
+		return (buf.get(pos) & 0xff) | (buf.get(pos + 1) & 0xff) << 8;
+	}
+
+	private static int readIntLE(ByteBuffer buf, int pos)
+	{
+		return readUnsignedShortLE(buf, pos) | readUnsignedShortLE(buf, pos + 2) << 16;
+	}
 }
@@ -24,8 +24,10 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public class Xtea
 {
@@ -33,6 +35,8 @@ public class Xtea
 
 	private static final int ROUNDS = 32;
 
+	private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
 	private final int[] key;
 
 	public Xtea(int[] key)
@@ -42,13 +46,28 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = data.clone();
+		encrypt(ByteBuffer.wrap(out), 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = data.clone();
+		decrypt(ByteBuffer.wrap(out), 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt {@code len} bytes of the buffer in place, starting at the absolute
+	 * index {@code off}. A trailing partial block is left as is.
+	 */
+	public void encrypt(ByteBuffer buf, int off, int len)
+	{
+		for (int end = off + (len & ~7); off < end; off += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = (int) INT.get(buf, off);
+			int v1 = (int) INT.get(buf, off + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +75,21 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			INT.set(buf, off, v0);
+			INT.set(buf, off + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt {@code len} bytes of the buffer in place, starting at the absolute
+	 * index {@code off}. A trailing partial block is left as is.
+	 */
+	public void decrypt(ByteBuffer buf, int off, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int end = off + (len & ~7); off < end; off += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = (int) INT.get(buf, off);
+			int v1 = (int) INT.get(buf, off + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +97,8 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			INT.set(buf, off, v0);
+			INT.set(buf, off + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 }
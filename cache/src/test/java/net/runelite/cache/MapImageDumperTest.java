@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
@@ -104,4 +105,32 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpMapTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			int regionsPerTile = 8;
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				MapTileWriter writer = new MapTileWriter(new File(outDir, Integer.toString(i)), dumper.getTileZoomLevels(regionsPerTile));
+				dumper.drawMapTiles(i, regionsPerTile, ForkJoinPool.commonPool(), writer);
+				writer.writeZoomLevels(ForkJoinPool.commonPool(), dumper.isTransparency());
+				logger.info("Wrote tiles for plane {} to {}", i, outDir);
+			}
+		}
+	}
 }
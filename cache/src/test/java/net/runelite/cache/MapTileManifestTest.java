@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.Set;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.RegionLoader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MapTileManifestTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private RegionLoader regionLoader;
+
+	@Before
+	public void before() throws IOException
+	{
+		regionLoader = new RegionLoader(new Store(folder.getRoot()), null);
+		// a 3x1 strip of regions, the middle one using underlay 7
+		for (int x = 50; x <= 52; ++x)
+		{
+			regionLoader.loadRegion(x << 8 | 50, map(x, 50, x == 51 ? 7 : 0), null);
+		}
+		regionLoader.calculateBounds();
+	}
+
+	@Test
+	public void testUnchanged()
+	{
+		MapTileManifest previous = manifest();
+		MapTileManifest current = manifest();
+		Assert.assertTrue(current.findDirtyRegions(previous, regionLoader).isEmpty());
+	}
+
+	@Test
+	public void testRegionChanged()
+	{
+		MapTileManifest previous = manifest();
+		MapTileManifest current = manifest();
+		current.getRegions().get(50 << 8 | 50).setMapCrc(42);
+
+		Set<Integer> dirty = current.findDirtyRegions(previous, regionLoader);
+		Assert.assertEquals(9, dirty.size());
+		Assert.assertTrue(dirty.contains(51 << 8 | 50));
+		Assert.assertFalse(dirty.contains(52 << 8 | 50));
+	}
+
+	@Test
+	public void testDefinitionChanged()
+	{
+		MapTileManifest previous = manifest();
+		MapTileManifest current = manifest();
+		current.getUnderlays().put(6, 42);
+
+		Set<Integer> dirty = current.findDirtyRegions(previous, regionLoader);
+		Assert.assertTrue(dirty.contains(50 << 8 | 50));
+		Assert.assertTrue(dirty.contains(51 << 8 | 50));
+		Assert.assertTrue(dirty.contains(52 << 8 | 50));
+		Assert.assertTrue(dirty.contains(51 << 8 | 51));
+		Assert.assertFalse(dirty.contains(53 << 8 | 50));
+	}
+
+	@Test
+	public void testGlobalChanged()
+	{
+		MapTileManifest previous = manifest();
+		MapTileManifest current = manifest();
+		current.setGlobalCrc(42);
+
+		Assert.assertNull(current.findDirtyRegions(previous, regionLoader));
+	}
+
+	private static MapTileManifest manifest()
+	{
+		MapTileManifest manifest = new MapTileManifest();
+		manifest.setRegionsPerTile(1);
+		manifest.setLowestRegionX(50);
+		manifest.setHighestRegionX(52);
+		manifest.setLowestRegionY(50);
+		manifest.setHighestRegionY(50);
+		for (int x = 50; x <= 52; ++x)
+		{
+			MapTileManifest.RegionEntry entry = new MapTileManifest.RegionEntry();
+			entry.setMapCrc(x);
+			manifest.getRegions().put(x << 8 | 50, entry);
+		}
+		manifest.getUnderlays().put(6, 1);
+		return manifest;
+	}
+
+	private static MapDefinition map(int x, int y, int underlayId)
+	{
+		MapDefinition map = new MapDefinition();
+		map.setRegionX(x);
+		map.setRegionY(y);
+		for (MapDefinition.Tile[][] plane : map.getTiles())
+		{
+			for (MapDefinition.Tile[] column : plane)
+			{
+				for (int i = 0; i < column.length; ++i)
+				{
+					column[i] = new MapDefinition.Tile();
+					column[i].setUnderlayId((short) underlayId);
+				}
+			}
+		}
+		return map;
+	}
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.DBRowManager;
+import net.runelite.cache.DBTableIndexManager;
+import net.runelite.cache.DBTableManager;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DBTableTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(DBTableTest.class);
+
+	private static final int MONSTERS = 1;
+	private static final int NAME = 0;
+	private static final int LEVEL = 1;
+	private static final int DROPS = 2;
+
+	private static final int SLAYER = 2;
+	private static final int MONSTER = 0;
+
+	private static final ScriptVarType[][] MONSTER_TYPES = {
+		{ScriptVarType.STRING},
+		{ScriptVarType.INTEGER},
+		{ScriptVarType.OBJ, ScriptVarType.INTEGER},
+	};
+
+	private static DBRowDefinition row(int id, int tableId, Object[]... columnValues)
+	{
+		DBRowDefinition row = new DBRowDefinition(id);
+		row.setTableId(tableId);
+		row.setColumnValues(columnValues);
+		return row;
+	}
+
+	private static DBTable monsters(DBTableIndexManager indexes)
+	{
+		DBTableDefinition def = new DBTableDefinition(MONSTERS);
+		def.setTypes(MONSTER_TYPES);
+		def.setDefaultColumnValues(new Object[]{null, new Object[]{1}, null});
+
+		List<DBRowDefinition> rows = Arrays.asList(
+			row(12, MONSTERS, new Object[]{"Goblin"}, new Object[]{5}, new Object[]{995, 10, 526, 1}),
+			row(10, MONSTERS, new Object[]{"Rat"}, null, new Object[]{526, 1}),
+			row(11, MONSTERS, new Object[]{"Goblin"}, new Object[]{2}, new Object[]{}),
+			row(15, MONSTERS, new Object[]{"Cow"}, new Object[]{2}, new Object[]{1739, 1, 526, 1}),
+			row(20, SLAYER, new Object[]{11})
+		);
+		return DBTable.build(def, rows, indexes);
+	}
+
+	private static DBTableIndexManager nameIndex()
+	{
+		Map<Object, List<Integer>> names = new HashMap<>();
+		names.put("Goblin", Arrays.asList(12, 11));
+		names.put("Rat", Collections.singletonList(10));
+		names.put("Cow", Collections.singletonList(15));
+
+		DBTableIndex index = new DBTableIndex(MONSTERS, NAME);
+		index.setTupleTypes(new BaseVarType[]{BaseVarType.STRING});
+		index.setTupleIndexes(Collections.singletonList(names));
+
+		return new DBTableIndexManager(null)
+		{
+			@Override
+			public DBTableIndex get(int tableId, int columnId)
+			{
+				return tableId == MONSTERS && columnId == NAME ? index : null;
+			}
+		};
+	}
+
+	@Test
+	public void testColumns()
+	{
+		DBTable table = monsters(null);
+		assertEquals(4, table.getRowCount());
+		assertEquals(10, table.getRowId(0));
+		assertEquals(1, table.indexOf(11));
+		assertEquals(-1, table.indexOf(20));
+
+		DBColumn level = table.getColumn(LEVEL);
+		assertEquals(1, level.getInt(table.indexOf(10), 0, 0));
+		assertEquals(5, level.getInt(table.indexOf(12), 0, 0));
+
+		DBColumn drops = table.getColumn(DROPS);
+		int goblin = table.indexOf(12);
+		assertEquals(2, drops.getTupleCount(goblin));
+		assertEquals(526, drops.getInt(goblin, 1, 0));
+		assertEquals(1, drops.getValue(goblin, 1, 1));
+		assertEquals(0, drops.getTupleCount(table.indexOf(11)));
+		assertEquals("Cow", table.getColumn(NAME).getString(table.indexOf(15), 0, 0));
+		assertEquals(3, table.getStringCount());
+	}
+
+	@Test
+	public void testWhere()
+	{
+		DBTable scanned = monsters(null);
+		DBTable indexed = monsters(nameIndex());
+		assertFalse(scanned.getColumn(NAME).isIndexed(0));
+		assertTrue(indexed.getColumn(NAME).isIndexed(0));
+
+		for (DBTable table : new DBTable[]{scanned, indexed})
+		{
+			assertArrayEquals(new int[]{11, 12}, table.query().where(NAME, "Goblin").rowIds());
+			assertArrayEquals(new int[]{11}, table.query().where(NAME, "Goblin").where(LEVEL, 2).rowIds());
+			assertArrayEquals(new int[]{11}, table.query().where(LEVEL, 2).where(NAME, "Goblin").rowIds());
+			assertEquals(0, table.query().where(NAME, "Imp").size());
+			assertArrayEquals(new int[]{10, 12, 15}, table.query().where(DROPS, 0, 526).rowIds());
+			assertArrayEquals(new int[]{12}, table.query().filter(DROPS, 1, qty -> qty > 1).rowIds());
+			assertArrayEquals(new int[]{10, 15}, table.query().filterString(NAME, 0, name -> name.length() <= 3).rowIds());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWhereType()
+	{
+		monsters(null).query().where(LEVEL, "Goblin");
+	}
+
+	@Test
+	public void testSortAndProject()
+	{
+		DBTable table = monsters(nameIndex());
+
+		DBQuery query = table.query().sortBy(NAME, 0);
+		assertArrayEquals(new int[]{15, 11, 12, 10}, query.rowIds());
+		assertArrayEquals(new String[]{"Cow", "Goblin", "Goblin", "Rat"}, query.strings(NAME, 0));
+
+		query = table.query().sortBy(DROPS, 0);
+		assertArrayEquals(new int[]{10, 12, 15, 11}, query.rowIds());
+		assertArrayEquals(new int[]{526, 995, 1739, -1}, query.ints(DROPS, 0));
+
+		// filters keep the sorted order, including through the index
+		assertArrayEquals(new int[]{12, 11}, query.where(NAME, "Goblin").rowIds());
+		assertArrayEquals(new int[]{12}, query.limit(1).rowIds());
+	}
+
+	@Test
+	public void testJoin()
+	{
+		DBTable monsters = monsters(nameIndex());
+
+		DBTableDefinition def = new DBTableDefinition(SLAYER);
+		def.setTypes(new ScriptVarType[][]{{ScriptVarType.DBROW}});
+		DBTable slayer = DBTable.build(def, Arrays.asList(
+			row(20, SLAYER, new Object[]{15}),
+			row(21, SLAYER, new Object[]{99}),
+			row(22, SLAYER, new Object[]{11})
+		), null);
+
+		DBQuery joined = slayer.query().join(MONSTER, 0, monsters);
+		assertEquals(monsters, joined.getTable());
+		assertArrayEquals(new int[]{15, 11}, joined.rowIds());
+		assertArrayEquals(new int[]{11}, joined.where(NAME, "Goblin").rowIds());
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLookup() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			DBTableManager tableManager = new DBTableManager(store);
+			tableManager.load();
+			DBRowManager rowManager = new DBRowManager(store);
+			rowManager.load();
+			DBTableIndexManager indexManager = new DBTableIndexManager(store);
+			indexManager.load();
+			DBTables tables = new DBTables(store);
+			tables.load();
+
+			// look up every indexed key of every table, as a filter on the first field
+			List<DBTableIndex> indexes = new ArrayList<>();
+			for (DBTableIndex index : indexManager.getIndexes())
+			{
+				if (index.getColumnId() >= 0 && tables.get(index.getTableId()) != null)
+				{
+					indexes.add(index);
+				}
+			}
+
+			for (int warmup = 0; warmup < 5; ++warmup)
+			{
+				long start = System.nanoTime();
+				long rowsTotal = 0;
+				for (DBTableIndex index : indexes)
+				{
+					for (Object key : index.getTupleIndexes().get(0).keySet())
+					{
+						rowsTotal += scan(tableManager, rowManager, index.getTableId(), index.getColumnId(), key);
+					}
+				}
+				long rowsTime = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				long tableTotal = 0;
+				for (DBTableIndex index : indexes)
+				{
+					DBTable table = tables.get(index.getTableId());
+					for (Object key : index.getTupleIndexes().get(0).keySet())
+					{
+						if (key instanceof String)
+						{
+							tableTotal += table.query().where(index.getColumnId(), (String) key).size();
+						}
+						else if (key instanceof Integer)
+						{
+							tableTotal += table.query().where(index.getColumnId(), (Integer) key).size();
+						}
+					}
+				}
+				long tableTime = System.nanoTime() - start;
+
+				assertEquals(rowsTotal, tableTotal);
+				logger.info("{} indexes: row scan {} us, table {} us", indexes.size(), rowsTime / 1000, tableTime / 1000);
+			}
+		}
+	}
+
+	// the lookup done before the columnar tables, over every row of the cache
+	private static int scan(DBTableManager tableManager, DBRowManager rowManager, int tableId, int columnId, Object key)
+	{
+		DBTableDefinition def = tableManager.get(tableId);
+		Object[] defaults = def.getDefaultColumnValues() != null ? (Object[]) def.getDefaultColumnValues()[columnId] : null;
+		int fields = def.getTypes()[columnId].length;
+
+		int count = 0;
+		for (DBRowDefinition row : rowManager.getRows())
+		{
+			if (row.getTableId() != tableId)
+			{
+				continue;
+			}
+
+			Object[][] columnValues = row.getColumnValues();
+			Object[] values = columnValues != null && columnId < columnValues.length && columnValues[columnId] != null ? columnValues[columnId] : defaults;
+			for (int i = 0; values != null && i < values.length; i += fields)
+			{
+				if (key.equals(values[i]))
+				{
+					++count;
+					break;
+				}
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ItemDefinition;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkDefinitionExporterTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testExport() throws IOException
+	{
+		// enough definitions for several chunks, in reverse order
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int i = 2000; i >= 0; --i)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.name = i == 7 ? "tab\there" : "item " + i;
+			item.cost = i * 3;
+			items.add(item);
+		}
+
+		File out = folder.newFile("items.ndjson");
+		File summary = folder.newFile("items.tsv");
+		BulkDefinitionExporter.items().export(items, out, summary, ForkJoinPool.commonPool(), 2);
+
+		List<String> lines = Files.readAllLines(out.toPath(), StandardCharsets.UTF_8);
+		assertEquals(items.size(), lines.size());
+		Gson gson = new Gson();
+		for (int i = 0; i < lines.size(); ++i)
+		{
+			ItemDefinition item = gson.fromJson(lines.get(i), ItemDefinition.class);
+			assertEquals(i, item.id);
+			assertEquals(i * 3, item.cost);
+		}
+
+		List<String> summaryLines = Files.readAllLines(summary.toPath(), StandardCharsets.UTF_8);
+		assertEquals(items.size() + 1, summaryLines.size());
+		assertEquals("id\tname\tcost\tmembers\tstackable\tnotedID\tinventoryModel", summaryLines.get(0));
+		assertEquals("5\titem 5\t15\tfalse\t0\t-1\t0", summaryLines.get(6));
+		assertEquals("7\ttab here\t21\tfalse\t0\t-1\t0", summaryLines.get(8));
+	}
+}
@@ -25,13 +25,30 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
+import net.runelite.cache.io.InputStream;
+import net.runelite.cache.util.BZip2;
+import net.runelite.cache.util.GZip;
+import net.runelite.cache.util.Xtea;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ContainerTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(ContainerTest.class);
+
+	private static final int[] KEYS = new int[]
+	{
+		4, 8, 15, 16
+	};
 
 	@Test
 	public void testCompress() throws IOException
@@ -52,4 +69,102 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		Random random = new Random(42L);
+		byte[] data = new byte[1029];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int[] keys : new int[][]{null, KEYS})
+			{
+				Container container = new Container(compression, 1234);
+				container.compress(data, keys);
+				byte[] compressedData = container.data;
+				byte[] original = compressedData.clone();
+
+				Container decompressed = Container.decompress(compressedData, keys);
+				assertArrayEquals(data, decompressed.data);
+				assertEquals(container.crc, decompressed.crc);
+				assertEquals(1234, decompressed.revision);
+				assertEquals(compression, decompressed.compression);
+				// the array api doesn't decrypt the caller's data in place
+				assertArrayEquals(original, compressedData);
+
+				// decode from the middle of a larger buffer
+				byte[] padded = new byte[compressedData.length + 16];
+				System.arraycopy(compressedData, 0, padded, 7, compressedData.length);
+				ByteBuffer buf = ByteBuffer.wrap(padded, 7, compressedData.length);
+
+				decompressed = Container.decompress(buf, keys);
+				assertArrayEquals(data, decompressed.data);
+				assertEquals(container.crc, decompressed.crc);
+				assertEquals(1234, decompressed.revision);
+				assertEquals(7, buf.position());
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkDecompress() throws IOException
+	{
+		Random random = new Random(42L);
+		// compressible data, similar in size to a config archive
+		byte[] data = new byte[64 * 1024];
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = (byte) (random.nextInt(16) * (i % 7));
+		}
+
+		for (int compression : new int[]{BZ2, GZ})
+		{
+			Container container = new Container(compression, -1);
+			container.compress(data, KEYS);
+			byte[] compressedData = container.data;
+
+			for (int warmup = 0; warmup < 5; ++warmup)
+			{
+				int iterations = 200;
+				long start = System.nanoTime();
+				for (int i = 0; i < iterations; ++i)
+				{
+					assertEquals(data.length, decompressCopying(compressedData, KEYS).length);
+				}
+				long copyingTime = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (int i = 0; i < iterations; ++i)
+				{
+					// the pipeline hands over a freshly loaded array, so no copy of the input is needed
+					ByteBuffer buf = ByteBuffer.wrap(compressedData.clone());
+					assertEquals(data.length, Container.decompress(buf, KEYS).data.length);
+				}
+				long bufferTime = System.nanoTime() - start;
+
+				logger.info("compression {}: copying {} us/archive, buffer {} us/archive",
+					compression, copyingTime / iterations / 1000, bufferTime / iterations / 1000);
+			}
+		}
+	}
+
+	// the decode done before the buffer based path, which copies the data at each step
+	private static byte[] decompressCopying(byte[] b, int[] keys) throws IOException
+	{
+		InputStream stream = new InputStream(b);
+		int compression = stream.readUnsignedByte();
+		int compressedLength = stream.readInt();
+
+		byte[] encryptedData = new byte[compressedLength + 4];
+		stream.readBytes(encryptedData);
+		byte[] decryptedData = new Xtea(keys).decrypt(encryptedData, encryptedData.length);
+
+		InputStream decryptedStream = new InputStream(decryptedData);
+		decryptedStream.readInt();
+		return compression == BZ2
+			? BZip2.decompress(decryptedStream.getRemaining(), compressedLength)
+			: GZip.decompress(decryptedStream.getRemaining(), compressedLength);
+	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.util.Djb2;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(5);
+		Archive a = index.addArchive(3);
+		Archive b = index.addArchive(1);
+		Archive c = index.addArchive(2);
+
+		a.setNameHash(Djb2.hash("m50_50"));
+		b.setNameHash(Djb2.hash("l50_50"));
+
+		Assert.assertSame(a, index.findArchiveByName("m50_50"));
+		Assert.assertSame(b, index.findArchiveByName("l50_50"));
+		Assert.assertSame(c, index.findArchiveByNameHash(0));
+		Assert.assertNull(index.findArchiveByName("m51_50"));
+
+		// the lowest archive id wins on collisions
+		c.setNameHash(Djb2.hash("m50_50"));
+		Assert.assertSame(c, index.findArchiveByName("m50_50"));
+		Assert.assertNull(index.findArchiveByNameHash(0));
+
+		Assert.assertTrue(index.removeArchive(c));
+		Assert.assertSame(a, index.findArchiveByName("m50_50"));
+
+		a.setNameHash(Djb2.hash("m51_50"));
+		Assert.assertNull(index.findArchiveByName("m50_50"));
+		Assert.assertSame(a, index.findArchiveByName("m51_50"));
+
+		Assert.assertTrue(index.removeArchive(a));
+		Assert.assertFalse(index.removeArchive(a));
+		Assert.assertNull(index.findArchiveByName("m51_50"));
+	}
+
+	@Test
+	public void testFindFileByName()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 4; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setNameHash(Djb2.hash("file" + i));
+			files.addFile(file);
+		}
+
+		Assert.assertEquals(2, files.findFileByName("file2").getFileId());
+		Assert.assertNull(files.findFileByName("file4"));
+
+		FSFile file = new FSFile(4);
+		file.setNameHash(Djb2.hash("file4"));
+		files.addFile(file);
+		Assert.assertSame(file, files.findFileByName("file4"));
+	}
+}
@@ -26,8 +26,16 @@ package net.runelite.cache.fs;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -151,4 +159,91 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testLoadArchives() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(0);
+
+			for (int i = 0; i < 16; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[2]);
+
+				ArchiveFiles files = new ArchiveFiles();
+				for (int j = 0; j < 2; ++j)
+				{
+					FileData fileData = archive.getFileData()[j] = new FileData();
+					fileData.setId(j);
+
+					FSFile file = new FSFile(j);
+					file.setContents(("archive " + i + " file " + j).getBytes());
+					files.addFile(file);
+				}
+
+				Container container = new Container(CompressionType.GZ, -1);
+				container.compress(files.saveContents(), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(root, true)))
+		{
+			store.load();
+
+			List<String> contents = new ArrayList<>();
+			store.loadArchives(store.findIndex(0).getArchives(), null,
+				(archive, files) -> new String(files.findFile(1).getContents()),
+				(archive, str) -> contents.add(str),
+				executor, 2);
+
+			Assert.assertEquals(16, contents.size());
+			for (int i = 0; i < 16; ++i)
+			{
+				Assert.assertEquals("archive " + i + " file 1", contents.get(i));
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testLoadEncryptedArchivesTwice() throws IOException
+	{
+		int[] keys = {1, 2, 3, 4};
+
+		// flat storage holds the archives in memory, so decrypting them in place would corrupt them
+		try (Store store = new Store(new FlatStorage(folder.newFolder())))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[1]);
+			archive.getFileData()[0] = new FileData();
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress("encrypted".getBytes(), keys);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+
+			for (int i = 0; i < 2; ++i)
+			{
+				List<String> contents = new ArrayList<>();
+				store.loadArchives(index.getArchives(), a -> keys,
+					(a, files) -> new String(files.findFile(0).getContents()),
+					(a, str) -> contents.add(str));
+
+				Assert.assertEquals(Collections.singletonList("encrypted"), contents);
+			}
+		}
+	}
 }
@@ -167,4 +167,29 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		byte[] b = new byte[2048];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+		DataFileWriteResult res, res2;
+		try (DataFile df = new DataFile(file))
+		{
+			res = df.write(42, 3, b);
+			res2 = df.write(42, 0x1FFFF, b);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertArrayEquals(b, df.read(42, 3, res.sector, res.compressedLength));
+			Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res2.sector, res2.compressedLength));
+			Assert.assertNull(df.read(41, 3, res.sector, res.compressedLength));
+		}
+	}
 }
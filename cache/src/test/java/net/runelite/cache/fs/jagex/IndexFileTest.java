@@ -47,4 +47,23 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		try (IndexFile index = new IndexFile(5, file))
+		{
+			index.write(new IndexEntry(index, 7, 8, 9));
+		}
+
+		try (IndexFile index = new IndexFile(5, file, true))
+		{
+			Assert.assertEquals(8, index.getIndexCount());
+			IndexEntry entry = index.read(7);
+			Assert.assertEquals(8, entry.getSector());
+			Assert.assertEquals(9, entry.getLength());
+			Assert.assertNull(index.read(8));
+		}
+	}
 }
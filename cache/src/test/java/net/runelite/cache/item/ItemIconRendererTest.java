@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemIconRendererTest
+{
+	private static final int CUBE = 0;
+	private static final int NOTE = 1;
+
+	private static final int BOX = 100;
+	private static final int BOX_NOTE = 101;
+	private static final int NOTE_TEMPLATE = 102;
+	private static final int BIG_RED_BOX = 103;
+
+	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final ItemProvider itemProvider = items::get;
+	private final ModelProvider modelProvider = ItemIconRendererTest::model;
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	@Before
+	public void before()
+	{
+		ItemDefinition box = item(BOX, CUBE);
+		box.xan2d = 300;
+		box.yan2d = 200;
+
+		ItemDefinition template = item(NOTE_TEMPLATE, NOTE);
+		ItemDefinition note = item(BOX_NOTE, -1);
+		note.notedID = BOX;
+		note.notedTemplate = NOTE_TEMPLATE;
+		note.linkNote(template, box);
+
+		ItemDefinition bigRedBox = item(BIG_RED_BOX, CUBE);
+		bigRedBox.resizeX = bigRedBox.resizeY = bigRedBox.resizeZ = 160;
+		bigRedBox.colorFind = new short[]{1000};
+		bigRedBox.colorReplace = new short[]{30000};
+	}
+
+	@Test
+	public void testRendersLikeSingleIcons() throws IOException
+	{
+		ItemIconRenderer renderer = new ItemIconRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+
+		// render the modified box in between, so a change to the shared cube model would show up
+		for (int itemId : new int[]{BOX, BIG_RED_BOX, BOX_NOTE, BOX})
+		{
+			BufferedImage expected = LegacyItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				itemId, 1, 1, 3153952, false);
+			assertArrayEquals(pixels(expected), pixels(renderer.createSprite(itemId, 1, 1, 3153952, false)));
+			assertArrayEquals(pixels(expected), pixels(ItemSpriteFactory.createSprite(itemProvider, modelProvider,
+				spriteProvider, textureProvider, itemId, 1, 1, 3153952, false)));
+		}
+
+		assertNotEquals(Arrays.hashCode(pixels(renderer.createSprite(BOX, 1, 1, 0, false))),
+			Arrays.hashCode(pixels(renderer.createSprite(BIG_RED_BOX, 1, 1, 0, false))));
+	}
+
+	@Test
+	public void testRenderAtlas() throws IOException
+	{
+		ItemIconRenderer renderer = new ItemIconRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		List<Integer> itemIds = Arrays.asList(BOX, BOX_NOTE, 9999, BIG_RED_BOX, BOX);
+
+		Map<Integer, BufferedImage> icons = new HashMap<>();
+		int count = renderer.renderIcons(itemIds, 1, 1, 0, ForkJoinPool.commonPool(), (itemId, icon) ->
+		{
+			synchronized (icons)
+			{
+				icons.put(itemId, icon);
+			}
+		});
+		// the unknown item is skipped
+		assertEquals(4, count);
+
+		BufferedImage atlas = renderer.renderAtlas(itemIds, 2, 1, 1, 0, ForkJoinPool.commonPool());
+		assertEquals(2 * ItemIconRenderer.WIDTH, atlas.getWidth());
+		assertEquals(3 * ItemIconRenderer.HEIGHT, atlas.getHeight());
+
+		for (int i = 0; i < itemIds.size(); ++i)
+		{
+			int x = (i % 2) * ItemIconRenderer.WIDTH;
+			int y = (i / 2) * ItemIconRenderer.HEIGHT;
+			int[] cell = atlas.getRGB(x, y, ItemIconRenderer.WIDTH, ItemIconRenderer.HEIGHT, null, 0, ItemIconRenderer.WIDTH);
+
+			BufferedImage icon = icons.get(itemIds.get(i));
+			assertArrayEquals(icon != null ? pixels(icon) : new int[cell.length], cell);
+		}
+	}
+
+	private ItemDefinition item(int id, int model)
+	{
+		ItemDefinition item = new ItemDefinition(id);
+		item.name = "item " + id;
+		item.inventoryModel = model;
+		item.zoom2d = 2000;
+		items.put(id, item);
+		return item;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		assertNotNull(image);
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+
+	// a cube, or a flat card for the note template
+	private static ModelDefinition model(int modelId)
+	{
+		if (modelId != CUBE && modelId != NOTE)
+		{
+			return null;
+		}
+
+		int depth = modelId == NOTE ? 2 : 30;
+		ModelDefinition model = new ModelDefinition();
+		model.id = modelId;
+		model.vertexCount = 8;
+		model.vertexX = new int[]{-30, 30, 30, -30, -30, 30, 30, -30};
+		model.vertexY = new int[]{-30, -30, 30, 30, -30, -30, 30, 30};
+		model.vertexZ = new int[]{-depth, -depth, -depth, -depth, depth, depth, depth, depth};
+		model.faceCount = 12;
+		model.faceIndices1 = new int[]{0, 0, 4, 4, 0, 0, 3, 3, 0, 0, 1, 1};
+		model.faceIndices2 = new int[]{2, 3, 5, 6, 1, 5, 7, 6, 3, 7, 2, 6};
+		model.faceIndices3 = new int[]{1, 2, 6, 7, 5, 4, 6, 2, 7, 4, 6, 5};
+		model.faceColors = new short[12];
+		for (int i = 0; i < 12; ++i)
+		{
+			model.faceColors[i] = (short) (modelId == NOTE ? 8000 : 1000 + (i / 2) * 5000);
+		}
+		return model;
+	}
+}
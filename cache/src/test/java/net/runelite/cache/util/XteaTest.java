@@ -24,8 +24,11 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class XteaTest
@@ -53,4 +56,30 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		// the same data as above, at an offset within a larger buffer
+		byte[] data = new byte[encrypted.length + 6];
+		System.arraycopy("testtesttest1".getBytes(StandardCharsets.UTF_8), 0, data, 3, encrypted.length);
+		ByteBuffer buf = ByteBuffer.wrap(data);
+
+		Xtea xtea = new Xtea(key);
+		xtea.encrypt(buf, 3, encrypted.length);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(data, 3, 3 + encrypted.length));
+
+		xtea.decrypt(buf, 3, encrypted.length);
+		assertArrayEquals("testtesttest1".getBytes(StandardCharsets.UTF_8), Arrays.copyOfRange(data, 3, 3 + encrypted.length));
+		assertEquals(0, buf.position());
+	}
 }
@@ -34,6 +34,7 @@ plugins {
 
     id("net.runelite.runelite-gradle-plugin.assemble")
     id("net.runelite.runelite-gradle-plugin.index")
+    id("net.runelite.runelite-gradle-plugin.plugin-index")
     id("net.runelite.runelite-gradle-plugin.jarsign")
 }
 
@@ -37,7 +37,6 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import javax.inject.Named;
@@ -56,7 +55,9 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.MonitoredScheduledExecutor;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.task.TaskMonitor;
 import net.runelite.client.util.DeferredEventBus;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.http.api.RuneLiteAPI;
@@ -66,6 +67,8 @@ import okhttp3.OkHttpClient;
 @AllArgsConstructor
 public class RuneLiteModule extends AbstractModule
 {
+	private static final int IO_THREADS = 4;
+
 	private final OkHttpClient bootupHttpClient;
 	private final Supplier<Client> clientLoader;
 	private final RuntimeConfigLoader configLoader;
@@ -125,7 +128,18 @@ public class RuneLiteModule extends AbstractModule
 		bindConstant().annotatedWith(Names.named("insecureWriteCredentials")).to(insecureWriteCredentials);
 		bindConstant().annotatedWith(Names.named("noupdate")).to(noupdate);
 		bind(File.class).annotatedWith(Names.named("runeLiteDir")).toInstance(RuneLite.RUNELITE_DIR);
-		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
+
+		TaskMonitor taskMonitor = new TaskMonitor();
+		bind(TaskMonitor.class).toInstance(taskMonitor);
+		// the default executor is single threaded, since many of its users rely on their tasks not overlapping
+		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(
+			new MonitoredScheduledExecutor("executor", 1, Thread.NORM_PRIORITY, taskMonitor)));
+		bind(ScheduledExecutorService.class).annotatedWith(Names.named("ioExecutor")).toInstance(new ExecutorServiceExceptionLogger(
+			new MonitoredScheduledExecutor("io", IO_THREADS, Thread.NORM_PRIORITY, taskMonitor)));
+		// cpu bound work runs below normal priority so it doesn't compete with the client and render threads
+		bind(ScheduledExecutorService.class).annotatedWith(Names.named("cpuExecutor")).toInstance(new ExecutorServiceExceptionLogger(
+			new MonitoredScheduledExecutor("cpu", Math.max(1, Runtime.getRuntime().availableProcessors() / 2), Thread.NORM_PRIORITY - 1, taskMonitor)));
+
 		bind(RuntimeConfigLoader.class).toInstance(configLoader);
 		bind(RuntimeConfigRefresher.class).asEagerSingleton();
 		bind(MenuManager.class);
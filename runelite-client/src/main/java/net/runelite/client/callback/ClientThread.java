@@ -31,6 +31,7 @@ import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.profiler.Profiler;
 
 @Singleton
 @Slf4j
@@ -42,6 +43,9 @@ public class ClientThread
 	@Inject
 	private Client client;
 
+	@Inject
+	private Profiler profiler;
+
 	public void invoke(Runnable r)
 	{
 		invoke(() ->
@@ -109,11 +113,13 @@ public class ClientThread
 	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
 	{
 		assert client.isClientThread();
+		final boolean profile = profiler.isEnabled();
 		Iterator<BooleanSupplier> ir = invokes.iterator();
 		while (ir.hasNext())
 		{
 			BooleanSupplier r = ir.next();
 			boolean remove = true;
+			final long start = profile ? System.nanoTime() : 0L;
 			try
 			{
 				remove = r.getAsBoolean();
@@ -126,6 +132,11 @@ public class ClientThread
 			{
 				log.error("Exception in invoke", e);
 			}
+			if (profile)
+			{
+				// invokes are mostly one-off lambdas, so they are grouped by the class they were declared in
+				profiler.record(Profiler.INVOKE, r.getClass(), start);
+			}
 			if (remove)
 			{
 				ir.remove();
@@ -24,6 +24,8 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,40 +33,79 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigData
 {
+	// journal size past which it is folded back into the properties file
+	private static final long COMPACT_THRESHOLD = 512 * 1024;
+	private static final int JOURNAL_MAGIC = 0x524c434a; // RLCJ
+	private static final int JOURNAL_HEADER_SIZE = 20;
+	// the .lck file locks can't overlap within one process, so all of them are taken under this
+	private static final Object FILE_LOCK = new Object();
+
 	private final File configPath;
+	private final File journalPath;
+	private final boolean journaled;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the property keys, for prefix queries
+	private final ConcurrentSkipListSet<String> keyIndex;
 	private Map<String, String> patchChanges = new HashMap<>();
+	// length of the valid header and records in the journal, as of the last time this client read or wrote it
+	private volatile long journalLength;
 
 	ConfigData(File configPath)
+	{
+		this(configPath, false);
+	}
+
+	/**
+	 * @param journaled whether to save patches by appending them to a journal next to the properties
+	 *                  file instead of rewriting the whole file
+	 */
+	ConfigData(File configPath, boolean journaled)
 	{
 		this.configPath = configPath;
+		this.journalPath = journalFile(configPath);
+		this.journaled = journaled;
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		try
 		{
+			if (journalPath.exists())
+			{
+				// the properties file is only consistent with the journal while holding the lock
+				locked(() ->
+				{
+					loadProperties(props);
+					journalLength = replayJournal(props);
+				});
+			}
+			else
+			{
+				loadProperties(props);
+			}
 		}
 		catch (Exception ex)
 		{
@@ -73,6 +114,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		keyIndex = new ConcurrentSkipListSet<>(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +125,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			keyIndex.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +141,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			keyIndex.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +151,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		keyIndex.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +159,23 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with the given prefix, in sorted order
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		List<String> keys = new ArrayList<>();
+		for (String key : keyIndex.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -130,75 +195,334 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
-		// multiple clients editing one config data (such as rs profile config) get their data merged
-		// correctly
+		try
+		{
+			locked(() ->
+			{
+				if (journaled && (configPath.exists() || journalPath.exists()))
+				{
+					appendJournal(patch);
+				}
+				else
+				{
+					rewrite(patch);
+				}
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+	}
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+	boolean isCompactionDue()
+	{
+		return journaled && journalLength > COMPACT_THRESHOLD;
+	}
+
+	/**
+	 * Fold the journal into the properties file
+	 */
+	void compact()
+	{
+		try
 		{
-			lckChannel.lock();
+			locked(() ->
+			{
+				if (journalPath.exists())
+				{
+					log.debug("compacting config journal {}", journalPath);
+					rewrite(Collections.emptyMap());
+				}
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration journal", ex);
+		}
+	}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	private void locked(LockedAction action) throws IOException
+	{
+		synchronized (FILE_LOCK)
+		{
+			File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
 			{
-				tempProps.load(reader);
+				lckChannel.lock();
+				action.run();
 			}
-			catch (FileNotFoundException e)
+			finally
 			{
-				log.debug("config file {} does not exist", configPath);
+				lckFile.delete();
 			}
+		}
+	}
+
+	private void loadProperties(Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+	}
 
-			if (tempProps.isEmpty())
+	private void rewrite(Map<String, String> patch) throws IOException
+	{
+		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// multiple clients editing one config data (such as rs profile config) get their data merged
+		// correctly
+
+		Properties tempProps = new Properties();
+		loadProperties(tempProps);
+		replayJournal(tempProps);
+
+		if (tempProps.isEmpty())
+		{
+			// this probably doesn't happen outside of the very first save (when no file exists)
+			// but to be safe in the event the prop is deleted off disk, flush the entire properties
+			// from memory
+			tempProps.putAll(properties);
+		}
+		else
+		{
+			// apply patches
+			for (Map.Entry<String, String> entry : patch.entrySet())
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				if (entry.getValue() == null)
+				{
+					tempProps.remove(entry.getKey());
+				}
+				else
+				{
+					tempProps.put(entry.getKey(), entry.getValue());
+				}
 			}
-			else
+		}
+
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			tempProps.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		// the journal is now part of the properties file. If this is interrupted before the journal is
+		// deleted, the journal no longer matches the properties file and is discarded on the next load.
+		Files.deleteIfExists(journalPath.toPath());
+		journalLength = 0;
+	}
+
+	private void appendJournal(Map<String, String> patch) throws IOException
+	{
+		ByteBuffer record = ByteBuffer.wrap(encodeRecord(patch));
+		try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+		{
+			long length = journalLength;
+			if (channel.size() != length)
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				// another client has appended to or compacted the journal, or a previous append was
+				// interrupted. Find the end of the valid records and drop anything after it.
+				length = replayJournal(new Properties());
+				if (channel.size() > length)
 				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
+					channel.truncate(length);
 				}
 			}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+			long position = length;
+			if (position == 0)
+			{
+				ByteBuffer header = encodeHeader();
+				while (header.hasRemaining())
+				{
+					position += channel.write(header, position);
+				}
+			}
+
+			while (record.hasRemaining())
+			{
+				position += channel.write(record, position);
+			}
+			channel.force(false);
+			journalLength = position;
+		}
+	}
+
+	/*
+	 * The journal starts with a header of:
+	 * int magic
+	 * long length of the properties file the journal applies to
+	 * long last modified time of the properties file
+	 *
+	 * Clients which don't know about the journal (such as an older client after a downgrade) rewrite
+	 * the properties file without folding the journal into it and without deleting it. The journal
+	 * is only replayed over the properties file it was started against, so that it doesn't replace
+	 * newer values written by such a client. The changes in the journal are lost in that case.
+	 *
+	 * This is followed by records of:
+	 * int length
+	 * int crc32 of the body
+	 * body: int count, followed by count key and value strings
+	 *
+	 * Strings are an int byte length followed by UTF-8, or a length of -1 for an unset value.
+	 */
+	private static byte[] encodeRecord(Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(0);
+		out.writeInt(0);
+		out.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+
+		byte[] record = bout.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(record, 8, record.length - 8);
+		ByteBuffer.wrap(record)
+			.putInt(record.length - 8)
+			.putInt((int) crc.getValue());
+		return record;
+	}
+
+	private ByteBuffer encodeHeader()
+	{
+		ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE)
+			.putInt(JOURNAL_MAGIC)
+			.putLong(configPath.length())
+			.putLong(configPath.lastModified());
+		header.flip();
+		return header;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	/**
+	 * Apply the journal to the given properties
+	 *
+	 * @return the length of the valid records in the journal
+	 */
+	private long replayJournal(Properties props) throws IOException
+	{
+		byte[] journal;
+		try
+		{
+			journal = Files.readAllBytes(journalPath.toPath());
+		}
+		catch (NoSuchFileException e)
+		{
+			return 0;
+		}
+
+		ByteBuffer buf = ByteBuffer.wrap(journal);
+		if (journal.length < JOURNAL_HEADER_SIZE
+			|| buf.getInt() != JOURNAL_MAGIC
+			|| buf.getLong() != configPath.length()
+			|| buf.getLong() != configPath.lastModified())
+		{
+			log.warn("config journal {} does not match {}, discarding it", journalPath, configPath);
+			return 0;
+		}
+
+		CRC32 crc = new CRC32();
+		int end = JOURNAL_HEADER_SIZE;
+		while (buf.remaining() >= 8)
+		{
+			int length = buf.getInt();
+			int checksum = buf.getInt();
+			if (length < 4 || length > buf.remaining())
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				break;
 			}
 
-			try
+			crc.reset();
+			crc.update(journal, buf.position(), length);
+			if ((int) crc.getValue() != checksum)
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				break;
 			}
-			catch (AtomicMoveNotSupportedException ex)
+
+			int count = buf.getInt();
+			for (int i = 0; i < count; ++i)
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				String key = readString(buf);
+				String value = readString(buf);
+				if (value == null)
+				{
+					props.remove(key);
+				}
+				else
+				{
+					props.put(key, value);
+				}
 			}
+
+			end += 8 + length;
+			buf.position(end);
 		}
-		catch (IOException ex)
+
+		if (end != journal.length)
 		{
-			log.error("unable to save configuration file", ex);
+			log.warn("config journal {} has {} bytes of trailing data", journalPath, journal.length - end);
 		}
-		lckFile.delete();
+		return end;
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		if (length == -1)
+		{
+			return null;
+		}
+
+		String s = new String(buf.array(), buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return s;
+	}
+
+	private interface LockedAction
+	{
+		void run() throws IOException;
 	}
 }
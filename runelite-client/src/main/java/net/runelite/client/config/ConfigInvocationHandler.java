@@ -24,14 +24,21 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
+/**
+ * Invocation handler for the proxies of a single config interface. Each {@link ConfigItem} getter has a
+ * precomputed {@link Getter} which holds its converted value until its key is changed.
+ */
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
@@ -39,30 +46,50 @@ class ConfigInvocationHandler implements InvocationHandler
 	private static final Object NULL = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	private final Class<?> iface;
+	private final ConfigGroup group;
+	private final Map<Method, Getter> getters;
 
-	ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface)
 	{
 		this.manager = manager;
+		this.iface = iface;
+		this.group = iface.getAnnotation(ConfigGroup.class);
+
+		ImmutableMap.Builder<Method, Getter> builder = ImmutableMap.builder();
+		if (group != null)
+		{
+			for (Method method : iface.getMethods())
+			{
+				ConfigItem item = method.getAnnotation(ConfigItem.class);
+				if (item != null && method.getParameterCount() == 0)
+				{
+					builder.put(method, new Getter(method, item.keyName()));
+				}
+			}
+		}
+		getters = builder.build();
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			Getter getter = getters.get(method);
+			if (getter != null)
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				// Use cached configuration value if available
+				Object cachedValue = getter.value.get();
+				if (!(cachedValue instanceof Unset))
+				{
+					return cachedValue == NULL ? null : cachedValue;
+				}
+
+				return getter.load(proxy, (Unset) cachedValue);
 			}
 		}
 
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
-
 		if ("toString".equals(method.getName()) && args == null)
 		{
 			return iface.getSimpleName();
@@ -78,7 +105,6 @@ class ConfigInvocationHandler implements InvocationHandler
 			return proxy == args[0];
 		}
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
 		ConfigItem item = method.getAnnotation(ConfigItem.class);
 
 		if (group == null)
@@ -95,98 +121,156 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			// getters are all precomputed in the constructor
+			log.warn("Configuration method {} is not a member of {}", method, iface);
+			return null;
+		}
 
-			// Getting configuration item
-			String value = manager.getConfiguration(group.value(), item.keyName());
+		// Setting a configuration value
 
-			if (value == null)
-			{
-				if (method.isDefault())
-				{
-					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
-					return defaultValue;
-				}
+		if (args.length != 1)
+		{
+			throw new RuntimeException("Invalid number of arguments to configuration method");
+		}
 
-				cache.put(method, NULL);
-				return null;
-			}
+		Object newValue = args[0];
 
-			// Convert value to return type
-			try
-			{
-				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
-				return objectValue;
-			}
-			catch (Exception e)
+		Class<?> type = method.getParameterTypes()[0];
+		Object oldValue = manager.getConfiguration(group.value(), item.keyName(), type);
+
+		if (Objects.equals(oldValue, newValue))
+		{
+			// nothing to do
+			return null;
+		}
+
+		if (method.isDefault())
+		{
+			Object defaultValue = callDefaultMethod(proxy, method, args);
+
+			if (Objects.equals(newValue, defaultValue))
 			{
-				log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
-				if (method.isDefault())
-				{
-					return callDefaultMethod(proxy, method, null);
-				}
+				// Just unset if it goes back to the default
+				manager.unsetConfiguration(group.value(), item.keyName());
 				return null;
 			}
 		}
+
+		if (newValue == null)
+		{
+			manager.unsetConfiguration(group.value(), item.keyName());
+		}
 		else
 		{
-			// Setting a configuration value
+			String newValueStr = manager.objectToString(newValue);
+			manager.setConfiguration(group.value(), item.keyName(), newValueStr);
+		}
+		return null;
+	}
+
+	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		Class<?> declaringClass = method.getDeclaringClass();
+		return ReflectUtil.privateLookupIn(declaringClass)
+			.unreflectSpecial(method, declaringClass)
+			.bindTo(proxy)
+			.invokeWithArguments(args);
+	}
+
+	String getGroup()
+	{
+		return group == null ? null : group.value();
+	}
 
-			if (args.length != 1)
+	/**
+	 * Invalidate the cached values of the getters for the given key
+	 */
+	void invalidate(String key)
+	{
+		for (Getter getter : getters.values())
+		{
+			if (getter.keyName.equals(key))
 			{
-				throw new RuntimeException("Invalid number of arguments to configuration method");
+				log.trace("cache invalidate {}.{}", group.value(), key);
+				getter.value.set(new Unset());
 			}
+		}
+	}
 
-			Object newValue = args[0];
+	void invalidate()
+	{
+		log.trace("cache invalidate {}", iface.getSimpleName());
+		for (Getter getter : getters.values())
+		{
+			getter.value.set(new Unset());
+		}
+	}
 
-			Class<?> type = method.getParameterTypes()[0];
-			Object oldValue = manager.getConfiguration(group.value(), item.keyName(), type);
+	/**
+	 * Marks a getter as having no cached value. A fresh instance is used for every invalidation
+	 * so that a load racing an invalidation can't store its stale value over the new marker.
+	 */
+	private static final class Unset
+	{
+	}
+
+	private final class Getter
+	{
+		private final Method method;
+		private final String keyName;
+		private final Type type;
+		private final AtomicReference<Object> value = new AtomicReference<>(new Unset());
+		private volatile MethodHandle defaultMethod;
 
-			if (Objects.equals(oldValue, newValue))
+		private Getter(Method method, String keyName)
+		{
+			this.method = method;
+			this.keyName = keyName;
+			this.type = method.getGenericReturnType();
+		}
+
+		private Object load(Object proxy, Unset token) throws Throwable
+		{
+			log.trace("cache miss (group: {}, key: {})", group.value(), keyName);
+
+			// Getting configuration item
+			String value = manager.getConfiguration(group.value(), keyName);
+
+			if (value == null)
 			{
-				// nothing to do
-				return null;
+				Object defaultValue = method.isDefault() ? callDefault(proxy) : null;
+				this.value.compareAndSet(token, defaultValue == null ? NULL : defaultValue);
+				return defaultValue;
 			}
 
-			if (method.isDefault())
+			// Convert value to return type
+			try
 			{
-				Object defaultValue = callDefaultMethod(proxy, method, args);
-
-				if (Objects.equals(newValue, defaultValue))
+				Object objectValue = manager.stringToObject(value, type);
+				this.value.compareAndSet(token, objectValue == null ? NULL : objectValue);
+				return objectValue;
+			}
+			catch (Exception e)
+			{
+				log.warn("Unable to unmarshal {}.{} ", group.value(), keyName, e);
+				if (method.isDefault())
 				{
-					// Just unset if it goes back to the default
-					manager.unsetConfiguration(group.value(), item.keyName());
-					return null;
+					return callDefault(proxy);
 				}
+				return null;
 			}
+		}
 
-			if (newValue == null)
-			{
-				manager.unsetConfiguration(group.value(), item.keyName());
-			}
-			else
+		private Object callDefault(Object proxy) throws Throwable
+		{
+			MethodHandle handle = defaultMethod;
+			if (handle == null)
 			{
-				String newValueStr = manager.objectToString(newValue);
-				manager.setConfiguration(group.value(), item.keyName(), newValueStr);
+				Class<?> declaringClass = method.getDeclaringClass();
+				defaultMethod = handle = ReflectUtil.privateLookupIn(declaringClass)
+					.unreflectSpecial(method, declaringClass);
 			}
-			return null;
+			return handle.invoke(proxy);
 		}
 	}
-
-	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
-	{
-		Class<?> declaringClass = method.getDeclaringClass();
-		return ReflectUtil.privateLookupIn(declaringClass)
-			.unreflectSpecial(method, declaringClass)
-			.bindTo(proxy)
-			.invokeWithArguments(args);
-	}
-
-	void invalidate()
-	{
-		log.trace("cache invalidate");
-		cache.invalidateAll();
-	}
 }
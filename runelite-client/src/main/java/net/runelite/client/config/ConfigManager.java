@@ -28,6 +28,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
 import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.MapMaker;
 import com.google.gson.Gson;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -119,7 +120,9 @@ public class ConfigManager
 	private final ProfileManager profileManager;
 	private final SessionManager sessionManager;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	// handlers are held by their proxies, so a handler and its config class are released along with the
+	// plugin's class loader once no proxy of the config is left
+	private final Map<Class<?>, ConfigInvocationHandler> handlers = new MapMaker().weakKeys().weakValues().makeMap();
 
 	@Getter
 	private ConfigProfile profile;
@@ -200,7 +203,7 @@ public class ConfigManager
 		ConfigData oldData;
 		synchronized (this)
 		{
-			handler.invalidate();
+			handlers.values().forEach(ConfigInvocationHandler::invalidate);
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
@@ -368,7 +371,7 @@ public class ConfigManager
 
 				if (rsProfileConfigProfile == null)
 				{
-					rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile));
+					rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile), true);
 				}
 
 				importAndMigrate(lock, configFile, targetProfile);
@@ -551,7 +554,7 @@ public class ConfigManager
 			syncRemote(lock, rsProfile, remoteProfiles);
 
 			this.rsProfile = rsProfile;
-			rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile));
+			rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile), true);
 
 			final String launcherDisplayName = client.getLauncherDisplayName();
 			// --profile
@@ -737,6 +740,7 @@ public class ConfigManager
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
 				configFile.delete();
+				ConfigData.journalFile(configFile).delete();
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -760,6 +764,7 @@ public class ConfigManager
 			throw new RuntimeException("Non-public configuration classes can't have default methods invoked");
 		}
 
+		ConfigInvocationHandler handler = handlers.computeIfAbsent(clazz, c -> new ConfigInvocationHandler(this, c));
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
@@ -770,9 +775,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -785,8 +788,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -889,7 +891,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidate(configData, groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -966,6 +968,23 @@ public class ConfigManager
 		}
 		setConfiguration(groupName, rsProfileKey, key, value);
 	}
+
+	private void invalidate(ConfigData configData, String groupName, String profile, String key)
+	{
+		// config proxies only read from the non-rsprofile configuration
+		if (profile != null || configData != configProfile)
+		{
+			return;
+		}
+
+		for (ConfigInvocationHandler handler : handlers.values())
+		{
+			if (groupName.equals(handler.getGroup()))
+			{
+				handler.invalidate(key);
+			}
+		}
+	}
 	// endregion
 
 	// region unset configuration
@@ -981,7 +1000,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidate(configData, groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1435,6 +1454,11 @@ public class ConfigManager
 		}
 
 		data.patch(patch);
+
+		if (data.isCompactionDue())
+		{
+			executor.execute(data::compact);
+		}
 	}
 
 	private static ConfigPatch buildConfigPatch(@Nullable String profileName, Map<String, String> patchChanges)
@@ -1462,13 +1486,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -214,6 +214,16 @@ public class ProfileManager
 					StandardCopyOption.REPLACE_EXISTING
 				);
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
+
+				File oldJournal = ConfigData.journalFile(oldFile);
+				if (oldJournal.exists())
+				{
+					Files.move(
+						oldJournal.toPath(),
+						ConfigData.journalFile(newFile).toPath(),
+						StandardCopyOption.REPLACE_EXISTING
+					);
+				}
 			}
 			catch (IOException e)
 			{
@@ -26,8 +26,8 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,14 +35,26 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.Profiler;
 import net.runelite.client.util.ReflectUtil;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
@@ -62,6 +74,11 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@NonFinal
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		net.runelite.client.profiler.CallSite callSite;
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +93,24 @@ public class EventBus
 		}
 	}
 
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event class, in invocation order. The arrays are never modified once published,
+	 * registration replaces the array of only the event classes it touches.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Profiler to record subscriber calls to, or null if this bus isn't profiled
+	 */
+	@Inject
+	@Setter
+	private Profiler profiler;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +129,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final Multimap<Class<?>, Subscriber> added = ArrayListMultimap.create();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,27 +187,89 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.put(parameterClazz, subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		for (Map.Entry<Class<?>, Collection<Subscriber>> entry : added.asMap().entrySet())
+		{
+			add(entry.getKey(), entry.getValue());
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+		add(clazz, Collections.singletonList(sub));
+		return sub;
+	}
 
-		subscribers = builder.build();
+	private void add(Class<?> clazz, Collection<Subscriber> added)
+	{
+		Subscriber[] subs = subscribers.getOrDefault(clazz, EMPTY);
+		for (Subscriber sub : added)
+		{
+			// insert after any subscribers which compare equal, so that equal subscribers run in registration order
+			int lo = 0, hi = subs.length;
+			while (lo < hi)
+			{
+				int mid = (lo + hi) >>> 1;
+				if (ORDER.compare(subs[mid], sub) <= 0)
+				{
+					lo = mid + 1;
+				}
+				else
+				{
+					hi = mid;
+				}
+			}
 
-		return sub;
+			Subscriber[] n = new Subscriber[subs.length + 1];
+			System.arraycopy(subs, 0, n, 0, lo);
+			n[lo] = sub;
+			System.arraycopy(subs, lo, n, lo + 1, subs.length - lo);
+			subs = n;
+		}
+		subscribers.put(clazz, subs);
+	}
+
+	private void remove(Predicate<Subscriber> filter)
+	{
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			Subscriber[] subs = entry.getValue();
+			int count = 0;
+			for (Subscriber sub : subs)
+			{
+				if (!filter.test(sub))
+				{
+					++count;
+				}
+			}
+
+			if (count == subs.length)
+			{
+				continue;
+			}
+
+			if (count == 0)
+			{
+				subscribers.remove(entry.getKey());
+				continue;
+			}
+
+			Subscriber[] n = new Subscriber[count];
+			int i = 0;
+			for (Subscriber sub : subs)
+			{
+				if (!filter.test(sub))
+				{
+					n[i++] = sub;
+				}
+			}
+			entry.setValue(n);
+		}
 	}
 
 	/**
@@ -189,10 +279,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		remove(s -> s.getObject() == object);
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +289,7 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		remove(s -> s == sub);
 	}
 
 	/**
@@ -216,8 +300,17 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		final Profiler profiler = this.profiler;
+		final boolean profile = profiler != null && profiler.isEnabled();
+		for (final Subscriber subscriber : subs)
 		{
+			final long start = profile ? System.nanoTime() : 0L;
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +319,15 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			if (profile)
+			{
+				if (subscriber.callSite == null)
+				{
+					subscriber.callSite = profiler.getCallSite(Profiler.EVENT, subscriber);
+				}
+				profiler.record(subscriber.callSite, start);
+			}
 		}
 	}
 }
@@ -48,6 +48,9 @@ public class ItemClient
 	private final OkHttpClient client;
 	private final HttpUrl apiBase, staticBase;
 	private final Gson gson;
+	// validators of the last prices response, to only download the prices again once they change
+	private String pricesETag;
+	private String pricesLastModified;
 
 	@Inject
 	private ItemClient(OkHttpClient client,
@@ -62,7 +65,14 @@ public class ItemClient
 		this.gson = gson;
 	}
 
-	public ItemPrice[] getPrices() throws IOException
+	/**
+	 * Get the item prices. After the first successful call the request is conditional on the prices
+	 * having changed since, using the ETag and Last-Modified of the previous response.
+	 *
+	 * @return the item prices, or null if they are unchanged since the last call
+	 * @throws IOException if the prices couldn't be looked up
+	 */
+	public synchronized ItemPrice[] getPrices() throws IOException
 	{
 		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
 			.addPathSegment("item")
@@ -72,20 +82,34 @@ public class ItemClient
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder requestBuilder = new Request.Builder()
+			.url(url);
+		if (pricesETag != null)
+		{
+			requestBuilder.header("If-None-Match", pricesETag);
+		}
+		if (pricesLastModified != null)
+		{
+			requestBuilder.header("If-Modified-Since", pricesLastModified);
+		}
 
-		try (Response response = client.newCall(request).execute())
+		try (Response response = client.newCall(requestBuilder.build()).execute())
 		{
-			if (!response.isSuccessful())
+			if (response.code() == 304)
 			{
-				log.warn("Error looking up prices: {}", response);
 				return null;
 			}
 
+			if (!response.isSuccessful())
+			{
+				throw new IOException("Error looking up prices: " + response);
+			}
+
 			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			ItemPrice[] prices = gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			pricesETag = response.header("ETag");
+			pricesLastModified = response.header("Last-Modified");
+			return prices;
 		}
 		catch (JsonParseException ex)
 		{
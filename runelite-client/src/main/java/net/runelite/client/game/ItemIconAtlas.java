@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persistent store of rendered item icons, so that icons survive restarts without being rasterized
+ * on the client thread again. Icons are only valid for the cache they were rendered from, so the
+ * atlas is discarded when the revision or item count it was written for changes, and each icon
+ * records a hash of the item definition it was rendered from, which cache updates that keep both
+ * the revision and item count change.
+ * <p>
+ * The file is a header of magic, version, revision and item count followed by records of:
+ * int length
+ * int crc32 of the body
+ * body: int item id, int quantity, byte stackable, int definition hash, short width, short height,
+ * deflated argb pixels
+ */
+@Slf4j
+class ItemIconAtlas
+{
+	private static final int MAGIC = 0x524c4943; // RLIC
+	private static final int VERSION = 2;
+	private static final int HEADER_SIZE = 16;
+	private static final int KEY_SIZE = 17;
+	private static final long MAX_SIZE = 32L << 20;
+
+	private final File file;
+	private final int revision;
+	private final int itemCount;
+	private final Map<ItemManager.IconKey, Entry> index = new ConcurrentHashMap<>();
+	private RandomAccessFile raf;
+	private long end;
+
+	ItemIconAtlas(File file, int revision, int itemCount)
+	{
+		this.file = file;
+		this.revision = revision;
+		this.itemCount = itemCount;
+	}
+
+	boolean isFor(int revision, int itemCount)
+	{
+		return this.revision == revision && this.itemCount == itemCount;
+	}
+
+	/**
+	 * Open the atlas and index its icons, discarding it if it was written for a different cache.
+	 * The atlas stays unusable if another client has it open.
+	 */
+	synchronized void open() throws IOException
+	{
+		file.getParentFile().mkdirs();
+		raf = new RandomAccessFile(file, "rw");
+		if (!tryLock())
+		{
+			// another client owns the atlas, appending to it from here would interleave records
+			log.debug("Item icon atlas {} is in use", file);
+			close();
+			return;
+		}
+
+		end = raf.length() < HEADER_SIZE ? -1 : read();
+		if (end == -1)
+		{
+			log.debug("Discarding item icon atlas {}", file);
+			index.clear();
+			raf.setLength(0);
+			raf.writeInt(MAGIC);
+			raf.writeInt(VERSION);
+			raf.writeInt(revision);
+			raf.writeInt(itemCount);
+			end = HEADER_SIZE;
+			return;
+		}
+
+		if (end != raf.length())
+		{
+			log.debug("Dropping {} bytes of trailing data from {}", raf.length() - end, file);
+			raf.setLength(end);
+		}
+
+		log.debug("Loaded {} item icons from {}", index.size(), file);
+	}
+
+	private boolean tryLock() throws IOException
+	{
+		try
+		{
+			return raf.getChannel().tryLock() != null;
+		}
+		catch (OverlappingFileLockException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Index the records in the atlas
+	 *
+	 * @return the length of the valid data in the file, or -1 if the header doesn't match
+	 */
+	private long read() throws IOException
+	{
+		long end = HEADER_SIZE;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != revision || in.readInt() != itemCount)
+			{
+				return -1;
+			}
+
+			CRC32 crc = new CRC32();
+			byte[] body = new byte[4096];
+			while (true)
+			{
+				int length;
+				int checksum;
+				try
+				{
+					length = in.readInt();
+					checksum = in.readInt();
+					if (length <= KEY_SIZE || length > MAX_SIZE)
+					{
+						break;
+					}
+					if (length > body.length)
+					{
+						body = new byte[length];
+					}
+					in.readFully(body, 0, length);
+				}
+				catch (EOFException e)
+				{
+					break;
+				}
+
+				crc.reset();
+				crc.update(body, 0, length);
+				if ((int) crc.getValue() != checksum)
+				{
+					break;
+				}
+
+				ByteBuffer buf = ByteBuffer.wrap(body, 0, length);
+				ItemManager.IconKey key = new ItemManager.IconKey(buf.getInt(), buf.getInt(), buf.get() != 0, null);
+				// later records of a key replace earlier ones, which were rendered from an older definition
+				index.put(key, new Entry((end + 8) << 32 | length, buf.getInt()));
+				end += 8 + length;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Check if the atlas has an icon for the key which was rendered from the given item definition
+	 */
+	boolean contains(ItemManager.IconKey key, int definition)
+	{
+		Entry entry = index.get(key);
+		return entry != null && entry.definition == definition;
+	}
+
+	/**
+	 * Read an icon from the atlas
+	 *
+	 * @return the argb pixels of the icon, or null if the atlas has no icon of this size for the key
+	 * and item definition
+	 */
+	synchronized int[] read(ItemManager.IconKey key, int definition, int width, int height) throws IOException
+	{
+		Entry entry = index.get(key);
+		if (entry == null || entry.definition != definition || raf == null)
+		{
+			return null;
+		}
+
+		byte[] body = new byte[(int) entry.location];
+		raf.seek(entry.location >>> 32);
+		raf.readFully(body);
+
+		ByteBuffer buf = ByteBuffer.wrap(body);
+		buf.position(KEY_SIZE - 4);
+		if (buf.getShort() != width || buf.getShort() != height)
+		{
+			return null;
+		}
+
+		byte[] raw = new byte[width * height * 4];
+		Inflater inflater = new Inflater();
+		try
+		{
+			inflater.setInput(body, KEY_SIZE, body.length - KEY_SIZE);
+			if (inflater.inflate(raw) != raw.length)
+			{
+				// a record which passed its crc but doesn't inflate can't be repaired, stop serving it
+				index.remove(key);
+				return null;
+			}
+		}
+		catch (DataFormatException e)
+		{
+			index.remove(key);
+			throw new IOException(e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+
+		int[] pixels = new int[width * height];
+		ByteBuffer.wrap(raw).asIntBuffer().get(pixels);
+		return pixels;
+	}
+
+	/**
+	 * Append an icon to the atlas. Icons are dropped if the atlas isn't open yet or is full.
+	 */
+	synchronized void write(ItemManager.IconKey key, int definition, int width, int height, int[] pixels) throws IOException
+	{
+		if (raf == null || end >= MAX_SIZE || contains(key, definition))
+		{
+			return;
+		}
+
+		ByteBuffer raw = ByteBuffer.allocate(pixels.length * 4);
+		raw.asIntBuffer().put(pixels);
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream(1024);
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(0); // length
+		out.writeInt(0); // crc
+		out.writeInt(key.getItemId());
+		out.writeInt(key.getQuantity());
+		out.writeByte(key.isStackable() ? 1 : 0);
+		out.writeInt(definition);
+		out.writeShort(width);
+		out.writeShort(height);
+		try
+		{
+			deflater.setInput(raw.array());
+			deflater.finish();
+			byte[] chunk = new byte[1024];
+			while (!deflater.finished())
+			{
+				int n = deflater.deflate(chunk);
+				out.write(chunk, 0, n);
+			}
+		}
+		finally
+		{
+			deflater.end();
+		}
+
+		byte[] record = bout.toByteArray();
+		int length = record.length - 8;
+		CRC32 crc = new CRC32();
+		crc.update(record, 8, length);
+		ByteBuffer.wrap(record).putInt(length).putInt((int) crc.getValue());
+
+		raf.seek(end);
+		raf.write(record);
+		index.put(key, new Entry((end + 8) << 32 | length, definition));
+		end += record.length;
+	}
+
+	synchronized void close()
+	{
+		index.clear();
+		if (raf == null)
+		{
+			return;
+		}
+
+		try
+		{
+			raf.close();
+		}
+		catch (IOException e)
+		{
+			log.debug("error closing item icon atlas", e);
+		}
+		raf = null;
+	}
+
+	private static final class Entry
+	{
+		// offset of the record body << 32 | length of the body
+		private final long location;
+		private final int definition;
+
+		private Entry(long location, int definition)
+		{
+			this.location = location;
+			this.definition = definition;
+		}
+	}
+}
@@ -31,15 +31,19 @@ import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Named;
@@ -54,6 +58,7 @@ import net.runelite.api.ItemComposition;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.ItemQuantityMode;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.util.AsyncBufferedImage;
@@ -64,22 +69,30 @@ import net.runelite.http.api.item.ItemPrice;
 public class ItemManager
 {
 	@Value
-	private static class ImageKey
+	static class IconKey
 	{
 		private final int itemId;
-		private final int itemQuantity;
+		private final int quantity;
 		private final boolean stackable;
+		@Nullable
+		private final Color outlineColor;
 	}
 
 	@Value
-	private static class OutlineKey
+	private static class PendingIcon
 	{
-		private final int itemId;
-		private final int itemQuantity;
-		private final Color outlineColor;
+		private final IconKey key;
+		private final AsyncBufferedImage image;
 	}
 
+	// weight of the in-memory icons, in bytes of pixel data
+	private static final long ICON_CACHE_WEIGHT = 8L << 20;
+	// icons rasterized per frame for requests made off of the client thread
+	private static final int ICONS_PER_FRAME = 8;
+	private static final File ICON_ATLAS = new File(RuneLite.CACHE_DIR, "item-icons.dat");
+
 	private final Client client;
+	private final ScheduledExecutorService executor;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
@@ -94,10 +107,15 @@ public class ItemManager
 	@SuppressWarnings("PMD.ImmutableField")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private volatile ItemPriceTable itemPrices = ItemPriceTable.EMPTY;
+	private volatile ItemNameIndex itemPriceNames = ItemNameIndex.EMPTY;
+	// unnoted id + 1 of each item, or 0 if the item hasn't been looked up yet
+	private volatile int[] unnotedItems = new int[0];
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
-	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
-	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
+	private final LoadingCache<IconKey, BufferedImage> itemIcons;
+	private final Queue<PendingIcon> pendingIcons = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean iconsScheduled = new AtomicBoolean();
+	private ItemIconAtlas iconAtlas;
 
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
@@ -196,10 +214,11 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
+	public ItemManager(Client client, @Named("ioExecutor") ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
 		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
 	{
 		this.client = client;
+		this.executor = scheduledExecutorService;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
@@ -207,27 +226,18 @@ public class ItemManager
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
-		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterAccess(1, TimeUnit.HOURS)
-			.build(new CacheLoader<>()
-			{
-				@Override
-				public AsyncBufferedImage load(ImageKey key) throws Exception
-				{
-					return loadImage(key.itemId, key.itemQuantity, key.stackable);
-				}
-			});
-
-		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+		itemIcons = CacheBuilder.newBuilder()
+			.maximumWeight(ICON_CACHE_WEIGHT)
+			.weigher((IconKey key, BufferedImage image) -> image.getWidth() * image.getHeight() * 4)
 			.expireAfterAccess(1, TimeUnit.HOURS)
 			.build(new CacheLoader<>()
 			{
 				@Override
-				public BufferedImage load(OutlineKey key) throws Exception
+				public BufferedImage load(IconKey key) throws Exception
 				{
-					return loadItemOutline(key.itemId, key.itemQuantity, key.outlineColor);
+					return key.outlineColor == null
+						? loadImage(key)
+						: loadItemOutline(key.itemId, key.quantity, key.outlineColor);
 				}
 			});
 	}
@@ -237,17 +247,21 @@ public class ItemManager
 		try
 		{
 			ItemPrice[] prices = itemClient.getPrices();
-			if (prices != null)
+			if (prices == null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				log.debug("Prices are unchanged");
+				return;
 			}
 
-			log.debug("Loaded {} prices", itemPrices.size());
+			ItemNameIndex.Builder names = new ItemNameIndex.Builder();
+			for (ItemPrice price : prices)
+			{
+				names.add(price.getId(), price.getName(), null);
+			}
+			itemPrices = new ItemPriceTable(prices, WORN_ITEMS, this::getWikiPrice);
+			itemPriceNames = names.build();
+
+			log.debug("Loaded {} prices", prices.length);
 		}
 		catch (IOException e)
 		{
@@ -302,35 +316,34 @@ public class ItemManager
 			return 1000;
 		}
 
-		ItemComposition itemComposition = getItemComposition(itemID);
-		if (itemComposition.getNote() != -1)
+		// worn and untradeable items are resolved when the price table is built
+		return itemPrices.getPrice(unnote(itemID), useWikiPrice);
+	}
+
+	/**
+	 * Get the unnoted id of an item, remembering it so that pricing an item doesn't need its composition
+	 */
+	private int unnote(int itemID)
+	{
+		int[] unnoted = unnotedItems;
+		if (unnoted.length != client.getItemCount())
 		{
-			itemID = itemComposition.getLinkedNoteId();
+			// the cache has changed, and with it possibly the notes
+			unnotedItems = unnoted = new int[client.getItemCount()];
 		}
-		itemID = WORN_ITEMS.getOrDefault(itemID, itemID);
 
-		int price = 0;
-
-		final Collection<ItemMapping> mappedItems = ItemMapping.map(itemID);
-
-		if (mappedItems == null)
+		if (itemID >= 0 && itemID < unnoted.length && unnoted[itemID] != 0)
 		{
-			final ItemPrice ip = itemPrices.get(itemID);
-
-			if (ip != null)
-			{
-				price = useWikiPrice ? getWikiPrice(ip) : ip.getPrice();
-			}
+			return unnoted[itemID] - 1;
 		}
-		else
+
+		ItemComposition itemComposition = getItemComposition(itemID);
+		int unnotedId = itemComposition.getNote() != -1 ? itemComposition.getLinkedNoteId() : itemID;
+		if (itemID >= 0 && itemID < unnoted.length)
 		{
-			for (final ItemMapping mappedItem : mappedItems)
-			{
-				price += getItemPriceWithSource(mappedItem.getTradeableItem(), useWikiPrice) * mappedItem.getQuantity();
-			}
+			unnoted[itemID] = unnotedId + 1;
 		}
-
-		return price;
+		return unnotedId;
 	}
 
 	/**
@@ -340,8 +353,12 @@ public class ItemManager
 	 */
 	public int getWikiPrice(ItemPrice itemPrice)
 	{
-		final int wikiPrice = itemPrice.getWikiPrice();
-		final int jagPrice = itemPrice.getPrice();
+		return getWikiPrice(itemPrice.getPrice(), itemPrice.getWikiPrice());
+	}
+
+	// called on each wiki price lookup, so that the thresholds are read once they are injected
+	private int getWikiPrice(int jagPrice, int wikiPrice)
+	{
 		if (wikiPrice <= 0)
 		{
 			return jagPrice;
@@ -397,17 +414,19 @@ public class ItemManager
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return the items containing the name, best match first
+	 * @see ItemNameIndex#search(String, int)
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		final ItemPriceTable itemPrices = this.itemPrices;
+		final int[] ids = itemPriceNames.search(itemName, Integer.MAX_VALUE);
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
+		List<ItemPrice> result = new ArrayList<>(ids.length);
+		for (int id : ids)
 		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
+			final ItemPrice itemPrice = itemPrices.getItemPrice(id);
+			if (itemPrice != null)
 			{
 				result.add(itemPrice);
 			}
@@ -448,31 +467,211 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from the icon atlas or game, makes transparent, and generates image
 	 *
-	 * @param itemId
+	 * @param key
 	 * @return
 	 */
-	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
+	private AsyncBufferedImage loadImage(IconKey key)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-		clientThread.invoke(() ->
+		PendingIcon icon = new PendingIcon(key, img);
+		if (client.isClientThread())
+		{
+			// callers on the client thread expect the image to be filled in immediately
+			clientThread.invoke(() -> renderIcon(icon));
+		}
+		else
+		{
+			queueIcon(icon);
+		}
+		return img;
+	}
+
+	private void queueIcon(PendingIcon icon)
+	{
+		pendingIcons.add(icon);
+		if (iconsScheduled.compareAndSet(false, true))
+		{
+			clientThread.invokeLater(this::loadPendingIcons);
+		}
+	}
+
+	/**
+	 * Fill in the queued icons, reading them from the atlas where possible and rasterizing at most
+	 * {@link #ICONS_PER_FRAME} per frame so a panel full of icons doesn't stall the client.
+	 */
+	private boolean loadPendingIcons()
+	{
+		if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			return false;
+		}
+
+		ItemIconAtlas atlas = getIconAtlas();
+		int rasterized = 0;
+		PendingIcon icon;
+		while (rasterized < ICONS_PER_FRAME && (icon = pendingIcons.poll()) != null)
+		{
+			int definition = iconDefinitionHash(icon.key.itemId);
+			if (atlas.contains(icon.key, definition))
+			{
+				PendingIcon atlasIcon = icon;
+				executor.execute(() -> readIcon(atlas, atlasIcon, definition));
+				continue;
+			}
+
+			if (!renderIcon(icon))
+			{
+				pendingIcons.add(icon);
+			}
+			++rasterized;
+		}
+
+		if (!pendingIcons.isEmpty())
+		{
+			return false;
+		}
+
+		iconsScheduled.set(false);
+		// keep running if an icon was queued after the last poll, as its queueIcon() saw us scheduled
+		return pendingIcons.isEmpty() || !iconsScheduled.compareAndSet(false, true);
+	}
+
+	/**
+	 * Get the icon atlas for the loaded cache, replacing it if the cache has changed. Must be
+	 * called on the client thread.
+	 */
+	private ItemIconAtlas getIconAtlas()
+	{
+		int revision = client.getRevision();
+		int itemCount = client.getItemCount();
+		ItemIconAtlas atlas = iconAtlas;
+		if (atlas == null || !atlas.isFor(revision, itemCount))
 		{
-			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+			ItemIconAtlas previous = atlas;
+			ItemIconAtlas next = new ItemIconAtlas(ICON_ATLAS, revision, itemCount);
+			iconAtlas = next;
+			// until the atlas has been opened it is empty, and icons are rasterized instead
+			executor.execute(() ->
 			{
-				return false;
+				if (previous != null)
+				{
+					previous.close();
+				}
+
+				try
+				{
+					next.open();
+				}
+				catch (IOException e)
+				{
+					log.warn("unable to open item icon atlas", e);
+					next.close();
+				}
+			});
+			return next;
+		}
+		return atlas;
+	}
+
+	private boolean renderIcon(PendingIcon icon)
+	{
+		if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			return false;
+		}
+
+		IconKey key = icon.key;
+		SpritePixels sprite = client.createItemSprite(key.itemId, key.quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+			key.stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
+		if (sprite == null)
+		{
+			return false;
+		}
+
+		AsyncBufferedImage img = icon.image;
+		sprite.toBufferedImage(img);
+		img.loaded();
+
+		int width = img.getWidth();
+		int height = img.getHeight();
+		int[] pixels = img.getRGB(0, 0, width, height, null, 0, width);
+		int definition = iconDefinitionHash(key.itemId);
+		ItemIconAtlas atlas = getIconAtlas();
+		executor.execute(() ->
+		{
+			try
+			{
+				atlas.write(key, definition, width, height, pixels);
 			}
-			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
-				stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
-			if (sprite == null)
+			catch (IOException e)
 			{
-				return false;
+				log.debug("unable to write item icon {}", key, e);
 			}
-			sprite.toBufferedImage(img);
-			img.loaded();
-			return true;
 		});
-		return img;
+		return true;
+	}
+
+	/**
+	 * Hash the parts of an item definition which its icon is rendered from. Noted items and
+	 * placeholders are rendered from a template and the item they link to, so that item is included.
+	 * Must be called on the client thread.
+	 */
+	private int iconDefinitionHash(int itemId)
+	{
+		ItemComposition item = client.getItemDefinition(itemId);
+		int hash = definitionHash(item);
+		if (item.getNote() != -1)
+		{
+			hash = hash * 31 + definitionHash(client.getItemDefinition(item.getLinkedNoteId()));
+		}
+		else if (item.getPlaceholderTemplateId() != -1)
+		{
+			hash = hash * 31 + definitionHash(client.getItemDefinition(item.getPlaceholderId()));
+		}
+		return hash;
+	}
+
+	private static int definitionHash(ItemComposition item)
+	{
+		int hash = item.getInventoryModel();
+		hash = hash * 31 + Arrays.hashCode(item.getColorToReplace());
+		hash = hash * 31 + Arrays.hashCode(item.getColorToReplaceWith());
+		hash = hash * 31 + Arrays.hashCode(item.getTextureToReplace());
+		hash = hash * 31 + Arrays.hashCode(item.getTextureToReplaceWith());
+		hash = hash * 31 + item.getXan2d();
+		hash = hash * 31 + item.getYan2d();
+		hash = hash * 31 + item.getZan2d();
+		hash = hash * 31 + item.getAmbient();
+		hash = hash * 31 + item.getContrast();
+		return hash;
+	}
+
+	private void readIcon(ItemIconAtlas atlas, PendingIcon icon, int definition)
+	{
+		AsyncBufferedImage img = icon.image;
+		int[] pixels;
+		try
+		{
+			pixels = atlas.read(icon.key, definition, img.getWidth(), img.getHeight());
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to read item icon {}", icon.key, e);
+			pixels = null;
+		}
+
+		if (pixels == null)
+		{
+			// read() drops unreadable icons from the atlas, so this rasterizes it
+			queueIcon(icon);
+			return;
+		}
+
+		img.setRGB(0, 0, img.getWidth(), img.getHeight(), pixels, 0, img.getWidth());
+		// load listeners expect to run on the client thread
+		clientThread.invokeLater(img::loaded);
 	}
 
 	/**
@@ -505,7 +704,7 @@ public class ItemManager
 	{
 		try
 		{
-			return itemImages.get(new ImageKey(itemId, quantity, stackable));
+			return (AsyncBufferedImage) itemIcons.get(new IconKey(itemId, quantity, stackable, null));
 		}
 		catch (ExecutionException ex)
 		{
@@ -539,7 +738,7 @@ public class ItemManager
 	{
 		try
 		{
-			return itemOutlines.get(new OutlineKey(itemId, itemQuantity, outlineColor));
+			return itemIcons.get(new IconKey(itemId, itemQuantity, false, outlineColor));
 		}
 		catch (ExecutionException e)
 		{
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * An immutable index of item names, for finding items by name without visiting every item.
+ * Names are matched case insensitively. Substring searches of three or more characters are
+ * answered from a trigram index of the names, and results are ranked by how well the name matches.
+ */
+public final class ItemNameIndex
+{
+	public static final ItemNameIndex EMPTY = new Builder().build();
+
+	// Match ranks, best first
+	private static final int EXACT = 0;
+	private static final int PREFIX = 1;
+	private static final int WORD_PREFIX = 2;
+	private static final int SUBSTRING = 3;
+
+	private final int[] ids;
+	private final String[] names;
+	// Index of the first entry with the same icon as each entry, or -1 to not deduplicate the entry
+	private final int[] iconGroups;
+	// Bitmask of the characters in each name, used to skip names which can't score in a fuzzy search
+	private final long[] characters;
+	// Sorted entry indices of the names containing each trigram
+	private final Map<Long, int[]> trigrams;
+
+	private ItemNameIndex(int[] ids, String[] names, int[] iconGroups, Map<Long, int[]> trigrams)
+	{
+		this.ids = ids;
+		this.names = names;
+		this.iconGroups = iconGroups;
+		this.trigrams = trigrams;
+
+		characters = new long[names.length];
+		for (int i = 0; i < names.length; ++i)
+		{
+			characters[i] = characterMask(names[i]);
+		}
+	}
+
+	/**
+	 * Get the number of items in the index
+	 */
+	public int size()
+	{
+		return ids.length;
+	}
+
+	/**
+	 * Search for items whose name contains the query. Exact matches are ranked first, then names
+	 * starting with the query, then names with a word starting with the query, and then all other
+	 * names containing it. Within a rank, shorter names come first, and then items in the order they
+	 * were added. Of items sharing the same icon, only the best ranked one is returned.
+	 *
+	 * @param query the text to search for
+	 * @param limit the maximum number of results
+	 * @return the ids of the matching items, best match first
+	 */
+	public int[] search(String query, int limit)
+	{
+		query = query.toLowerCase();
+		if (query.isEmpty() || limit <= 0)
+		{
+			return new int[0];
+		}
+
+		final int[] candidates = candidates(query);
+		final int count = candidates == null ? names.length : candidates.length;
+		long[] matches = new long[Math.min(count, 64)];
+		int matchCount = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int entry = candidates == null ? i : candidates[i];
+			final String name = names[entry];
+			final int pos = name.indexOf(query);
+			if (pos == -1)
+			{
+				continue;
+			}
+
+			final int rank;
+			if (pos == 0)
+			{
+				rank = name.length() == query.length() ? EXACT : PREFIX;
+			}
+			else if (isWordStart(name, pos))
+			{
+				rank = WORD_PREFIX;
+			}
+			else
+			{
+				rank = SUBSTRING;
+			}
+
+			if (matchCount == matches.length)
+			{
+				matches = Arrays.copyOf(matches, matchCount * 2);
+			}
+			// sort by rank, then name length, then entry, which is in id order
+			matches[matchCount++] = (long) rank << 56 | (long) Math.min(name.length(), 0xFF) << 48 | entry;
+		}
+
+		Arrays.sort(matches, 0, matchCount);
+
+		int[] result = new int[Math.min(limit, matchCount)];
+		int resultCount = 0;
+		boolean[] seenIcons = null;
+		for (int i = 0; i < matchCount && resultCount < result.length; ++i)
+		{
+			final int entry = (int) matches[i];
+			final int iconGroup = iconGroups[entry];
+			if (iconGroup != -1)
+			{
+				if (seenIcons == null)
+				{
+					seenIcons = new boolean[names.length];
+				}
+				if (seenIcons[iconGroup])
+				{
+					continue;
+				}
+				seenIcons[iconGroup] = true;
+			}
+			result[resultCount++] = ids[entry];
+		}
+		return resultCount == result.length ? result : Arrays.copyOf(result, resultCount);
+	}
+
+	/**
+	 * Search for items by similarity of their name to the query. Only names where, for some word of the
+	 * query, more than half of the characters of the word appear in the name are scored, so the scorer
+	 * must not give a positive score to any other name.
+	 *
+	 * @param query the text to search for
+	 * @param limit the maximum number of results
+	 * @param scorer scores a lowercase name against the query, with only positive scores matching
+	 * @return the ids of the matching items, highest score first and then by name
+	 */
+	public int[] fuzzySearch(String query, int limit, ToDoubleBiFunction<String, String> scorer)
+	{
+		final String[] words = query.toLowerCase().replace('-', ' ').split(" ");
+		final long[] wordMasks = new long[words.length];
+		for (int i = 0; i < words.length; ++i)
+		{
+			wordMasks[i] = characterMask(words[i]);
+		}
+
+		final List<Integer> matches = new ArrayList<>();
+		final double[] scores = new double[names.length];
+		for (int entry = 0; entry < names.length; ++entry)
+		{
+			if (!canScore(words, characters[entry]))
+			{
+				continue;
+			}
+
+			final double score = scorer.applyAsDouble(query, names[entry]);
+			if (score > 0)
+			{
+				matches.add(entry);
+				scores[entry] = score;
+			}
+		}
+
+		matches.sort((a, b) ->
+		{
+			int c = Double.compare(scores[b], scores[a]);
+			return c != 0 ? c : names[a].compareTo(names[b]);
+		});
+
+		return matches.stream()
+			.limit(limit)
+			.mapToInt(entry -> ids[entry])
+			.toArray();
+	}
+
+	/**
+	 * Test if more than half of the characters of any of the words are within the character mask
+	 */
+	private static boolean canScore(String[] words, long mask)
+	{
+		for (String word : words)
+		{
+			int found = 0;
+			for (int i = 0; i < word.length(); ++i)
+			{
+				if ((mask & characterBit(word.charAt(i))) != 0)
+				{
+					++found;
+				}
+			}
+
+			if (found * 2 > word.length())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the sorted entries which contain every trigram of the query, or null if
+	 * the query is too short to use the trigram index and every entry must be checked.
+	 */
+	private int[] candidates(String query)
+	{
+		if (query.length() < 3)
+		{
+			return null;
+		}
+
+		int[] result = null;
+		for (int i = 0; i + 3 <= query.length(); ++i)
+		{
+			int[] entries = trigrams.get(trigram(query, i));
+			if (entries == null)
+			{
+				return new int[0];
+			}
+
+			result = result == null ? entries : intersect(result, entries);
+			if (result.length == 0)
+			{
+				break;
+			}
+		}
+		return result;
+	}
+
+	private static int[] intersect(int[] a, int[] b)
+	{
+		int[] out = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length)
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				out[k++] = a[i];
+				++i;
+				++j;
+			}
+		}
+		return Arrays.copyOf(out, k);
+	}
+
+	private static boolean isWordStart(String name, int pos)
+	{
+		return !Character.isLetterOrDigit(name.charAt(pos - 1));
+	}
+
+	private static long trigram(String s, int i)
+	{
+		return (long) s.charAt(i) << 32 | (long) s.charAt(i + 1) << 16 | s.charAt(i + 2);
+	}
+
+	private static long characterBit(char c)
+	{
+		return 1L << (c & 63);
+	}
+
+	private static long characterMask(String s)
+	{
+		long mask = 0;
+		for (int i = 0; i < s.length(); ++i)
+		{
+			mask |= characterBit(s.charAt(i));
+		}
+		return mask;
+	}
+
+	/**
+	 * Builds an {@link ItemNameIndex}
+	 */
+	public static final class Builder
+	{
+		private final List<Integer> ids = new ArrayList<>();
+		private final List<String> names = new ArrayList<>();
+		private final List<Integer> iconGroups = new ArrayList<>();
+		private final Map<Object, Integer> icons = new HashMap<>();
+
+		/**
+		 * Add an item to the index
+		 *
+		 * @param id the item id
+		 * @param name the item name
+		 * @param icon a key identifying the icon of the item, for deduplicating items with the same
+		 *             icon from search results, or null to always include the item
+		 * @return this builder
+		 */
+		public Builder add(int id, String name, Object icon)
+		{
+			int entry = ids.size();
+			ids.add(id);
+			names.add(name.toLowerCase());
+			iconGroups.add(icon == null ? -1 : icons.computeIfAbsent(icon, k -> entry));
+			return this;
+		}
+
+		public ItemNameIndex build()
+		{
+			final String[] names = this.names.toArray(new String[0]);
+
+			final Map<Long, int[]> postings = new HashMap<>();
+			final Map<Long, Integer> lengths = new HashMap<>();
+			for (int entry = 0; entry < names.length; ++entry)
+			{
+				final String name = names[entry];
+				for (int i = 0; i + 3 <= name.length(); ++i)
+				{
+					final long trigram = trigram(name, i);
+					int[] entries = postings.get(trigram);
+					int length = lengths.getOrDefault(trigram, 0);
+					if (length > 0 && entries[length - 1] == entry)
+					{
+						// the trigram repeats within the name
+						continue;
+					}
+
+					if (entries == null)
+					{
+						entries = new int[4];
+						postings.put(trigram, entries);
+					}
+					else if (length == entries.length)
+					{
+						entries = Arrays.copyOf(entries, length * 2);
+						postings.put(trigram, entries);
+					}
+					entries[length] = entry;
+					lengths.put(trigram, length + 1);
+				}
+			}
+
+			for (Map.Entry<Long, int[]> e : postings.entrySet())
+			{
+				e.setValue(Arrays.copyOf(e.getValue(), lengths.get(e.getKey())));
+			}
+
+			return new ItemNameIndex(
+				ids.stream().mapToInt(Integer::intValue).toArray(),
+				names,
+				iconGroups.stream().mapToInt(Integer::intValue).toArray(),
+				postings);
+		}
+	}
+}
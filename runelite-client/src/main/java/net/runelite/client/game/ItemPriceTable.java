@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntBinaryOperator;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Item prices stored in arrays indexed by item id. The jagex price of each item is resolved when the
+ * table is built, so that worn and untradeable items already have the price of their tradeable
+ * counterparts and a lookup is a single array read. Wiki prices depend on thresholds which can
+ * change after the table is built, so they are resolved on lookup.
+ */
+final class ItemPriceTable
+{
+	static final ItemPriceTable EMPTY = new ItemPriceTable(new ItemPrice[0], Map.of(), (price, wikiPrice) -> wikiPrice);
+
+	private final int size;
+	private final String[] names;
+	private final int[] prices;
+	private final int[] wikiPrices;
+	private final int[] resolvedPrices;
+	// items which are priced as other items: coins, platinum, worn and untradeable items
+	private final boolean[] remapped;
+	private final Map<Integer, Integer> wornItems;
+	private final IntBinaryOperator wikiPrice;
+
+	/**
+	 * @param itemPrices the prices of the tradeable items
+	 * @param wornItems map of worn item ids to the id of the item in the inventory
+	 * @param wikiPrice the wiki price to use for an item given its jagex and wiki price, applied on lookup
+	 */
+	ItemPriceTable(ItemPrice[] itemPrices, Map<Integer, Integer> wornItems, IntBinaryOperator wikiPrice)
+	{
+		int length = Math.max(ItemID.COINS, ItemID.PLATINUM) + 1;
+		for (ItemPrice itemPrice : itemPrices)
+		{
+			length = Math.max(length, itemPrice.getId() + 1);
+		}
+		for (int itemId : wornItems.keySet())
+		{
+			length = Math.max(length, itemId + 1);
+		}
+		for (int itemId : ItemMapping.MAPPINGS.keySet())
+		{
+			length = Math.max(length, itemId + 1);
+		}
+
+		size = itemPrices.length;
+		names = new String[length];
+		prices = new int[length];
+		wikiPrices = new int[length];
+		for (ItemPrice itemPrice : itemPrices)
+		{
+			int id = itemPrice.getId();
+			names[id] = itemPrice.getName();
+			prices[id] = itemPrice.getPrice();
+			wikiPrices[id] = itemPrice.getWikiPrice();
+		}
+
+		remapped = new boolean[length];
+		remapped[ItemID.COINS] = true;
+		remapped[ItemID.PLATINUM] = true;
+		for (int itemId : wornItems.keySet())
+		{
+			remapped[itemId] = true;
+		}
+		for (int itemId : ItemMapping.MAPPINGS.keySet())
+		{
+			remapped[itemId] = true;
+		}
+
+		this.wornItems = wornItems;
+		this.wikiPrice = wikiPrice;
+
+		resolvedPrices = prices.clone();
+		for (int itemId = 0; itemId < length; ++itemId)
+		{
+			if (remapped[itemId])
+			{
+				resolvedPrices[itemId] = resolve(itemId, false);
+			}
+		}
+	}
+
+	private int resolve(int itemId, boolean useWikiPrice)
+	{
+		if (itemId == ItemID.COINS)
+		{
+			return 1;
+		}
+		if (itemId == ItemID.PLATINUM)
+		{
+			return 1000;
+		}
+
+		itemId = wornItems.getOrDefault(itemId, itemId);
+
+		final Collection<ItemMapping> mappedItems = ItemMapping.map(itemId);
+		if (mappedItems == null)
+		{
+			return basePrice(itemId, useWikiPrice);
+		}
+
+		int price = 0;
+		for (final ItemMapping mappedItem : mappedItems)
+		{
+			price += resolve(mappedItem.getTradeableItem(), useWikiPrice) * mappedItem.getQuantity();
+		}
+		return price;
+	}
+
+	private int basePrice(int itemId, boolean useWikiPrice)
+	{
+		if (itemId >= prices.length)
+		{
+			return 0;
+		}
+		return useWikiPrice ? wikiPrice.applyAsInt(prices[itemId], wikiPrices[itemId]) : prices[itemId];
+	}
+
+	/**
+	 * Get the number of tradeable items in the table
+	 */
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Get the price of an unnoted item, resolving worn and untradeable items to their tradeable counterparts
+	 */
+	int getPrice(int itemId, boolean useWikiPrice)
+	{
+		if (itemId < 0 || itemId >= resolvedPrices.length)
+		{
+			return 0;
+		}
+		if (!useWikiPrice)
+		{
+			return resolvedPrices[itemId];
+		}
+		return remapped[itemId] ? resolve(itemId, true) : wikiPrice.applyAsInt(prices[itemId], wikiPrices[itemId]);
+	}
+
+	/**
+	 * Get the price of a tradeable item as it was received
+	 *
+	 * @return the item price, or null if the item has no price
+	 */
+	ItemPrice getItemPrice(int itemId)
+	{
+		if (itemId < 0 || itemId >= names.length || names[itemId] == null)
+		{
+			return null;
+		}
+
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(itemId);
+		itemPrice.setName(names[itemId]);
+		itemPrice.setPrice(prices[itemId]);
+		itemPrice.setWikiPrice(wikiPrices[itemId]);
+		return itemPrice;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.ToDoubleBiFunction;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Searches items by name using {@link ItemNameIndex}es of the item cache. The names are read from the
+ * item compositions once per cache revision, and indexed off of the client thread. Searches made while
+ * the index is being built use the previous index, which is empty until the first one is built.
+ */
+@Singleton
+@Slf4j
+public class ItemSearchService
+{
+	private final Client client;
+	private final ItemManager itemManager;
+	private final ScheduledExecutorService executor;
+
+	private volatile Indexes indexes = new Indexes(-1, ItemNameIndex.EMPTY, ItemNameIndex.EMPTY);
+	// revision of the index being built, only accessed on the client thread
+	private int buildingRevision = -1;
+
+	@Value
+	private static class ItemIcon
+	{
+		int modelId;
+		int ambient;
+		int contrast;
+		short[] colorsToReplace;
+		short[] texturesToReplace;
+	}
+
+	@Value
+	private static class Indexes
+	{
+		int revision;
+		// Canonical items, deduplicated by icon
+		ItemNameIndex items;
+		// Unnoted tradeable items, which can be bought from the grand exchange
+		ItemNameIndex tradeables;
+	}
+
+	@Inject
+	private ItemSearchService(Client client, ItemManager itemManager, EventBus eventBus,
+		@Named("cpuExecutor") ScheduledExecutorService executor)
+	{
+		this.client = client;
+		this.itemManager = itemManager;
+		this.executor = executor;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			rebuild();
+		}
+	}
+
+	/**
+	 * Search for items whose name contains the query. Noted items and placeholders are
+	 * returned as their canonical item, and items sharing the same icon are only returned once.
+	 * Must be called on the client thread.
+	 *
+	 * @see ItemNameIndex#search(String, int)
+	 */
+	public int[] search(String query, int limit)
+	{
+		return getIndexes().getItems().search(query, limit);
+	}
+
+	/**
+	 * Search for unnoted tradeable items whose name contains the query.
+	 * Must be called on the client thread.
+	 *
+	 * @see ItemNameIndex#search(String, int)
+	 */
+	public int[] searchTradeable(String query, int limit)
+	{
+		return getIndexes().getTradeables().search(query, limit);
+	}
+
+	/**
+	 * Search for unnoted tradeable items by similarity of their name to the query.
+	 * Must be called on the client thread.
+	 *
+	 * @see ItemNameIndex#fuzzySearch(String, int, ToDoubleBiFunction)
+	 */
+	public int[] fuzzySearchTradeable(String query, int limit, ToDoubleBiFunction<String, String> scorer)
+	{
+		return getIndexes().getTradeables().fuzzySearch(query, limit, scorer);
+	}
+
+	private Indexes getIndexes()
+	{
+		assert client.isClientThread();
+
+		rebuild();
+		return indexes;
+	}
+
+	/**
+	 * Start building the index of the current cache revision, if it isn't built or being built already.
+	 * Must be called on the client thread.
+	 */
+	private void rebuild()
+	{
+		final int revision = client.getRevision();
+		// The item cache is loaded by the time the login screen is shown
+		if (indexes.getRevision() == revision || buildingRevision == revision
+			|| client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
+		{
+			return;
+		}
+
+		buildingRevision = revision;
+		final IndexBuilder builder = new IndexBuilder();
+		executor.execute(() ->
+		{
+			Indexes built = builder.build(revision);
+			log.debug("Indexed {} item names for revision {}", builder.itemCount, revision);
+			indexes = built;
+		});
+	}
+
+	/**
+	 * Reads the item names and flags from the item compositions on construction, which must
+	 * be on the client thread, so the indexes can be built on any thread afterwards.
+	 */
+	private class IndexBuilder
+	{
+		private final int itemCount = client.getItemCount();
+		private final ItemNameIndex.Builder items = new ItemNameIndex.Builder();
+		private final int[] tradeableIds = new int[itemCount];
+		private final String[] tradeableNames = new String[itemCount];
+		private int tradeableCount;
+
+		private IndexBuilder()
+		{
+			final boolean[] added = new boolean[itemCount];
+			for (int id = 0; id < itemCount; ++id)
+			{
+				final ItemComposition item = itemManager.getItemComposition(id);
+				// The client assigns "null" to item names of items it doesn't know about
+				if ("null".equals(item.getName()))
+				{
+					continue;
+				}
+
+				if (item.isTradeable() && item.getNote() == -1)
+				{
+					tradeableIds[tradeableCount] = id;
+					tradeableNames[tradeableCount++] = item.getName();
+				}
+
+				final int canonicalId = itemManager.canonicalize(id);
+				if (canonicalId >= 0 && canonicalId < itemCount && !added[canonicalId])
+				{
+					added[canonicalId] = true;
+					final ItemComposition canonical = canonicalId == id ? item : itemManager.getItemComposition(canonicalId);
+					if (!"null".equals(canonical.getName()))
+					{
+						items.add(canonicalId, canonical.getName(), new ItemIcon(canonical.getInventoryModel(),
+							canonical.getAmbient(), canonical.getContrast(),
+							canonical.getColorToReplaceWith(), canonical.getTextureToReplaceWith()));
+					}
+				}
+			}
+		}
+
+		private Indexes build(int revision)
+		{
+			final ItemNameIndex.Builder tradeables = new ItemNameIndex.Builder();
+			for (int i = 0; i < tradeableCount; ++i)
+			{
+				tradeables.add(tradeableIds[i], tradeableNames[i], null);
+			}
+			return new Indexes(revision, items.build(), tradeables.build());
+		}
+	}
+}
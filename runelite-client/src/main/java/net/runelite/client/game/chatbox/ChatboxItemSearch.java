@@ -28,15 +28,11 @@ package net.runelite.client.game.chatbox;
 import com.google.common.primitives.Ints;
 import com.google.inject.Inject;
 import java.awt.event.KeyEvent;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Consumer;
 import javax.inject.Singleton;
 import lombok.Getter;
-import lombok.Value;
-import net.runelite.api.Client;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.api.widgets.JavaScriptCallback;
@@ -47,6 +43,7 @@ import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSearchService;
 import net.runelite.client.ui.JagexColors;
 
 @Singleton
@@ -61,7 +58,7 @@ public class ChatboxItemSearch extends ChatboxTextInput
 
 	private final ChatboxPanelManager chatboxPanelManager;
 	private final ItemManager itemManager;
-	private final Client client;
+	private final ItemSearchService itemSearchService;
 
 	private final Map<Integer, ItemComposition> results = new LinkedHashMap<>();
 	private String tooltipText;
@@ -70,24 +67,14 @@ public class ChatboxItemSearch extends ChatboxTextInput
 	@Getter
 	private Consumer<Integer> onItemSelected;
 
-	@Value
-	private static class ItemIcon
-	{
-		int modelId;
-		int ambient;
-		int contrast;
-		short[] colorsToReplace;
-		short[] texturesToReplace;
-	}
-
 	@Inject
 	private ChatboxItemSearch(ChatboxPanelManager chatboxPanelManager, ClientThread clientThread,
-		ItemManager itemManager, Client client)
+		ItemManager itemManager, ItemSearchService itemSearchService)
 	{
 		super(chatboxPanelManager, clientThread);
 		this.chatboxPanelManager = chatboxPanelManager;
 		this.itemManager = itemManager;
-		this.client = client;
+		this.itemSearchService = itemSearchService;
 
 		lines(1);
 		prompt("Item Search");
@@ -306,28 +293,9 @@ public class ChatboxItemSearch extends ChatboxTextInput
 			return;
 		}
 
-		Set<ItemIcon> itemIcons = new HashSet<>();
-		for (int i = 0; i < client.getItemCount() && results.size() < MAX_RESULTS; i++)
+		for (int itemId : itemSearchService.search(search, MAX_RESULTS))
 		{
-			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(i));
-			String name = itemComposition.getName().toLowerCase();
-
-			// The client assigns "null" to item names of items it doesn't know about
-			// and the item might already be in the results from canonicalize
-			if (!name.equals("null") && name.contains(search) && !results.containsKey(itemComposition.getId()))
-			{
-				// Check if the results already contain the same item image
-				ItemIcon itemIcon = new ItemIcon(itemComposition.getInventoryModel(),
-					itemComposition.getAmbient(), itemComposition.getContrast(),
-					itemComposition.getColorToReplaceWith(), itemComposition.getTextureToReplaceWith());
-				if (itemIcons.contains(itemIcon))
-				{
-					continue;
-				}
-
-				itemIcons.add(itemIcon);
-				results.put(itemComposition.getId(), itemComposition);
-			}
+			results.put(itemId, itemManager.getItemComposition(itemId));
 		}
 	}
 
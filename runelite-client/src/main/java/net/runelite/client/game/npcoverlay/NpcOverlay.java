@@ -31,6 +31,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import net.runelite.api.Client;
@@ -51,6 +53,8 @@ class NpcOverlay extends Overlay
 	private final Client client;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final Map<NPC, HighlightedNpc> highlightedNpcs;
+	// npcs rendered this frame whose names are drawn after the outlines
+	private final List<HighlightedNpc> namedNpcs = new ArrayList<>();
 
 	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, Map<NPC, HighlightedNpc> highlightedNpcs)
 	{
@@ -64,29 +68,55 @@ class NpcOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+		// Outlines are drawn together once every npc has been visited, but before the names so
+		// that the outlines don't cover them
+		final ModelOutlineRenderer.Batch outlines = modelOutlineRenderer.batch();
+		try
 		{
-			renderNpcOverlay(graphics, highlightedNpc);
+			for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+			{
+				if (shouldRender(highlightedNpc))
+				{
+					renderNpcOverlay(graphics, highlightedNpc, outlines);
+					if (highlightedNpc.isName())
+					{
+						namedNpcs.add(highlightedNpc);
+					}
+				}
+			}
+
+			outlines.draw();
+
+			for (HighlightedNpc highlightedNpc : namedNpcs)
+			{
+				renderNpcName(graphics, highlightedNpc);
+			}
+		}
+		finally
+		{
+			namedNpcs.clear();
 		}
 
 		return null;
 	}
 
-	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	private static boolean shouldRender(HighlightedNpc highlightedNpc)
 	{
 		NPC actor = highlightedNpc.getNpc();
 		NPCComposition npcComposition = actor.getTransformedComposition();
 		if (npcComposition == null || !npcComposition.isInteractible())
 		{
-			return;
+			return false;
 		}
 
 		Predicate<NPC> render = highlightedNpc.getRender();
-		if (render != null && !render.test(actor))
-		{
-			return;
-		}
+		return render == null || render.test(actor);
+	}
 
+	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc, ModelOutlineRenderer.Batch outlines)
+	{
+		NPC actor = highlightedNpc.getNpc();
+		NPCComposition npcComposition = actor.getTransformedComposition();
 		final Color borderColor = highlightedNpc.getHighlightColor();
 		float borderWidth = highlightedNpc.getBorderWidth();
 		final Color fillColor = highlightedNpc.getFillColor();
@@ -140,17 +170,21 @@ class NpcOverlay extends Overlay
 
 		if (highlightedNpc.isOutline())
 		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
+			outlines.add(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
 		}
+	}
 
-		if (highlightedNpc.isName() && actor.getName() != null)
+	private void renderNpcName(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	{
+		NPC actor = highlightedNpc.getNpc();
+		if (actor.getName() != null)
 		{
 			String npcName = Text.removeTags(actor.getName());
 			Point textLocation = actor.getCanvasTextLocation(graphics, npcName, actor.getLogicalHeight() + 40);
 
 			if (textLocation != null)
 			{
-				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, borderColor);
+				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, highlightedNpc.getHighlightColor());
 			}
 		}
 	}
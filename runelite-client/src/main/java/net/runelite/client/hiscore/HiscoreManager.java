@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -53,7 +54,7 @@ public class HiscoreManager
 	private final HiscoreClient hiscoreClient;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(@Named("ioExecutor") ScheduledExecutorService executor, HiscoreClient hiscoreClient)
 	{
 		this.hiscoreClient = hiscoreClient;
 		hiscoreCache = CacheBuilder.newBuilder()
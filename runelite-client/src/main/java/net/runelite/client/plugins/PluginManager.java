@@ -26,19 +26,24 @@ package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,17 +51,30 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -86,7 +104,12 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	// written by the plugin index task of the runelite gradle plugin
+	private static final String PLUGIN_INDEX = "net/runelite/client/plugins/plugins.idx";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	// how long plugins are started for on the EDT before it is given back to repaint the splash screen
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final int SLOWEST_PLUGINS_LOGGED = 5;
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -225,21 +248,34 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		List<Class<?>> pluginClasses = scannedPlugins.stream().map(Plugin::getClass).collect(Collectors.toList());
+		long[] startTimes = new long[scannedPlugins.size()];
+		AtomicInteger started = new AtomicInteger();
+		long start = System.nanoTime();
+		while (started.get() < scannedPlugins.size())
 		{
 			try
 			{
+				// start as many plugins per trip to the EDT as fit in the batch time, then let the splash screen repaint
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
-					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
+					final long batchStart = System.nanoTime();
+					do
 					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						final int idx = started.getAndIncrement();
+						final Plugin plugin = scannedPlugins.get(idx);
+						final long pluginStart = System.nanoTime();
+						try
+						{
+							startPlugin(plugin);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						}
+						startTimes[idx] = System.nanoTime() - pluginStart;
 					}
+					while (started.get() < scannedPlugins.size() && System.nanoTime() - batchStart < START_BATCH_NANOS);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -247,8 +283,12 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", started.get(), scannedPlugins.size(), false);
+		}
+
+		if (!scannedPlugins.isEmpty())
+		{
+			logTimes("Started", pluginClasses, startTimes, System.nanoTime() - start);
 		}
 
 		for (Plugin plugin : plugins)
@@ -260,14 +300,64 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
+		BiConsumer<Integer, Integer> onPluginLoaded = (loaded, total) ->
+			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false);
+
+		List<Class<?>> plugins = loadPluginIndex(getClass().getClassLoader());
+		if (plugins != null)
+		{
+			loadPlugins(plugins, onPluginLoaded, true);
+			return;
+		}
+
+		log.debug("No plugin index, scanning for plugins");
 		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+		plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
 			.map(ClassInfo::load)
 			.collect(Collectors.toList());
 
-		loadPlugins(plugins, (loaded, total) ->
-			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
+		loadPlugins(plugins, onPluginLoaded);
+	}
+
+	/**
+	 * Load the plugin classes listed in the plugin index of a class loader. The index lists the
+	 * plugins in dependency order, so only the plugin classes themselves need to be loaded.
+	 *
+	 * @return the plugin classes in dependency order, or null if the class loader has no plugin index
+	 */
+	@Nullable
+	private List<Class<?>> loadPluginIndex(ClassLoader classLoader) throws IOException, PluginInstantiationException
+	{
+		List<Class<?>> plugins = new ArrayList<>();
+		try (InputStream in = classLoader.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			for (String line; (line = reader.readLine()) != null; )
+			{
+				// class name, flags, dependencies
+				String[] fields = line.split("\t", -1);
+				if (!developerMode && fields.length > 1 && fields[1].contains("developer"))
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(classLoader.loadClass(fields[0]));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					throw new PluginInstantiationException(ex);
+				}
+			}
+		}
+		return plugins;
 	}
 
 	public void loadSideLoadPlugins()
@@ -293,7 +383,15 @@ public class PluginManager
 				{
 					ClassLoader classLoader = new PluginClassLoader(f, getClass().getClassLoader());
 
-					List<Class<?>> plugins = ClassPath.from(classLoader)
+					// jars built with the plugin index task don't need to be scanned
+					List<Class<?>> plugins = loadPluginIndex(classLoader);
+					if (plugins != null)
+					{
+						loadPlugins(plugins, null, true);
+						continue;
+					}
+
+					plugins = ClassPath.from(classLoader)
 						.getAllClasses()
 						.stream()
 						.map(ClassInfo::load)
@@ -310,6 +408,14 @@ public class PluginManager
 	}
 
 	public List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
+	{
+		return loadPlugins(plugins, onPluginLoaded, false);
+	}
+
+	/**
+	 * @param sorted if the plugins are already in dependency order, such as from a plugin index
+	 */
+	private List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded, boolean sorted) throws PluginInstantiationException
 	{
 		MutableGraph<Class<? extends Plugin>> graph = GraphBuilder
 			.directed()
@@ -352,51 +458,156 @@ public class PluginManager
 			graph.addNode((Class<Plugin>) clazz);
 		}
 
-		// Build plugin graph
-		for (Class<? extends Plugin> pluginClazz : graph.nodes())
+		List<Class<? extends Plugin>> sortedPlugins;
+		if (sorted)
 		{
-			PluginDependency[] pluginDependencies = pluginClazz.getAnnotationsByType(PluginDependency.class);
-
-			for (PluginDependency pluginDependency : pluginDependencies)
+			// graph nodes are in insertion order, and removing the skipped plugins from a sorted list keeps it sorted
+			sortedPlugins = new ArrayList<>(graph.nodes());
+		}
+		else
+		{
+			// Build plugin graph
+			for (Class<? extends Plugin> pluginClazz : graph.nodes())
 			{
-				if (graph.nodes().contains(pluginDependency.value()))
+				PluginDependency[] pluginDependencies = pluginClazz.getAnnotationsByType(PluginDependency.class);
+
+				for (PluginDependency pluginDependency : pluginDependencies)
 				{
-					graph.putEdge(pluginDependency.value(), pluginClazz);
+					if (graph.nodes().contains(pluginDependency.value()))
+					{
+						graph.putEdge(pluginDependency.value(), pluginClazz);
+					}
 				}
 			}
+
+			if (Graphs.hasCycle(graph))
+			{
+				throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
+			}
+
+			sortedPlugins = topologicalSort(graph);
 		}
 
-		if (Graphs.hasCycle(graph))
+		List<Plugin> newPlugins = instantiate(sortedPlugins, onPluginLoaded);
+		this.plugins.addAll(newPlugins);
+		return newPlugins;
+	}
+
+	/**
+	 * Instantiate plugins on a temporary worker pool. Each plugin is instantiated once the plugins it
+	 * depends on are, so plugins with no dependency path between them are instantiated concurrently.
+	 *
+	 * @param sortedPlugins plugins in dependency order
+	 * @return the plugins which were instantiated, in dependency order
+	 */
+	private List<Plugin> instantiate(List<Class<? extends Plugin>> sortedPlugins, BiConsumer<Integer, Integer> onPluginLoaded)
+	{
+		if (sortedPlugins.isEmpty())
 		{
-			throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
+			return new ArrayList<>();
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		// plugins which can satisfy a dependency, including ones loaded previously
+		final Map<Class<?>, Plugin> available = new ConcurrentHashMap<>();
+		for (Plugin plugin : this.plugins)
+		{
+			available.put(plugin.getClass(), plugin);
+		}
 
-		int loaded = 0;
-		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		final Map<Class<? extends Plugin>, CompletableFuture<Plugin>> futures = new HashMap<>();
+		final long[] loadTimes = new long[sortedPlugins.size()];
+		final AtomicInteger loaded = new AtomicInteger();
+		final int threads = Math.min(sortedPlugins.size(), Runtime.getRuntime().availableProcessors());
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("plugin-loader-%d")
+			.setDaemon(true)
+			.build());
+		final long start = System.nanoTime();
+		try
 		{
-			Plugin plugin;
-			try
-			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
+			for (int i = 0; i < sortedPlugins.size(); ++i)
 			{
-				log.error("Error instantiating plugin!", ex);
+				final int idx = i;
+				final Class<? extends Plugin> pluginClazz = sortedPlugins.get(i);
+				// a failed plugin completes with null, which fails its dependents with an unmet dependency
+				final CompletableFuture<?>[] deps = Arrays.stream(pluginClazz.getAnnotationsByType(PluginDependency.class))
+					.map(d -> futures.get(d.value()))
+					.filter(Objects::nonNull)
+					.toArray(CompletableFuture[]::new);
+
+				futures.put(pluginClazz, CompletableFuture.allOf(deps).thenApplyAsync(v ->
+				{
+					final long pluginStart = System.nanoTime();
+					Plugin plugin = null;
+					try
+					{
+						plugin = instantiate(available.values(), (Class<Plugin>) pluginClazz);
+						available.put(pluginClazz, plugin);
+					}
+					catch (PluginInstantiationException ex)
+					{
+						log.error("Error instantiating plugin!", ex);
+					}
+					loadTimes[idx] = System.nanoTime() - pluginStart;
+
+					if (onPluginLoaded != null)
+					{
+						synchronized (loaded)
+						{
+							onPluginLoaded.accept(loaded.incrementAndGet(), sortedPlugins.size());
+						}
+					}
+					return plugin;
+				}, executor));
 			}
 
-			loaded++;
-			if (onPluginLoaded != null)
+			final List<Plugin> newPlugins = new ArrayList<>();
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				final Plugin plugin;
+				try
+				{
+					plugin = futures.get(pluginClazz).join();
+				}
+				catch (CompletionException ex)
+				{
+					Throwables.throwIfUnchecked(ex.getCause());
+					throw ex;
+				}
+
+				if (plugin != null)
+				{
+					newPlugins.add(plugin);
+				}
 			}
+
+			logTimes("Loaded", sortedPlugins, loadTimes, System.nanoTime() - start);
+			return newPlugins;
+		}
+		finally
+		{
+			executor.shutdown();
 		}
+	}
 
-		return newPlugins;
+	/**
+	 * Log how long each plugin took, and the slowest plugins
+	 */
+	private static void logTimes(String action, List<? extends Class<?>> pluginClasses, long[] times, long total)
+	{
+		final Integer[] order = new Integer[times.length];
+		for (int i = 0; i < order.length; ++i)
+		{
+			order[i] = i;
+			log.debug("{} plugin {} in {}ms", action, pluginClasses.get(i).getSimpleName(), TimeUnit.NANOSECONDS.toMillis(times[i]));
+		}
+		Arrays.sort(order, Comparator.comparingLong((Integer i) -> times[i]).reversed());
+
+		final String slowest = Arrays.stream(order)
+			.limit(SLOWEST_PLUGINS_LOGGED)
+			.map(i -> pluginClasses.get(i).getSimpleName() + " " + TimeUnit.NANOSECONDS.toMillis(times[i]) + "ms")
+			.collect(Collectors.joining(", "));
+		log.debug("{} {} plugins in {}ms (slowest: {})", action, times.length, TimeUnit.NANOSECONDS.toMillis(total), slowest);
 	}
 
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
@@ -533,7 +744,7 @@ public class PluginManager
 		return activePlugins.contains(plugin);
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	private Plugin instantiate(Collection<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
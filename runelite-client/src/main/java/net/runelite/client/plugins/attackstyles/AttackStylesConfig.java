@@ -29,9 +29,11 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.Notification;
 
-@ConfigGroup("attackIndicator")
+@ConfigGroup(AttackStylesConfig.GROUP)
 public interface AttackStylesConfig extends Config
 {
+	String GROUP = "attackIndicator";
+
 	@ConfigItem(
 		keyName = "alwaysShowStyle",
 		name = "Always show style",
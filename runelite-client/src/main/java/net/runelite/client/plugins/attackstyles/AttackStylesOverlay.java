@@ -44,6 +44,9 @@ class AttackStylesOverlay extends OverlayPanel
 	{
 		super(plugin);
 		setPosition(OverlayPosition.ABOVE_CHATBOX_RIGHT);
+		// the plugin marks the overlay dirty when the attack style or warning changes
+		setCacheable(true);
+		setConfigGroup(AttackStylesConfig.GROUP);
 		this.plugin = plugin;
 		this.config = config;
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Attack style overlay");
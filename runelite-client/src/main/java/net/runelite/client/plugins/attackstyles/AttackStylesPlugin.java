@@ -207,7 +207,7 @@ public class AttackStylesPlugin extends Plugin
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (event.getGroup().equals("attackIndicator"))
+		if (event.getGroup().equals(AttackStylesConfig.GROUP))
 		{
 			boolean enabled = Boolean.TRUE.toString().equals(event.getNewValue());
 			clientThread.invokeLater(() ->
@@ -370,6 +370,7 @@ public class AttackStylesPlugin extends Plugin
 				}
 			}
 		}
+		overlay.markDirty();
 		updateWidgetsToHide(config.removeWarnedStyles());
 	}
 
@@ -60,6 +60,8 @@ class DevToolsPanel extends PluginPanel
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
 	private final InventoryInspector inventoryInspector;
+	private final ExecutorInspector executorInspector;
+	private final ProfilerInspector profilerInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
 
@@ -73,6 +75,8 @@ class DevToolsPanel extends PluginPanel
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
 		InventoryInspector inventoryInspector,
+		ExecutorInspector executorInspector,
+		ProfilerInspector profilerInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
 		ScheduledExecutorService scheduledExecutorService)
@@ -86,6 +90,8 @@ class DevToolsPanel extends PluginPanel
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
 		this.scriptInspector = scriptInspector;
+		this.executorInspector = executorInspector;
+		this.profilerInspector = profilerInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
@@ -220,6 +226,12 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getWorldEntities());
 
+		container.add(plugin.getExecutorInspector());
+		plugin.getExecutorInspector().addFrame(executorInspector);
+
+		container.add(plugin.getProfiler());
+		plugin.getProfiler().addFrame(profilerInspector);
+
 		return container;
 	}
 }
@@ -173,6 +173,8 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton menus;
 	private DevToolsButton uiDefaultsInspector;
 	private DevToolsButton worldEntities;
+	private DevToolsButton executorInspector;
+	private DevToolsButton profiler;
 	private NavigationButton navButton;
 
 	private final HotkeyListener swingInspectorHotkeyListener = new HotkeyListener(() -> config.swingInspectorHotkey())
@@ -278,6 +280,9 @@ public class DevToolsPlugin extends Plugin
 
 		worldEntities = new DevToolsButton("World Entities");
 
+		executorInspector = new DevToolsButton("Executors");
+		profiler = new DevToolsButton("Profiler");
+
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
 		overlayManager.add(sceneOverlay);
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.task.TaskMonitor;
+
+@Singleton
+class ExecutorInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL = 1000;
+	private static final String[] COLUMNS = {
+		"Executor", "Task", "Queued", "Running", "Completed", "Avg wait (ms)", "Avg run (ms)", "Max run (ms)"
+	};
+
+	private final TaskMonitor taskMonitor;
+	private final StatsTableModel model = new StatsTableModel();
+	private final Timer timer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+	@Inject
+	ExecutorInspector(TaskMonitor taskMonitor)
+	{
+		this.taskMonitor = taskMonitor;
+
+		setTitle("RuneLite Executor Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.setFillsViewportHeight(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		timer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		timer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		model.setStats(taskMonitor.getStats());
+	}
+
+	private static class StatsTableModel extends AbstractTableModel
+	{
+		private List<TaskMonitor.TaskStats> stats = Collections.emptyList();
+
+		void setStats(List<TaskMonitor.TaskStats> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+				case 3:
+					return Integer.class;
+				case 4:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			TaskMonitor.TaskStats s = stats.get(row);
+			switch (col)
+			{
+				case 0:
+					return s.getExecutor();
+				case 1:
+					return s.getTask();
+				case 2:
+					return s.getQueued();
+				case 3:
+					return s.getRunning();
+				case 4:
+					return s.getCompleted();
+				case 5:
+					return s.getAvgWaitMs();
+				case 6:
+					return s.getAvgRunMs();
+				case 7:
+					return s.getMaxRunMs();
+				default:
+					return null;
+			}
+		}
+	}
+}
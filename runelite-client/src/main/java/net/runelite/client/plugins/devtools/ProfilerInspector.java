@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.profiler.CallSite;
+import net.runelite.client.profiler.Profiler;
+
+@Slf4j
+@Singleton
+class ProfilerInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL = 1000;
+	private static final String[] COLUMNS = {
+		"Category", "Site", "Calls", "Total (ms)", "Avg (us)", "p50 (us)", "p99 (us)", "Max (us)"
+	};
+
+	private final ScheduledExecutorService executor;
+	private final Profiler profiler;
+	private final CallSiteTableModel model = new CallSiteTableModel();
+	private final Timer timer = new Timer(REFRESH_INTERVAL, e -> refresh());
+	private final JLabel status = new JLabel();
+
+	@Inject
+	ProfilerInspector(ScheduledExecutorService executor, Profiler profiler)
+	{
+		this.executor = executor;
+		this.profiler = profiler;
+
+		setTitle("RuneLite Profiler");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.setFillsViewportHeight(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel bottomPanel = new JPanel();
+		add(bottomPanel, BorderLayout.SOUTH);
+
+		final JCheckBox enabled = new JCheckBox("Enabled", profiler.isEnabled());
+		enabled.addItemListener(ev -> profiler.setEnabled(enabled.isSelected()));
+		bottomPanel.add(enabled);
+
+		final JButton reset = new JButton("Reset");
+		reset.addActionListener(ev ->
+		{
+			profiler.reset();
+			refresh();
+		});
+		bottomPanel.add(reset);
+
+		final JButton export = new JButton("Export trace");
+		export.addActionListener(ev -> executor.execute(this::exportTrace));
+		bottomPanel.add(export);
+
+		bottomPanel.add(status);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		timer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		timer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		model.setSites(profiler.getCallSites());
+	}
+
+	private void exportTrace()
+	{
+		final String name = "trace-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".json";
+		final File file = new File(RuneLite.LOGS_DIR, name);
+		String message;
+		try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			profiler.exportTrace(out);
+			message = "Exported " + file.getName();
+			log.info("Exported profiler trace to {}", file);
+		}
+		catch (IOException e)
+		{
+			message = "Export failed";
+			log.warn("Unable to export profiler trace", e);
+		}
+
+		final String text = message;
+		SwingUtilities.invokeLater(() -> status.setText(text));
+	}
+
+	private static class CallSiteTableModel extends AbstractTableModel
+	{
+		private List<CallSite> sites = Collections.emptyList();
+
+		void setSites(List<CallSite> sites)
+		{
+			this.sites = sites;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return sites.size();
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			CallSite site = sites.get(row);
+			switch (col)
+			{
+				case 0:
+					return site.getCategory();
+				case 1:
+					return site.getName();
+				case 2:
+					return site.getCount();
+				case 3:
+					return site.getTotalNanos() / 1e6;
+				case 4:
+					return site.getCount() == 0 ? 0d : site.getTotalNanos() / 1e3 / site.getCount();
+				case 5:
+					return site.getPercentileNanos(.5) / 1e3;
+				case 6:
+					return site.getPercentileNanos(.99) / 1e3;
+				case 7:
+					return site.getMaxNanos() / 1e3;
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -25,9 +25,7 @@
 
 package net.runelite.client.plugins.grandexchange;
 
-import java.util.function.ToDoubleFunction;
 import javax.inject.Singleton;
-import net.runelite.api.ItemComposition;
 import org.apache.commons.text.similarity.JaroWinklerDistance;
 import org.apache.commons.text.similarity.LongestCommonSubsequence;
 import org.apache.commons.text.similarity.SimilarityScore;
@@ -64,15 +62,4 @@ public class FuzzySearchScorer
 		// subtract 1.0 to filter out low-scoring results
 		return lcsScore + proximityScore - 1.0;
 	}
-
-	public ToDoubleFunction<ItemComposition> comparator(String query)
-	{
-		// We do this so that for example the items "Anti-venom ..." are still at the top
-		// when searching "anti venom"
-		return item -> score(
-			query.toLowerCase().replace('-', ' '),
-			item.getName().toLowerCase().replace('-', ' ')
-		);
-	}
-
 }
@@ -31,6 +31,7 @@ package net.runelite.client.plugins.grandexchange;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
 import com.google.common.primitives.Shorts;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
@@ -45,14 +46,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -92,6 +92,7 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSearchService;
 import net.runelite.client.game.ItemStats;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
@@ -189,6 +190,9 @@ public class GrandExchangePlugin extends Plugin
 	@Inject
 	private FuzzySearchScorer fuzzySearchScorer;
 
+	@Inject
+	private ItemSearchService itemSearchService;
+
 	@Inject
 	private GrandExchangeClient grandExchangeClient;
 	private int lastLoginTick;
@@ -707,11 +711,8 @@ public class GrandExchangePlugin extends Plugin
 		int resultCount = 0;
 		if (searchMode == GrandExchangeSearchMode.FUZZY_FALLBACK)
 		{
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
+			List<Integer> ids = Arrays.stream(itemSearchService.searchTradeable(input, MAX_RESULT_COUNT + 1))
 					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1
-						&& item.getName().toLowerCase().contains(input))
-					.limit(MAX_RESULT_COUNT + 1)
 					.sorted(Comparator.comparing(ItemComposition::getName))
 					.map(ItemComposition::getId)
 					.collect(Collectors.toList());
@@ -730,19 +731,10 @@ public class GrandExchangePlugin extends Plugin
 
 		if (resultCount == 0)
 		{
-			ToDoubleFunction<ItemComposition> comparator = fuzzySearchScorer.comparator(input);
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
-					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1)
-					.filter(item -> comparator.applyAsDouble(item) > 0)
-					.sorted(Comparator.comparingDouble(comparator).reversed()
-						.thenComparing(ItemComposition::getName))
-					.limit(MAX_RESULT_COUNT)
-					.map(ItemComposition::getId)
-					.collect(Collectors.toList());
+			int[] ids = itemSearchService.fuzzySearchTradeable(input, MAX_RESULT_COUNT, fuzzySearchScorer::score);
 
-			client.setGeSearchResultCount(ids.size());
-			client.setGeSearchResultIds(Shorts.toArray(ids));
+			client.setGeSearchResultCount(ids.length);
+			client.setGeSearchResultIds(Shorts.toArray(Ints.asList(ids)));
 
 			wasFuzzySearch = true;
 		}
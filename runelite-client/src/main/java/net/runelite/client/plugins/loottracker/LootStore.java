@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Append-only store of the aggregated loot for one profile. Each write appends the new aggregate
+ * for a (type, name), and compaction rewrites the file with only the latest aggregates.
+ * <p>
+ * The file is a header followed by records of:
+ * int length
+ * int crc32 of the body
+ * body: byte op, string type, string name, and for puts: long first, long last, int kills,
+ * int count, int[count] item ids, int[count] quantities
+ * <p>
+ * Clients sharing a profile directory lock a .lock file next to the store while writing it, since
+ * compaction replaces the store file.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int MAGIC = 0x524c4c54; // RLLT
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private static final byte OP_PUT = 0;
+	private static final byte OP_REMOVE = 1;
+
+	// file locks are held by the whole process, so stores of the same file in this process take turns
+	private static final Object PROCESS_LOCK = new Object();
+
+	private final File file;
+	private final File lockFile;
+	private final Map<ConfigLoot, ConfigLoot> loots = new HashMap<>();
+	// records in the file, including ones which have been superseded
+	private int records;
+	private boolean loaded;
+
+	LootStore(File file)
+	{
+		this.file = file;
+		this.lockFile = new File(file.getParentFile(), file.getName() + ".lock");
+	}
+
+	/**
+	 * Read the store from disk, dropping any trailing partial record
+	 */
+	synchronized void load() throws IOException
+	{
+		loaded = true;
+
+		synchronized (PROCESS_LOCK)
+		{
+			try (FileChannel channel = openLock(); FileLock lock = channel.lock())
+			{
+				reload();
+			}
+		}
+	}
+
+	private void reload() throws IOException
+	{
+		loots.clear();
+		records = 0;
+
+		if (!file.exists())
+		{
+			return;
+		}
+
+		long end;
+		if (file.length() < HEADER_SIZE)
+		{
+			// the header was never completely written, the next append will rewrite it
+			end = 0;
+		}
+		else
+		{
+			end = read();
+			if (end == -1)
+			{
+				File corrupt = new File(file.getParentFile(), file.getName() + ".corrupt");
+				log.warn("Invalid loot store header in {}, moving it to {}", file, corrupt);
+				Files.move(file.toPath(), corrupt.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				return;
+			}
+		}
+
+		if (end != file.length())
+		{
+			log.warn("Dropping {} bytes of trailing data from {}", file.length() - end, file);
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+			{
+				raf.setLength(end);
+			}
+		}
+
+		log.debug("Loaded {} loot records ({} live) from {}", records, loots.size(), file);
+	}
+
+	/**
+	 * Read the records in the store
+	 *
+	 * @return the length of the valid data in the file, or -1 if the header is invalid
+	 */
+	private long read() throws IOException
+	{
+		long end = HEADER_SIZE;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return -1;
+			}
+
+			CRC32 crc = new CRC32();
+			byte[] body = new byte[256];
+			while (true)
+			{
+				int length;
+				int checksum;
+				try
+				{
+					length = in.readInt();
+					checksum = in.readInt();
+					if (length <= 0 || length > file.length())
+					{
+						break;
+					}
+					if (length > body.length)
+					{
+						body = new byte[Math.max(length, body.length * 2)];
+					}
+					in.readFully(body, 0, length);
+				}
+				catch (EOFException e)
+				{
+					break;
+				}
+
+				crc.reset();
+				crc.update(body, 0, length);
+				if ((int) crc.getValue() != checksum)
+				{
+					break;
+				}
+
+				try
+				{
+					apply(ByteBuffer.wrap(body, 0, length));
+				}
+				catch (RuntimeException ex)
+				{
+					// the record is intact, so it is either from a newer client or was written incorrectly
+					log.warn("Skipping unreadable loot record in {}", file, ex);
+				}
+				end += 8 + length;
+				++records;
+			}
+		}
+		return end;
+	}
+
+	synchronized ConfigLoot get(LootRecordType type, String name)
+	{
+		ConfigLoot loot = loots.get(new ConfigLoot(type, name));
+		return loot == null ? null : copy(loot);
+	}
+
+	/**
+	 * Get the loot last received in the range [from, to), ordered by when it was last received
+	 */
+	synchronized List<ConfigLoot> query(Instant from, Instant to)
+	{
+		List<ConfigLoot> result = new ArrayList<>();
+		for (ConfigLoot loot : loots.values())
+		{
+			if (!loot.last.isBefore(from) && loot.last.isBefore(to))
+			{
+				result.add(copy(loot));
+			}
+		}
+		result.sort(Comparator.comparing(ConfigLoot::getLast));
+		return result;
+	}
+
+	synchronized void put(Collection<ConfigLoot> values) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		for (ConfigLoot loot : values)
+		{
+			writeRecord(bout, encodePut(loot));
+			loots.put(loot, copy(loot));
+		}
+		append(bout.toByteArray(), values.size());
+	}
+
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		if (loots.remove(new ConfigLoot(type, name)) == null)
+		{
+			return;
+		}
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		writeRecord(bout, encodeRemove(type, name));
+		append(bout.toByteArray(), 1);
+	}
+
+	synchronized void clear() throws IOException
+	{
+		loots.clear();
+		records = 0;
+		synchronized (PROCESS_LOCK)
+		{
+			try (FileChannel channel = openLock(); FileLock lock = channel.lock())
+			{
+				Files.deleteIfExists(file.toPath());
+			}
+		}
+	}
+
+	synchronized boolean isCompactionDue()
+	{
+		return records > loots.size() * 2 + 64;
+	}
+
+	/**
+	 * Rewrite the store with only the latest aggregate for each (type, name), dropping loot
+	 * last received before the expiry
+	 */
+	synchronized void compact(Instant expiry) throws IOException
+	{
+		synchronized (PROCESS_LOCK)
+		{
+			try (FileChannel channel = openLock(); FileLock lock = channel.lock())
+			{
+				// pick up records appended by other clients since this store was loaded
+				reload();
+				rewrite(expiry);
+			}
+		}
+	}
+
+	private void rewrite(Instant expiry) throws IOException
+	{
+		loots.values().removeIf(loot -> loot.last.isBefore(expiry));
+
+		File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (FileOutputStream fout = new FileOutputStream(tempFile);
+			BufferedOutputStream out = new BufferedOutputStream(fout))
+		{
+			writeHeader(out);
+			for (ConfigLoot loot : loots.values())
+			{
+				writeRecord(out, encodePut(loot));
+			}
+			out.flush();
+			fout.getChannel().force(false);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		log.debug("Compacted {} loot records to {}", records, loots.size());
+		records = loots.size();
+	}
+
+	private void append(byte[] data, int count) throws IOException
+	{
+		if (!loaded)
+		{
+			throw new IllegalStateException("loot store is not loaded");
+		}
+
+		synchronized (PROCESS_LOCK)
+		{
+			try (FileChannel channel = openLock(); FileLock lock = channel.lock();
+				FileOutputStream out = new FileOutputStream(file, true))
+			{
+				if (out.getChannel().size() == 0)
+				{
+					writeHeader(out);
+				}
+				out.write(data);
+				out.getChannel().force(false);
+			}
+		}
+		records += count;
+	}
+
+	private FileChannel openLock() throws IOException
+	{
+		file.getParentFile().mkdirs();
+		return FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+	}
+
+	private void apply(ByteBuffer buf)
+	{
+		byte op = buf.get();
+		LootRecordType type = LootRecordType.valueOf(readString(buf));
+		String name = readString(buf);
+
+		ConfigLoot loot = new ConfigLoot(type, name);
+		if (op == OP_REMOVE)
+		{
+			loots.remove(loot);
+			return;
+		}
+
+		loot.first = Instant.ofEpochMilli(buf.getLong());
+		loot.last = Instant.ofEpochMilli(buf.getLong());
+		loot.kills = buf.getInt();
+
+		int count = buf.getInt();
+		int[] drops = new int[count * 2];
+		for (int i = 0; i < count; ++i)
+		{
+			drops[i * 2] = buf.getInt();
+		}
+		for (int i = 0; i < count; ++i)
+		{
+			drops[i * 2 + 1] = buf.getInt();
+		}
+		loot.drops = drops;
+
+		loots.put(loot, loot);
+	}
+
+	private static byte[] encodePut(ConfigLoot loot) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream(64 + loot.drops.length * 4);
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(OP_PUT);
+		writeString(out, loot.type.name());
+		writeString(out, loot.name);
+		out.writeLong(loot.first.toEpochMilli());
+		out.writeLong(loot.last.toEpochMilli());
+		out.writeInt(loot.kills);
+
+		int count = loot.numDrops();
+		out.writeInt(count);
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeInt(loot.drops[i * 2]);
+		}
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeInt(loot.drops[i * 2 + 1]);
+		}
+		return bout.toByteArray();
+	}
+
+	private static byte[] encodeRemove(LootRecordType type, String name) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(OP_REMOVE);
+		writeString(out, type.name());
+		writeString(out, name);
+		return bout.toByteArray();
+	}
+
+	private static void writeHeader(OutputStream out) throws IOException
+	{
+		DataOutputStream dout = new DataOutputStream(out);
+		dout.writeInt(MAGIC);
+		dout.writeInt(VERSION);
+		dout.flush();
+	}
+
+	private static void writeRecord(OutputStream out, byte[] body) throws IOException
+	{
+		CRC32 crc = new CRC32();
+		crc.update(body);
+		DataOutputStream dout = new DataOutputStream(out);
+		dout.writeInt(body.length);
+		dout.writeInt((int) crc.getValue());
+		dout.write(body);
+		dout.flush();
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeShort(b.length);
+		out.write(b);
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getShort() & 0xffff;
+		String s = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return s;
+	}
+
+	private static ConfigLoot copy(ConfigLoot loot)
+	{
+		ConfigLoot c = new ConfigLoot(loot.type, loot.name);
+		c.kills = loot.kills;
+		c.first = loot.first;
+		c.last = loot.last;
+		c.drops = loot.drops.clone();
+		return c;
+	}
+}
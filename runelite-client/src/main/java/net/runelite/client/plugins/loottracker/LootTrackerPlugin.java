@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,13 +37,14 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -90,6 +90,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -134,6 +135,7 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -389,7 +391,8 @@ public class LootTrackerPlugin extends Plugin
 	private int inventoryTimeout;
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
-	private String profileKey;
+	private volatile String profileKey;
+	private volatile LootStore lootStore;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -479,56 +482,52 @@ public class LootTrackerPlugin extends Plugin
 			// Current queued loot is for the previous profile, so save it first with the current profile key
 			submitLoot();
 
-			this.profileKey = profileKey;
-
-			log.debug("Switched to profile {}", profileKey);
-
-			if (!config.rememberLoot())
+			LootStore store = new LootStore(new File(LOOT_DIR, profileKey + ".dat"));
+			try
+			{
+				store.load();
+			}
+			catch (IOException ex)
 			{
+				log.warn("Unable to load loot for profile {}", profileKey, ex);
+				// loot isn't saved until the store loads, and the next profile change tries again
+				this.profileKey = null;
+				lootStore = null;
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			try
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
+				migrateConfigLoot(profileKey, store);
+				if (store.isCompactionDue())
 				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
+					store.compact(Instant.now().minus(MAX_AGE));
 				}
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to migrate loot for profile {}", profileKey, ex);
+			}
 
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+			this.profileKey = profileKey;
+			lootStore = store;
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
-				{
-					// fast drop
-					continue;
-				}
+			log.debug("Switched to profile {}", profileKey);
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+			if (!config.rememberLoot())
+			{
+				return;
+			}
 
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+			// keep the most recently received loot, up to MAX_DROPS drops
+			List<ConfigLoot> allLoot = store.query(Instant.now().minus(MAX_AGE), Instant.MAX);
+			int start = allLoot.size();
+			int drops = 0;
+			while (start > 0 && drops + allLoot.get(start - 1).numDrops() < MAX_DROPS)
+			{
+				drops += allLoot.get(--start).numDrops();
 			}
+			List<ConfigLoot> loots = allLoot.subList(start, allLoot.size());
 
 			log.debug("Loaded {} records", loots.size());
 
@@ -556,10 +555,59 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	/**
+	 * Import the loot which used to be stored as json in the rsprofile config. The config is synced
+	 * between machines and older clients still read and write it, so it is left in place and only
+	 * loot newer than what is in the store is imported. Removing loot from the panel also removes its
+	 * config entry, so that it is not imported again.
+	 */
+	private void migrateConfigLoot(String profileKey, LootStore store) throws IOException
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
+
+		// expired loot is compacted out of the store, and would otherwise be imported on every load
+		Instant expiry = Instant.now().minus(MAX_AGE);
+		List<ConfigLoot> loots = new ArrayList<>();
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Removing loot with malformed json: {}", json, ex);
+				continue;
+			}
+
+			if (configLoot == null || configLoot.type == null || configLoot.last == null || configLoot.drops == null
+				|| configLoot.last.isBefore(expiry))
+			{
+				continue;
+			}
+
+			ConfigLoot existing = store.get(configLoot.type, configLoot.name);
+			if (existing == null || existing.last.isBefore(configLoot.last))
+			{
+				loots.add(configLoot);
+			}
+		}
+
+		if (loots.isEmpty())
+		{
+			return;
+		}
+
+		store.put(loots);
+
+		log.debug("Migrated {} loot records from config for profile {}", loots.size(), profileKey);
 	}
 
 	@Subscribe
@@ -584,6 +632,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		profileKey = null;
+		lootStore = null;
 		ignoredItems = Text.fromCSV(config.getIgnoredItems());
 		ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
 		panel = new LootTrackerPanel(this, itemManager, config);
@@ -1369,16 +1418,17 @@ public class LootTrackerPlugin extends Plugin
 			queuedLoots.clear();
 		}
 
-		saveLoot(copy);
+		CompletableFuture<Void> saved = saveLoot(copy);
 
 		if (client.getEnvironment() != 0)
 		{
-			return null;
+			return saved;
 		}
 
 		log.debug("Submitting {} loot records", copy.size());
 
-		return lootTrackerClient.submit(copy);
+		CompletableFuture<Void> submitted = lootTrackerClient.submit(copy);
+		return saved == null ? submitted : CompletableFuture.allOf(saved, submitted);
 	}
 
 	private Collection<ConfigLoot> combine(List<LootRecord> records)
@@ -1397,13 +1447,29 @@ public class LootTrackerPlugin extends Plugin
 		return map.values();
 	}
 
-	private void saveLoot(List<LootRecord> records)
+	@Nullable
+	private CompletableFuture<Void> saveLoot(List<LootRecord> records)
+	{
+		LootStore store = lootStore;
+		if (store == null)
+		{
+			log.debug("Trying to save loot with no profile!");
+			return null;
+		}
+
+		// the store syncs each write to disk, so writes are done on the executor instead of the client
+		// or swing thread. The executor is single threaded, which also keeps writes in order.
+		return CompletableFuture.runAsync(() -> writeLoot(store, records), executor);
+	}
+
+	private void writeLoot(LootStore store, List<LootRecord> records)
 	{
 		Instant now = Instant.now();
 		Collection<ConfigLoot> combinedRecords = combine(records);
+		List<ConfigLoot> updated = new ArrayList<>(combinedRecords.size());
 		for (ConfigLoot record : combinedRecords)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
+			ConfigLoot lootConfig = store.get(record.type, record.name);
 			if (lootConfig == null)
 			{
 				lootConfig = record;
@@ -1417,7 +1483,20 @@ public class LootTrackerPlugin extends Plugin
 				}
 			}
 			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			updated.add(lootConfig);
+		}
+
+		try
+		{
+			store.put(updated);
+			if (store.isCompactionDue())
+			{
+				store.compact(Instant.now().minus(MAX_AGE));
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot", ex);
 		}
 	}
 
@@ -1661,56 +1740,62 @@ public class LootTrackerPlugin extends Plugin
 
 	ConfigLoot getLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to get loot with no profile!");
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		return store.get(type, name);
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to remove loot with no profile!");
 			return;
 		}
 
+		String profile = profileKey;
+		executor.execute(() ->
+		{
+			try
+			{
+				store.remove(type, name);
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to remove loot", ex);
+			}
+		});
+		// so that the loot isn't imported from the config again
 		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
+		String profile = profileKey;
+		executor.execute(() ->
+		{
+			try
+			{
+				store.clear();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to clear loot", ex);
+			}
+		});
 		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
 		{
 			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
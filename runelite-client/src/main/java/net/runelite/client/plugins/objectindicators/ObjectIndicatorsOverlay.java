@@ -90,6 +90,7 @@ class ObjectIndicatorsOverlay extends Overlay
 			(config.highlightOutline() ? HF_OUTLINE : 0) |
 			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
 			(config.highlightTile() ? HF_TILE : 0);
+		final ModelOutlineRenderer.Batch outlines = modelOutlineRenderer.batch();
 		for (ColorTileObject obj : objects)
 		{
 			TileObject object = obj.getTileObject();
@@ -138,7 +139,7 @@ class ObjectIndicatorsOverlay extends Overlay
 
 			if ((flags & HF_OUTLINE) != 0)
 			{
-				modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
+				outlines.add(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
 			}
 
 			if ((flags & HF_CLICKBOX) != 0)
@@ -162,6 +163,7 @@ class ObjectIndicatorsOverlay extends Overlay
 			}
 		}
 
+		outlines.draw();
 		return null;
 	}
 
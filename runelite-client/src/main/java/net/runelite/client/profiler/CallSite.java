@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Latency histogram of a single profiled call site. Durations are counted in power of two nanosecond
+ * buckets, so percentiles are accurate to within a factor of two.
+ */
+public class CallSite
+{
+	private static final int BUCKETS = 64;
+
+	@Getter
+	private final String category;
+	@Getter
+	private final String name;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	CallSite(String category, String name)
+	{
+		this.category = category;
+		this.name = name;
+	}
+
+	void record(long nanos)
+	{
+		if (nanos < 0)
+		{
+			nanos = 0;
+		}
+
+		// bucket i holds durations in [2^i, 2^(i+1)), with 0 counted in bucket 0
+		buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(nanos | 1));
+		count.increment();
+		total.add(nanos);
+		if (nanos > max.get())
+		{
+			max.accumulateAndGet(nanos, Math::max);
+		}
+	}
+
+	void reset()
+	{
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			buckets.set(i, 0);
+		}
+		count.reset();
+		total.reset();
+		max.set(0);
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return total.sum();
+	}
+
+	public long getMaxNanos()
+	{
+		return max.get();
+	}
+
+	/**
+	 * Estimate the duration which the given fraction of calls complete within
+	 *
+	 * @param p percentile, from 0 to 1
+	 * @return the upper bound of the bucket containing the percentile, in nanoseconds
+	 */
+	public long getPercentileNanos(double p)
+	{
+		long[] counts = new long[BUCKETS];
+		long n = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			counts[i] = buckets.get(i);
+			n += counts[i];
+		}
+
+		long target = (long) Math.ceil(n * p);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += counts[i];
+			if (seen >= target && counts[i] > 0)
+			{
+				return Math.min(getMaxNanos(), i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1);
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import com.google.common.collect.MapMaker;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Low overhead latency profiler for the client's callback dispatch loops. Each instrumented call site
+ * records into a {@link CallSite} histogram and a shared, preallocated ring buffer of trace spans which
+ * can be exported in the Chrome trace event format.
+ * <p>
+ * Instrumented code checks {@link #isEnabled()} once per dispatch, so disabled profiling costs a
+ * volatile read. Dispatchers which own their subscribers, such as the event bus and overlay renderer,
+ * keep the {@link CallSite} of each subscriber so that recording a call needs no lookup.
+ */
+@Slf4j
+@Singleton
+public class Profiler
+{
+	public static final String EVENT = "event";
+	public static final String OVERLAY = "overlay";
+	public static final String INVOKE = "invoke";
+	public static final String DRAW = "draw";
+	public static final String SCHEDULE = "schedule";
+
+	private static final int TRACE_SIZE = 1 << 16;
+	private static final int TRACE_MASK = TRACE_SIZE - 1;
+
+	static final int MAX_SITES = 4096;
+	static final String OTHER = "(other)";
+
+	private volatile boolean enabled;
+
+	// call sites by category and description, so that every instance of a subscriber or overlay shares a site
+	private final Map<String, CallSite> sites = new ConcurrentHashMap<>();
+	private final List<CallSite> siteList = new CopyOnWriteArrayList<>();
+	// the site of each recorded key by category. Keys are held weakly, so stopped plugins can be unloaded.
+	private final Map<String, Map<Object, CallSite>> keySites = new ConcurrentHashMap<>();
+
+	// trace spans, indexed by the sequence number of the span masked to the buffer size
+	private final AtomicLong traceSeq = new AtomicLong();
+	private final CallSite[] traceSite = new CallSite[TRACE_SIZE];
+	private final long[] traceStart = new long[TRACE_SIZE];
+	private final long[] traceDuration = new long[TRACE_SIZE];
+	private final long[] traceThread = new long[TRACE_SIZE];
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		log.debug("Profiler {}", enabled ? "enabled" : "disabled");
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Record a call which started at {@code start} and ended now
+	 *
+	 * @param category the kind of call site, eg. {@link #EVENT}
+	 * @param key identifies the call site within the category, eg. the subscriber or overlay. Keys
+	 *            with the same description share a call site.
+	 * @param start the {@link System#nanoTime()} at the start of the call
+	 */
+	public void record(String category, Object key, long start)
+	{
+		record(getCallSite(category, key), start);
+	}
+
+	/**
+	 * Record a call which started at {@code start} and ended now
+	 *
+	 * @param site the call site, from {@link #getCallSite(String, Object)}
+	 * @param start the {@link System#nanoTime()} at the start of the call
+	 */
+	public void record(CallSite site, long start)
+	{
+		final long end = System.nanoTime();
+		final long duration = end - start;
+		site.record(duration);
+
+		final int idx = (int) (traceSeq.getAndIncrement() & TRACE_MASK);
+		traceSite[idx] = site;
+		traceStart[idx] = start;
+		traceDuration[idx] = duration;
+		traceThread[idx] = Thread.currentThread().getId();
+	}
+
+	/**
+	 * Get the call site of a key. Sites are kept across {@link #reset()}, so callers may hold on to them.
+	 *
+	 * @param category the kind of call site, eg. {@link #EVENT}
+	 * @param key identifies the call site within the category. Keys with the same description share a call site.
+	 */
+	public CallSite getCallSite(String category, Object key)
+	{
+		Map<Object, CallSite> m = keySites.get(category);
+		if (m == null)
+		{
+			m = keySites.computeIfAbsent(category, k -> new MapMaker().weakKeys().makeMap());
+		}
+
+		CallSite site = m.get(key);
+		if (site == null)
+		{
+			site = describedSite(category, describe(key));
+			m.put(key, site);
+		}
+		return site;
+	}
+
+	CallSite describedSite(String category, String name)
+	{
+		String id = category + ' ' + name;
+		CallSite site = sites.get(id);
+		if (site != null)
+		{
+			return site;
+		}
+
+		if (sites.size() >= MAX_SITES)
+		{
+			// keep plugins which are repeatedly reloaded, or which have many distinct call sites, from growing this forever
+			name = OTHER;
+			id = category + ' ' + OTHER;
+		}
+
+		final String siteName = name;
+		return sites.computeIfAbsent(id, k ->
+		{
+			CallSite s = new CallSite(category, siteName);
+			siteList.add(s);
+			return s;
+		});
+	}
+
+	/**
+	 * Get the call sites which have recorded calls since the last reset, ordered by their total time
+	 */
+	public List<CallSite> getCallSites()
+	{
+		List<CallSite> l = new ArrayList<>(siteList.size());
+		for (CallSite site : siteList)
+		{
+			if (site.getCount() > 0)
+			{
+				l.add(site);
+			}
+		}
+		l.sort(Comparator.comparingLong(CallSite::getTotalNanos).reversed());
+		return l;
+	}
+
+	public void reset()
+	{
+		for (CallSite site : siteList)
+		{
+			site.reset();
+		}
+		traceSeq.set(0);
+	}
+
+	/**
+	 * Write the most recent trace spans as a Chrome trace event file, which can be opened in
+	 * chrome://tracing or Perfetto. Spans are read while other threads may be recording, so a span
+	 * being written concurrently may be torn.
+	 */
+	public void exportTrace(Writer out) throws IOException
+	{
+		final long seq = traceSeq.get();
+		final long first = Math.max(0, seq - TRACE_SIZE);
+		long base = Long.MAX_VALUE;
+		for (long i = first; i < seq; ++i)
+		{
+			base = Math.min(base, traceStart[(int) (i & TRACE_MASK)]);
+		}
+
+		JsonWriter writer = new JsonWriter(out);
+		writer.beginObject();
+		writer.name("displayTimeUnit").value("ms");
+		writer.name("traceEvents").beginArray();
+		for (long i = first; i < seq; ++i)
+		{
+			final int idx = (int) (i & TRACE_MASK);
+			final CallSite site = traceSite[idx];
+			if (site == null)
+			{
+				continue;
+			}
+
+			writer.beginObject();
+			writer.name("name").value(site.getName());
+			writer.name("cat").value(site.getCategory());
+			writer.name("ph").value("X");
+			writer.name("ts").value((traceStart[idx] - base) / 1000.0);
+			writer.name("dur").value(traceDuration[idx] / 1000.0);
+			writer.name("pid").value(1);
+			writer.name("tid").value(traceThread[idx]);
+			writer.endObject();
+		}
+		writer.endArray();
+		writer.endObject();
+		writer.flush();
+	}
+
+	static String describe(Object key)
+	{
+		if (key instanceof EventBus.Subscriber)
+		{
+			EventBus.Subscriber sub = (EventBus.Subscriber) key;
+			key = sub.getMethod() != null ? sub.getMethod() : sub.getObject();
+		}
+
+		if (key instanceof Method)
+		{
+			Method method = (Method) key;
+			return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		}
+
+		String name = key instanceof Class ? ((Class<?>) key).getName() : key.getClass().getName();
+		// lambdas are named after the class they are declared in
+		int idx = name.indexOf("$$Lambda");
+		if (idx != -1)
+		{
+			name = name.substring(0, idx);
+		}
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+}
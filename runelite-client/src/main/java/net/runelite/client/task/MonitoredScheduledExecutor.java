@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.runelite.client.util.CallableExceptionLogger;
+import net.runelite.client.util.RunnableExceptionLogger;
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} which reports the queue depth and latency of its tasks
+ * to a {@link TaskMonitor}
+ */
+public class MonitoredScheduledExecutor extends ScheduledThreadPoolExecutor
+{
+	private final String name;
+	private final TaskMonitor monitor;
+
+	public MonitoredScheduledExecutor(String name, int threads, int priority, TaskMonitor monitor)
+	{
+		super(threads, new ThreadFactoryBuilder()
+			.setNameFormat("RuneLite " + name + " %d")
+			.setPriority(priority)
+			.build());
+		this.name = name;
+		this.monitor = monitor;
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task)
+	{
+		return new MonitoredTask<>(monitor.get(name, taskName(runnable)), task);
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task)
+	{
+		return new MonitoredTask<>(monitor.get(name, taskName(callable)), task);
+	}
+
+	static String taskName(Object task)
+	{
+		if (task instanceof RunnableExceptionLogger)
+		{
+			task = ((RunnableExceptionLogger) task).getRunnable();
+		}
+		else if (task instanceof CallableExceptionLogger)
+		{
+			task = ((CallableExceptionLogger<?>) task).getCallable();
+		}
+
+		// lambdas are named after the class they are declared in
+		String name = task.getClass().getName();
+		int idx = name.indexOf("$$Lambda");
+		if (idx != -1)
+		{
+			name = name.substring(0, idx);
+		}
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+
+	private static class MonitoredTask<V> implements RunnableScheduledFuture<V>
+	{
+		private final TaskMonitor.Stats stats;
+		private final RunnableScheduledFuture<V> task;
+		private final AtomicBoolean queued = new AtomicBoolean(true);
+		private long readyAt;
+
+		MonitoredTask(TaskMonitor.Stats stats, RunnableScheduledFuture<V> task)
+		{
+			this.stats = stats;
+			this.task = task;
+			readyAt = System.nanoTime() + task.getDelay(TimeUnit.NANOSECONDS);
+			stats.queued.incrementAndGet();
+		}
+
+		private void dequeue()
+		{
+			if (queued.compareAndSet(true, false))
+			{
+				stats.queued.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			long start = System.nanoTime();
+			if (!task.isPeriodic())
+			{
+				dequeue();
+			}
+
+			stats.running.incrementAndGet();
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				long end = System.nanoTime();
+				stats.running.decrementAndGet();
+				stats.record(start - readyAt, end - start);
+
+				if (task.isDone())
+				{
+					dequeue();
+				}
+				else
+				{
+					// periodic tasks are requeued after running
+					readyAt = end + task.getDelay(TimeUnit.NANOSECONDS);
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			boolean cancelled = task.cancel(mayInterruptIfRunning);
+			if (cancelled)
+			{
+				dequeue();
+			}
+			return cancelled;
+		}
+
+		@Override
+		public boolean isPeriodic()
+		{
+			return task.isPeriodic();
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit)
+		{
+			return task.getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed o)
+		{
+			return task.compareTo(o instanceof MonitoredTask ? ((MonitoredTask<?>) o).task : o);
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			return task.isCancelled();
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return task.isDone();
+		}
+
+		@Override
+		public V get() throws InterruptedException, ExecutionException
+		{
+			return task.get();
+		}
+
+		@Override
+		public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+		{
+			return task.get(timeout, unit);
+		}
+	}
+}
@@ -26,11 +26,13 @@ package net.runelite.client.task;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import net.runelite.client.profiler.CallSite;
 
 @RequiredArgsConstructor
 @ToString
@@ -44,4 +46,7 @@ public class ScheduledMethod
 	private final Runnable lambda;
 	@Setter
 	private Instant last = Instant.now();
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	CallSite callSite;
 }
@@ -35,6 +35,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.CallSite;
+import net.runelite.client.profiler.Profiler;
 
 @Singleton
 @Slf4j
@@ -45,6 +47,9 @@ public class Scheduler
 	@Inject
 	ScheduledExecutorService executor;
 
+	@Inject
+	Profiler profiler;
+
 	public void addScheduledMethod(ScheduledMethod method)
 	{
 		scheduledMethods.add(method);
@@ -93,6 +98,8 @@ public class Scheduler
 
 	private void run(ScheduledMethod scheduledMethod)
 	{
+		final boolean profile = profiler.isEnabled();
+		final long start = profile ? System.nanoTime() : 0L;
 		try
 		{
 			Runnable lambda = scheduledMethod.getLambda();
@@ -114,5 +121,17 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+		finally
+		{
+			if (profile)
+			{
+				CallSite site = scheduledMethod.callSite;
+				if (site == null)
+				{
+					site = scheduledMethod.callSite = profiler.getCallSite(Profiler.SCHEDULE, scheduledMethod.getMethod());
+				}
+				profiler.record(site, start);
+			}
+		}
 	}
 }
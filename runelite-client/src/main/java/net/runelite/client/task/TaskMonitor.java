@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+
+/**
+ * Tracks queue depth and latency of the tasks run on the client executors, by executor and task name
+ */
+public class TaskMonitor
+{
+	private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+	Stats get(String executor, String task)
+	{
+		return stats.computeIfAbsent(executor + '/' + task, k -> new Stats(executor, task));
+	}
+
+	public List<TaskStats> getStats()
+	{
+		List<TaskStats> l = new ArrayList<>(stats.size());
+		for (Stats s : stats.values())
+		{
+			l.add(s.snapshot());
+		}
+		l.sort(Comparator.comparing(TaskStats::getExecutor).thenComparing(TaskStats::getTask));
+		return l;
+	}
+
+	@Value
+	public static class TaskStats
+	{
+		String executor;
+		String task;
+		int queued;
+		int running;
+		long completed;
+		double avgWaitMs;
+		double avgRunMs;
+		double maxRunMs;
+	}
+
+	static class Stats
+	{
+		private final String executor;
+		private final String task;
+		final AtomicInteger queued = new AtomicInteger();
+		final AtomicInteger running = new AtomicInteger();
+		private final LongAdder completed = new LongAdder();
+		private final LongAdder waitNanos = new LongAdder();
+		private final LongAdder runNanos = new LongAdder();
+		private final AtomicLong maxRunNanos = new AtomicLong();
+
+		private Stats(String executor, String task)
+		{
+			this.executor = executor;
+			this.task = task;
+		}
+
+		void record(long wait, long run)
+		{
+			completed.increment();
+			waitNanos.add(Math.max(0, wait));
+			runNanos.add(run);
+			maxRunNanos.accumulateAndGet(run, Math::max);
+		}
+
+		private TaskStats snapshot()
+		{
+			long n = completed.sum();
+			double nanosPerMs = TimeUnit.MILLISECONDS.toNanos(1);
+			return new TaskStats(
+				executor,
+				task,
+				queued.get(),
+				running.get(),
+				n,
+				n == 0 ? 0 : waitNanos.sum() / nanosPerMs / n,
+				n == 0 ? 0 : runNanos.sum() / nanosPerMs / n,
+				maxRunNanos.get() / nanosPerMs
+			);
+		}
+	}
+}
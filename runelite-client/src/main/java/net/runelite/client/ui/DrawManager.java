@@ -31,8 +31,10 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.Profiler;
 
 @Singleton
 @Slf4j
@@ -41,6 +43,9 @@ public class DrawManager
 	private final List<Runnable> everyFrame = new CopyOnWriteArrayList<>();
 	private final Queue<Consumer<Image>> nextFrame = new ConcurrentLinkedQueue<>();
 
+	@Inject
+	private Profiler profiler;
+
 	public void registerEveryFrameListener(Runnable everyFrameListener)
 	{
 		if (!everyFrame.contains(everyFrameListener))
@@ -61,8 +66,10 @@ public class DrawManager
 
 	public void processDrawComplete(Supplier<Image> imageSupplier)
 	{
+		final boolean profile = profiler.isEnabled();
 		for (Runnable everyFrameListener : everyFrame)
 		{
+			final long start = profile ? System.nanoTime() : 0L;
 			try
 			{
 				everyFrameListener.run();
@@ -71,6 +78,11 @@ public class DrawManager
 			{
 				log.error("Error in draw consumer", e);
 			}
+
+			if (profile)
+			{
+				profiler.record(Profiler.DRAW, everyFrameListener, start);
+			}
 		}
 
 		Consumer<Image> nextFrameListener = nextFrame.poll();
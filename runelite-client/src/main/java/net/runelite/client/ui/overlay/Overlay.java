@@ -41,6 +41,7 @@ import net.runelite.api.annotations.Component;
 import net.runelite.api.annotations.Interface;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.plugins.Plugin;
+import net.runelite.client.profiler.CallSite;
 import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
 
 @Getter
@@ -92,6 +93,36 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether the rendered overlay can be retained between frames. A cacheable overlay is rendered
+	 * into an image which is drawn in its place until it is marked dirty with {@link #markDirty()},
+	 * its {@link #getConfigGroup() config group} or the RuneLite config changes, or the overlay is
+	 * resized. The overlay must mark itself dirty whenever anything else it renders changes.
+	 * This is only useful for overlays which are drawn within their bounds and don't change every frame,
+	 * such as panels, and is ignored for {@link OverlayPosition#DYNAMIC} and {@link OverlayPosition#TOOLTIP} overlays.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean cacheable;
+
+	/**
+	 * The config group the overlay renders from. A {@link #isCacheable() cacheable} overlay is marked
+	 * dirty when config in this group changes.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private String configGroup;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	volatile boolean dirty = true;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	volatile OverlayCache cache;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	CallSite callSite;
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -233,6 +264,15 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Mark a {@link #isCacheable() cacheable} overlay as needing to be rendered again on the next frame.
+	 * This can be called from any thread.
+	 */
+	public void markDirty()
+	{
+		dirty = true;
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Retained rendering of a {@link Overlay#isCacheable() cacheable} overlay. The overlay is rendered into
+ * an image which is then drawn each frame in place of the overlay, until the overlay is marked dirty,
+ * or the overlay's font or preferred size changes. Images are taken from and returned to a {@link Pool}
+ * shared by all overlays.
+ */
+class OverlayCache
+{
+	// images are allocated in multiples of this, so small changes in size don't reallocate
+	private static final int GRANULARITY = 32;
+	// size of the first image when the overlay has not yet reported its size
+	private static final int INITIAL_SIZE = 128;
+
+	private final Pool pool;
+	private BufferedImage image;
+	private GraphicsConfiguration configuration;
+	private Dimension size;
+	private Dimension preferredSize;
+	private Font font;
+
+	OverlayCache(Pool pool)
+	{
+		this.pool = pool;
+	}
+
+	/**
+	 * Draw the overlay, rendering it into the cache first if the cache is stale
+	 *
+	 * @param overlay overlay
+	 * @param graphics graphics translated to the overlay's location
+	 * @return the size of the overlay
+	 */
+	synchronized Dimension render(Overlay overlay, Graphics2D graphics)
+	{
+		final Font font = graphics.getFont();
+		if (overlay.dirty || image == null || this.font != font
+			|| configuration != graphics.getDeviceConfiguration()
+			|| !Objects.equals(preferredSize, overlay.getPreferredSize()))
+		{
+			// cleared before rendering, so that marking dirty during render() causes another render
+			overlay.dirty = false;
+			update(overlay, graphics, font);
+		}
+
+		if (size != null)
+		{
+			graphics.drawImage(image, 0, 0, null);
+		}
+		return size;
+	}
+
+	private void update(Overlay overlay, Graphics2D graphics, Font font)
+	{
+		final Dimension preferredSize = overlay.getPreferredSize();
+		int width = INITIAL_SIZE, height = INITIAL_SIZE;
+		if (size != null)
+		{
+			width = size.width;
+			height = size.height;
+		}
+		if (preferredSize != null)
+		{
+			width = Math.max(width, preferredSize.width);
+			height = Math.max(height, preferredSize.height);
+		}
+
+		final RenderingHints hints = (RenderingHints) graphics.getRenderingHints().clone();
+		final GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+		if (image != null && this.configuration != configuration)
+		{
+			releaseImage();
+		}
+
+		Dimension dimension;
+		while (true)
+		{
+			if (image == null || image.getWidth() < width || image.getHeight() < height)
+			{
+				final int imageWidth = roundUp(Math.max(width, image == null ? 0 : image.getWidth()));
+				final int imageHeight = roundUp(Math.max(height, image == null ? 0 : image.getHeight()));
+				releaseImage();
+				image = pool.acquire(configuration, imageWidth, imageHeight);
+				this.configuration = configuration;
+			}
+
+			final Graphics2D g = image.createGraphics();
+			try
+			{
+				g.setComposite(AlphaComposite.Clear);
+				g.fillRect(0, 0, image.getWidth(), image.getHeight());
+				g.setComposite(AlphaComposite.SrcOver);
+				g.setRenderingHints(hints);
+				g.setFont(font);
+				g.setColor(graphics.getColor());
+
+				dimension = overlay.render(g);
+			}
+			catch (RuntimeException ex)
+			{
+				overlay.dirty = true;
+				throw ex;
+			}
+			finally
+			{
+				g.dispose();
+			}
+
+			if (dimension == null || (dimension.width <= image.getWidth() && dimension.height <= image.getHeight()))
+			{
+				break;
+			}
+
+			// the overlay didn't fit, grow the image and render it again
+			width = dimension.width;
+			height = dimension.height;
+		}
+
+		this.size = dimension == null ? null : new Dimension(dimension);
+		this.preferredSize = preferredSize == null ? null : new Dimension(preferredSize);
+		this.font = font;
+	}
+
+	/**
+	 * Return the cached image to the pool. The overlay is rendered again the next time it is drawn.
+	 */
+	synchronized void release()
+	{
+		releaseImage();
+		size = null;
+		preferredSize = null;
+		font = null;
+	}
+
+	private void releaseImage()
+	{
+		if (image != null)
+		{
+			pool.release(configuration, image);
+			image = null;
+		}
+	}
+
+	private static int roundUp(int n)
+	{
+		return Math.max(GRANULARITY, (n + GRANULARITY - 1) / GRANULARITY * GRANULARITY);
+	}
+
+	/**
+	 * Images freed by overlay caches, by size, for reuse by the next cache which needs an image of that
+	 * size. Only images compatible with the most recently used graphics configuration are kept.
+	 */
+	static class Pool
+	{
+		// freed images kept for reuse, beyond this they are left to be collected
+		private static final int MAX_IMAGES = 8;
+
+		private final Map<Long, Deque<BufferedImage>> images = new HashMap<>();
+		private GraphicsConfiguration configuration;
+		private int count;
+
+		synchronized BufferedImage acquire(GraphicsConfiguration configuration, int width, int height)
+		{
+			if (this.configuration != configuration)
+			{
+				images.clear();
+				count = 0;
+				this.configuration = configuration;
+			}
+
+			final Deque<BufferedImage> free = images.get(key(width, height));
+			if (free == null || free.isEmpty())
+			{
+				return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+			}
+
+			--count;
+			return free.pop();
+		}
+
+		synchronized void release(GraphicsConfiguration configuration, BufferedImage image)
+		{
+			if (this.configuration != configuration || count >= MAX_IMAGES)
+			{
+				return;
+			}
+
+			images.computeIfAbsent(key(image.getWidth(), image.getHeight()), k -> new ArrayDeque<>()).push(image);
+			++count;
+		}
+
+		private static long key(int width, int height)
+		{
+			return (long) width << 32 | height;
+		}
+	}
+}
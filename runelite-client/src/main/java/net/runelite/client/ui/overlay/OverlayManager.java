@@ -114,14 +114,22 @@ public class OverlayManager
 	}
 
 	@Subscribe
-	public void onConfigChanged(final ConfigChanged event)
+	public synchronized void onConfigChanged(final ConfigChanged event)
 	{
-		if (!RuneLiteConfig.GROUP_NAME.equals(event.getGroup()) || !"overlayBackgroundColor".equals(event.getKey()))
+		final boolean runeLiteGroup = RuneLiteConfig.GROUP_NAME.equals(event.getGroup());
+		if (runeLiteGroup && "overlayBackgroundColor".equals(event.getKey()))
 		{
-			return;
+			overlays.forEach(this::updateOverlayConfig);
 		}
 
-		overlays.forEach(this::updateOverlayConfig);
+		// cacheable overlays are rendered again only when config they may depend on changes
+		for (final Overlay overlay : overlays)
+		{
+			if (runeLiteGroup || event.getGroup().equals(overlay.getConfigGroup()))
+			{
+				overlay.markDirty();
+			}
+		}
 	}
 
 	@Subscribe
@@ -200,6 +208,7 @@ public class OverlayManager
 
 		if (remove)
 		{
+			releaseCache(overlay);
 			rebuildOverlayLayers();
 		}
 
@@ -214,7 +223,15 @@ public class OverlayManager
 	 */
 	public synchronized boolean removeIf(Predicate<Overlay> filter)
 	{
-		final boolean removeIf = overlays.removeIf(filter);
+		final boolean removeIf = overlays.removeIf(overlay ->
+		{
+			if (filter.test(overlay))
+			{
+				releaseCache(overlay);
+				return true;
+			}
+			return false;
+		});
 
 		if (removeIf)
 		{
@@ -240,6 +257,7 @@ public class OverlayManager
 	 */
 	public synchronized void clear()
 	{
+		overlays.forEach(OverlayManager::releaseCache);
 		overlays.clear();
 		rebuildOverlayLayers();
 	}
@@ -348,6 +366,15 @@ public class OverlayManager
 		}
 	}
 
+	private static void releaseCache(final Overlay overlay)
+	{
+		final OverlayCache cache = overlay.cache;
+		if (cache != null)
+		{
+			cache.release();
+		}
+	}
+
 	private void updateOverlayConfig(final Overlay overlay)
 	{
 		if (overlay instanceof OverlayPanel)
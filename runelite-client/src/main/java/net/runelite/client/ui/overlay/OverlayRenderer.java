@@ -66,6 +66,8 @@ import net.runelite.client.events.OverlayMenuClicked;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.profiler.CallSite;
+import net.runelite.client.profiler.Profiler;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
@@ -96,6 +98,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final Profiler profiler;
 
 	private Font font, tooltipFont, interfaceFont;
 
@@ -117,6 +120,7 @@ public class OverlayRenderer extends MouseAdapter
 	private Rectangle chatboxBounds;
 	private boolean chatboxHidden;
 	private boolean isResizeable;
+	private final OverlayCache.Pool cachePool = new OverlayCache.Pool();
 	private OverlayBounds emptySnapCorners, snapCorners;
 	private boolean dragWarn;
 
@@ -129,7 +133,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final Profiler profiler
 	)
 	{
 		this.client = client;
@@ -138,6 +143,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.profiler = profiler;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -333,7 +339,7 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			final boolean retained = safeRender(overlay, graphics, location);
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -341,16 +347,20 @@ public class OverlayRenderer extends MouseAdapter
 				OverlayUtil.shiftSnapCorner(overlayPosition, snapCorner, bounds, PADDING);
 			}
 
-			// Restore graphics2d properties prior to drawing bounds
+			// Restore graphics2d properties prior to drawing bounds. Retained overlays render into their
+			// own image and only translate the graphics.
 			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			if (!retained)
 			{
-				graphics.setClip(clip);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -715,7 +725,13 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	/**
+	 * Render an overlay at the given point
+	 *
+	 * @return true if the overlay was drawn from its cache, leaving the graphics state other than
+	 * the transform unchanged
+	 */
+	private boolean safeRender(Overlay overlay, Graphics2D graphics, Point point)
 	{
 		final OverlayPosition position = overlay.getPosition();
 
@@ -736,15 +752,49 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final boolean retained = overlay.isCacheable() && position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP;
+		final boolean profile = profiler.isEnabled();
+		final long start = profile ? System.nanoTime() : 0L;
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			if (retained)
+			{
+				OverlayCache cache = overlay.cache;
+				if (cache == null)
+				{
+					cache = overlay.cache = new OverlayCache(cachePool);
+				}
+				overlayDimension = cache.render(overlay, graphics);
+			}
+			else
+			{
+				final OverlayCache cache = overlay.cache;
+				if (cache != null)
+				{
+					// the overlay is no longer cacheable, or moved to a position which can't be cached
+					cache.release();
+					overlay.cache = null;
+				}
+				overlayDimension = overlay.render(graphics);
+			}
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			return retained;
+		}
+		finally
+		{
+			if (profile)
+			{
+				CallSite site = overlay.callSite;
+				if (site == null)
+				{
+					site = overlay.callSite = profiler.getCallSite(Profiler.OVERLAY, overlay);
+				}
+				profiler.record(site, start);
+			}
 		}
 
 		if (overlayDimension != null)
@@ -755,6 +805,7 @@ public class OverlayRenderer extends MouseAdapter
 		{
 			overlay.getBounds().setSize(0, 0);
 		}
+		return retained;
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
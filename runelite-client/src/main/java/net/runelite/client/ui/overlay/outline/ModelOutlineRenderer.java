@@ -118,6 +118,10 @@ public class ModelOutlineRenderer
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
+	// The batch models are added to instead of being outlined, while one is being filled.
+	private Batch collectingBatch;
+	private final Batch batch = new Batch();
+
 	@Inject
 	private ModelOutlineRenderer(Client client)
 	{
@@ -560,6 +564,19 @@ public class ModelOutlineRenderer
 		return anyVisible;
 	}
 
+	/**
+	 * Checks whether a face of the projected model is rendered, which is when none of its vertices are
+	 * behind the camera and it isn't fully transparent.
+	 */
+	private boolean isFaceRasterized(int index1, int index2, int index3, byte[] triangleTransparencies, int face)
+	{
+		return projectedVerticesY[index1] != Integer.MIN_VALUE &&
+			projectedVerticesY[index2] != Integer.MIN_VALUE &&
+			projectedVerticesY[index3] != Integer.MIN_VALUE &&
+			// 254 and 255 counts as fully transparent
+			(triangleTransparencies == null || (triangleTransparencies[face] & 255) < 254);
+	}
+
 	/**
 	 * Simulates rendering of the model and marks every pixel visited.
 	 */
@@ -573,11 +590,7 @@ public class ModelOutlineRenderer
 
 		for (int i = 0; i < triangleCount; i++)
 		{
-			if (projectedVerticesY[indices1[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices2[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices3[i]] != Integer.MIN_VALUE &&
-				// 254 and 255 counts as fully transparent
-				(triangleTransparencies == null || (triangleTransparencies[i] & 255) < 254))
+			if (isFaceRasterized(indices1[i], indices2[i], indices3[i], triangleTransparencies, i))
 			{
 				final int index1 = indices1[i];
 				final int index2 = indices2[i];
@@ -935,6 +948,27 @@ public class ModelOutlineRenderer
 			return;
 		}
 
+		if (collectingBatch != null)
+		{
+			// The model may be shared and reused by the client, such as the animation model of actors, so
+			// its projected faces are copied now rather than projecting it when the batch is drawn
+			collectingBatch.queue(model, outlineWidth, color, feather);
+			return;
+		}
+
+		cropOutlineArea(outlineWidth);
+		resetVisited(croppedWidth * croppedHeight);
+
+		simulateModelRasterizationForOutline(model);
+
+		drawVisitedOutline(outlineWidth, color, feather);
+	}
+
+	/**
+	 * Expands the projected bounds of the models being outlined by the outline width, and crops them to the viewport.
+	 */
+	private void cropOutlineArea(int outlineWidth)
+	{
 		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
 		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
 		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
@@ -942,11 +976,13 @@ public class ModelOutlineRenderer
 		croppedY2 = Math.min(croppedY2 + outlineWidth, clipY2);
 		croppedWidth = croppedX2 - croppedX1;
 		croppedHeight = croppedY2 - croppedY1;
+	}
 
-		resetVisited(croppedWidth * croppedHeight);
-
-		simulateModelRasterizationForOutline(model);
-
+	/**
+	 * Draws the outline around all visited pixels within the cropped area.
+	 */
+	private void drawVisitedOutline(int outlineWidth, Color color, int feather)
+	{
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
 		// and instead raster pixels directly. This only looks right for opaque
@@ -981,6 +1017,81 @@ public class ModelOutlineRenderer
 		}
 	}
 
+	/**
+	 * Get a batch for outlining many models at once. Outlines added to the batch are drawn when
+	 * {@link Batch#draw()} is called.
+	 *
+	 * @return the batch, which is reused by subsequent calls
+	 */
+	public Batch batch()
+	{
+		batch.clear();
+		return batch;
+	}
+
+	/**
+	 * Draws the outlines of a batch. The models of each outline style are rasterized together into
+	 * a single visited area, which is then outlined in one pass.
+	 */
+	private void drawBatch(Batch b)
+	{
+		clipX1 = client.getViewportXOffset();
+		clipY1 = client.getViewportYOffset();
+		clipX2 = client.getViewportWidth() + clipX1;
+		clipY2 = client.getViewportHeight() + clipY1;
+
+		for (int first = 0; first < b.size; first++)
+		{
+			if (b.groups[first] != -1)
+			{
+				continue;
+			}
+
+			final int outlineWidth = b.widths[first];
+			final Color color = b.colors[first];
+			final int feather = b.feathers[first];
+
+			// The visited area has to cover every model with the same outline style before rasterizing
+			croppedX1 = Integer.MAX_VALUE;
+			croppedX2 = Integer.MIN_VALUE;
+			croppedY1 = Integer.MAX_VALUE;
+			croppedY2 = Integer.MIN_VALUE;
+			for (int i = first; i < b.size; i++)
+			{
+				if (b.groups[i] != -1 || b.widths[i] != outlineWidth || b.feathers[i] != feather || !b.colors[i].equals(color))
+				{
+					continue;
+				}
+
+				b.groups[i] = first;
+				final int p = i * 4;
+				croppedX1 = Math.min(croppedX1, b.bounds[p]);
+				croppedX2 = Math.max(croppedX2, b.bounds[p + 1]);
+				croppedY1 = Math.min(croppedY1, b.bounds[p + 2]);
+				croppedY2 = Math.max(croppedY2, b.bounds[p + 3]);
+			}
+
+			cropOutlineArea(outlineWidth);
+			resetVisited(croppedWidth * croppedHeight);
+
+			for (int i = first; i < b.size; i++)
+			{
+				if (b.groups[i] != first)
+				{
+					continue;
+				}
+
+				final int[] t = b.triangles;
+				for (int f = b.triangleOffsets[i], end = b.triangleOffsets[i + 1]; f < end; f += 6)
+				{
+					simulateTriangleRasterizationForOutline(t[f], t[f + 1], t[f + 2], t[f + 3], t[f + 4], t[f + 5]);
+				}
+			}
+
+			drawVisitedOutline(outlineWidth, color, feather);
+		}
+	}
+
 	public void drawOutline(Actor actor, int outlineWidth, Color color, int feather)
 	{
 		LocalPoint lp = actor.getLocalLocation();
@@ -1180,4 +1291,187 @@ public class ModelOutlineRenderer
 			}
 		}
 	}
+
+	/**
+	 * A batch of outlines which are drawn together. Outlining models one at a time rasterizes and scans
+	 * the area around each model separately, while a batch rasterizes all models with the same outline
+	 * width, color, and feather into one area and outlines it in a single pass, which is much cheaper
+	 * when outlining many models each frame. Outlines of the same style are drawn around the combined
+	 * shape of their models, so they are not drawn over each other where models overlap.
+	 * <p>
+	 * A batch must be drawn on the client thread during the frame its outlines were added in.
+	 */
+	public final class Batch
+	{
+		private int size;
+		// The projected bounds of each model: x1, x2, y1, y2
+		private int[] bounds = new int[16 * 4];
+		private int[] widths = new int[16];
+		private Color[] colors = new Color[16];
+		private int[] feathers = new int[16];
+		// The index of the first outline with the same style, once the outline has been drawn
+		private int[] groups = new int[16];
+		// The start of the faces of each model in triangles, and the end of the faces of the last model
+		private int[] triangleOffsets = new int[16 + 1];
+		// The canvas coordinates of each rasterized face, six ints per face
+		private int[] triangles = new int[1024];
+
+		private Batch()
+		{
+		}
+
+		public Batch add(Actor actor, int outlineWidth, Color color, int feather)
+		{
+			collectingBatch = this;
+			try
+			{
+				drawOutline(actor, outlineWidth, color, feather);
+			}
+			finally
+			{
+				collectingBatch = null;
+			}
+			return this;
+		}
+
+		public Batch add(TileObject tileObject, int outlineWidth, Color color, int feather)
+		{
+			collectingBatch = this;
+			try
+			{
+				drawOutline(tileObject, outlineWidth, color, feather);
+			}
+			finally
+			{
+				collectingBatch = null;
+			}
+			return this;
+		}
+
+		public Batch add(ItemLayer layer, TileItem item, int outlineWidth, Color color, int feather)
+		{
+			collectingBatch = this;
+			try
+			{
+				drawOutline(layer, item, outlineWidth, color, feather);
+			}
+			finally
+			{
+				collectingBatch = null;
+			}
+			return this;
+		}
+
+		public Batch add(GraphicsObject graphicsObject, int outlineWidth, Color color, int feather)
+		{
+			collectingBatch = this;
+			try
+			{
+				drawOutline(graphicsObject, outlineWidth, color, feather);
+			}
+			finally
+			{
+				collectingBatch = null;
+			}
+			return this;
+		}
+
+		public Batch add(RuneLiteObject runeLiteObject, int outlineWidth, Color color, int feather)
+		{
+			collectingBatch = this;
+			try
+			{
+				drawOutline(runeLiteObject, outlineWidth, color, feather);
+			}
+			finally
+			{
+				collectingBatch = null;
+			}
+			return this;
+		}
+
+		/**
+		 * Draws the outlines of the batch and clears it
+		 */
+		public void draw()
+		{
+			try
+			{
+				drawBatch(this);
+			}
+			finally
+			{
+				clear();
+			}
+		}
+
+		private void queue(Model model, int outlineWidth, Color color, int feather)
+		{
+			if (size == widths.length)
+			{
+				final int capacity = size * 2;
+				bounds = Arrays.copyOf(bounds, capacity * 4);
+				widths = Arrays.copyOf(widths, capacity);
+				colors = Arrays.copyOf(colors, capacity);
+				feathers = Arrays.copyOf(feathers, capacity);
+				groups = Arrays.copyOf(groups, capacity);
+				triangleOffsets = Arrays.copyOf(triangleOffsets, capacity + 1);
+			}
+
+			final int triangleCount = model.getFaceCount();
+			final int[] indices1 = model.getFaceIndices1();
+			final int[] indices2 = model.getFaceIndices2();
+			final int[] indices3 = model.getFaceIndices3();
+			final byte[] triangleTransparencies = model.getFaceTransparencies();
+
+			int offset = triangleOffsets[size];
+			if (triangles.length < offset + triangleCount * 6)
+			{
+				triangles = Arrays.copyOf(triangles, nextPowerOfTwo(offset + triangleCount * 6));
+			}
+
+			for (int i = 0; i < triangleCount; i++)
+			{
+				final int index1 = indices1[i];
+				final int index2 = indices2[i];
+				final int index3 = indices3[i];
+				if (!isFaceRasterized(index1, index2, index3, triangleTransparencies, i))
+				{
+					continue;
+				}
+
+				final int v1x = projectedVerticesX[index1];
+				final int v1y = projectedVerticesY[index1];
+				final int v2x = projectedVerticesX[index2];
+				final int v2y = projectedVerticesY[index2];
+				final int v3x = projectedVerticesX[index3];
+				final int v3y = projectedVerticesY[index3];
+				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
+				{
+					triangles[offset++] = v1x;
+					triangles[offset++] = v1y;
+					triangles[offset++] = v2x;
+					triangles[offset++] = v2y;
+					triangles[offset++] = v3x;
+					triangles[offset++] = v3y;
+				}
+			}
+
+			bounds[size * 4] = croppedX1;
+			bounds[size * 4 + 1] = croppedX2;
+			bounds[size * 4 + 2] = croppedY1;
+			bounds[size * 4 + 3] = croppedY2;
+			widths[size] = outlineWidth;
+			colors[size] = color;
+			feathers[size] = feather;
+			groups[size] = -1;
+			triangleOffsets[++size] = offset;
+		}
+
+		private void clear()
+		{
+			Arrays.fill(colors, 0, size, null);
+			size = 0;
+		}
+	}
 }
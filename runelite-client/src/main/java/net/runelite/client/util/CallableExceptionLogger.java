@@ -25,6 +25,7 @@
 package net.runelite.client.util;
 
 import java.util.concurrent.Callable;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CallableExceptionLogger<V> implements Callable<V>
 {
+	@Getter
 	private final Callable<V> callable;
 
 	@Override
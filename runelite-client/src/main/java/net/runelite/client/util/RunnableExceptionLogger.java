@@ -24,6 +24,7 @@
  */
 package net.runelite.client.util;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RunnableExceptionLogger implements Runnable
 {
+	@Getter
 	private final Runnable runnable;
 
 	@Override
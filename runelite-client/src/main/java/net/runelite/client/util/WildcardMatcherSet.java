@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of wildcard patterns, as matched by {@link WildcardMatcher}, compiled so that every pattern
+ * can be matched against a text in a single pass. The patterns are merged into a trie, with a
+ * {@code *} being a node which matches any number of characters, which is then run as an NFA over
+ * the text.
+ * <p>
+ * Matching is case insensitive for ASCII characters, and {@code *} does not match line terminators,
+ * the same as the regular expressions built by {@link WildcardMatcher#matches(String, String)}.
+ */
+public final class WildcardMatcherSet
+{
+	private static final int[] NO_MATCHES = new int[0];
+
+	// Nodes of the trie. A star node repeats on any character, and is also entered whenever its
+	// parent is. Children are stored as sorted (case folded) characters and their node indices.
+	private final boolean[] star;
+	private final int[] starChild;
+	private final char[][] childChars;
+	private final int[][] childNodes;
+	// The indices of the patterns which end at each node
+	private final int[][] accepts;
+
+	private WildcardMatcherSet(Builder builder)
+	{
+		final int size = builder.star.size();
+		star = new boolean[size];
+		starChild = new int[size];
+		childChars = new char[size][];
+		childNodes = new int[size][];
+		accepts = new int[size][];
+		for (int i = 0; i < size; ++i)
+		{
+			star[i] = builder.star.get(i);
+			starChild[i] = builder.starChild.get(i);
+			childChars[i] = builder.childChars.get(i);
+			childNodes[i] = builder.childNodes.get(i);
+			accepts[i] = builder.accepts.get(i);
+		}
+	}
+
+	/**
+	 * Compile a list of wildcard patterns
+	 *
+	 * @param patterns the patterns, where {@code *} matches any number of characters
+	 * @return the compiled set, which reports matches by their index in the list
+	 */
+	public static WildcardMatcherSet compile(List<String> patterns)
+	{
+		final Builder builder = new Builder();
+		for (int i = 0; i < patterns.size(); ++i)
+		{
+			builder.add(patterns.get(i), i);
+		}
+		return new WildcardMatcherSet(builder);
+	}
+
+	/**
+	 * Test if any pattern in the set matches the whole text
+	 */
+	public boolean matchesAny(String text)
+	{
+		return matches(text).length > 0;
+	}
+
+	/**
+	 * Find the patterns which match the whole text
+	 *
+	 * @param text the text to match
+	 * @return the indices of the matching patterns, in ascending order
+	 */
+	public int[] matches(String text)
+	{
+		final int nodes = star.length;
+		int[] active = new int[nodes];
+		int[] next = new int[nodes];
+		// the step each node was last added to the active set in, offset by one so zero is never a step
+		final int[] added = new int[nodes];
+
+		int activeCount = enter(0, active, 0, added, 1);
+		for (int i = 0; i < text.length() && activeCount > 0; ++i)
+		{
+			final char c = text.charAt(i);
+			final char folded = fold(c);
+			final int step = i + 2;
+			int nextCount = 0;
+
+			for (int a = 0; a < activeCount; ++a)
+			{
+				final int node = active[a];
+				if (star[node] && !isLineTerminator(c) && added[node] != step)
+				{
+					added[node] = step;
+					next[nextCount++] = node;
+				}
+
+				final int child = Arrays.binarySearch(childChars[node], folded);
+				if (child >= 0)
+				{
+					nextCount = enter(childNodes[node][child], next, nextCount, added, step);
+				}
+			}
+
+			final int[] swap = active;
+			active = next;
+			next = swap;
+			activeCount = nextCount;
+		}
+
+		int matchCount = 0;
+		for (int a = 0; a < activeCount; ++a)
+		{
+			matchCount += accepts[active[a]].length;
+		}
+
+		if (matchCount == 0)
+		{
+			return NO_MATCHES;
+		}
+
+		final int[] matches = new int[matchCount];
+		matchCount = 0;
+		for (int a = 0; a < activeCount; ++a)
+		{
+			final int[] accept = accepts[active[a]];
+			System.arraycopy(accept, 0, matches, matchCount, accept.length);
+			matchCount += accept.length;
+		}
+		Arrays.sort(matches);
+		return matches;
+	}
+
+	/**
+	 * Add a node to the active set, along with the star node following it since a star can match nothing
+	 */
+	private int enter(int node, int[] active, int activeCount, int[] added, int step)
+	{
+		while (node != -1 && added[node] != step)
+		{
+			added[node] = step;
+			active[activeCount++] = node;
+			node = starChild[node];
+		}
+		return activeCount;
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static boolean isLineTerminator(char c)
+	{
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private static final class Builder
+	{
+		private final List<Boolean> star = new ArrayList<>();
+		private final List<Integer> starChild = new ArrayList<>();
+		private final List<char[]> childChars = new ArrayList<>();
+		private final List<int[]> childNodes = new ArrayList<>();
+		private final List<int[]> accepts = new ArrayList<>();
+
+		private Builder()
+		{
+			node(false);
+		}
+
+		private int node(boolean isStar)
+		{
+			star.add(isStar);
+			starChild.add(-1);
+			childChars.add(new char[0]);
+			childNodes.add(new int[0]);
+			accepts.add(NO_MATCHES);
+			return star.size() - 1;
+		}
+
+		private void add(String pattern, int index)
+		{
+			int node = 0;
+			for (int i = 0; i < pattern.length(); ++i)
+			{
+				final char c = pattern.charAt(i);
+				if (c == '*')
+				{
+					if (star.get(node))
+					{
+						// consecutive stars are the same as one
+						continue;
+					}
+
+					int child = starChild.get(node);
+					if (child == -1)
+					{
+						child = node(true);
+						starChild.set(node, child);
+					}
+					node = child;
+				}
+				else
+				{
+					final char folded = fold(c);
+					final char[] chars = childChars.get(node);
+					final int pos = Arrays.binarySearch(chars, folded);
+					if (pos >= 0)
+					{
+						node = childNodes.get(node)[pos];
+						continue;
+					}
+
+					final int child = node(false);
+					final int insert = -pos - 1;
+					childChars.set(node, insert(chars, insert, folded));
+					childNodes.set(node, insert(childNodes.get(node), insert, child));
+					node = child;
+				}
+			}
+
+			final int[] accept = accepts.get(node);
+			final int[] updated = Arrays.copyOf(accept, accept.length + 1);
+			updated[accept.length] = index;
+			accepts.set(node, updated);
+		}
+
+		private static char[] insert(char[] array, int pos, char value)
+		{
+			final char[] result = new char[array.length + 1];
+			System.arraycopy(array, 0, result, 0, pos);
+			result[pos] = value;
+			System.arraycopy(array, pos, result, pos + 1, array.length - pos);
+			return result;
+		}
+
+		private static int[] insert(int[] array, int pos, int value)
+		{
+			final int[] result = new int[array.length + 1];
+			System.arraycopy(array, 0, result, 0, pos);
+			result[pos] = value;
+			System.arraycopy(array, pos, result, pos + 1, array.length - pos);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.Properties;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File configFile;
+	private File journalFile;
+
+	@Before
+	public void before()
+	{
+		configFile = new File(folder.getRoot(), "test.properties");
+		journalFile = ConfigData.journalFile(configFile);
+	}
+
+	@Test
+	public void testJournal()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("test.a", "1");
+		data.setProperty("test.b", "2");
+		data.patch(data.swapChanges());
+
+		// the first save has nothing to append to
+		assertTrue(configFile.exists());
+		assertFalse(journalFile.exists());
+		long size = configFile.length();
+
+		data.setProperty("test.a", "3");
+		data.unset("test.b");
+		data.setProperty("test.c", "\u00e9");
+		data.patch(data.swapChanges());
+
+		assertEquals(size, configFile.length());
+		assertTrue(journalFile.exists());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("3", reloaded.getProperty("test.a"));
+		assertNull(reloaded.getProperty("test.b"));
+		assertEquals("\u00e9", reloaded.getProperty("test.c"));
+
+		data.compact();
+		assertFalse(journalFile.exists());
+
+		reloaded = new ConfigData(configFile);
+		assertEquals("3", reloaded.getProperty("test.a"));
+		assertNull(reloaded.getProperty("test.b"));
+		assertEquals("\u00e9", reloaded.getProperty("test.c"));
+	}
+
+	@Test
+	public void testTornJournal() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.patch(ImmutableMap.of("test.a", "1"));
+		data.patch(ImmutableMap.of("test.a", "2"));
+		data.patch(ImmutableMap.of("test.b", "3"));
+
+		// cut the last record short
+		try (RandomAccessFile raf = new RandomAccessFile(journalFile, "rw"))
+		{
+			raf.setLength(raf.length() - 1);
+		}
+
+		data = new ConfigData(configFile, true);
+		assertEquals("2", data.getProperty("test.a"));
+		assertNull(data.getProperty("test.b"));
+
+		// the torn record is dropped before appending
+		data.patch(ImmutableMap.of("test.c", "4"));
+		data = new ConfigData(configFile, true);
+		assertEquals("2", data.getProperty("test.a"));
+		assertNull(data.getProperty("test.b"));
+		assertEquals("4", data.getProperty("test.c"));
+	}
+
+	@Test
+	public void testRewriteFoldsJournal()
+	{
+		ConfigData journaled = new ConfigData(configFile, true);
+		journaled.patch(ImmutableMap.of("test.a", "1"));
+		journaled.patch(ImmutableMap.of("test.b", "2"));
+		assertTrue(journalFile.exists());
+
+		// a client not using the journal still sees and keeps the journaled changes
+		ConfigData data = new ConfigData(configFile);
+		assertEquals("2", data.getProperty("test.b"));
+		data.patch(Collections.singletonMap("test.a", null));
+		assertFalse(journalFile.exists());
+
+		data = new ConfigData(configFile);
+		assertNull(data.getProperty("test.a"));
+		assertEquals("2", data.getProperty("test.b"));
+	}
+
+	@Test
+	public void testStaleJournal() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.patch(ImmutableMap.of("test.a", "1"));
+		data.patch(ImmutableMap.of("test.a", "2"));
+		assertTrue(journalFile.exists());
+
+		// an older client rewrites the properties file without knowing about the journal
+		Properties props = new Properties();
+		props.setProperty("test.a", "3");
+		try (FileOutputStream out = new FileOutputStream(configFile))
+		{
+			props.store(out, null);
+		}
+		configFile.setLastModified(configFile.lastModified() - 60_000);
+
+		data = new ConfigData(configFile, true);
+		assertEquals("3", data.getProperty("test.a"));
+
+		// the stale journal is replaced on the next append
+		data.patch(ImmutableMap.of("test.b", "4"));
+		data = new ConfigData(configFile, true);
+		assertEquals("3", data.getProperty("test.a"));
+		assertEquals("4", data.getProperty("test.b"));
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.lang.reflect.Proxy;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@Slf4j
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigInvocationHandlerTest
+{
+	@Mock
+	ConfigManager manager;
+
+	private ConfigInvocationHandler handler;
+	private TestConfig config;
+
+	@Before
+	public void before()
+	{
+		lenient().when(manager.stringToObject(anyString(), any())).thenAnswer(a -> a.getArgument(0));
+
+		handler = new ConfigInvocationHandler(manager, TestConfig.class);
+		config = (TestConfig) Proxy.newProxyInstance(TestConfig.class.getClassLoader(), new Class<?>[]
+			{
+				TestConfig.class
+			}, handler);
+	}
+
+	@Test
+	public void testCachedValue()
+	{
+		when(manager.getConfiguration("test", "key")).thenReturn("moo");
+
+		assertEquals("moo", config.key());
+		assertEquals("moo", config.key());
+		verify(manager, times(1)).getConfiguration("test", "key");
+	}
+
+	@Test
+	public void testCachedDefault()
+	{
+		assertEquals("default", config.key());
+		assertNull(config.nullDefaultKey());
+		assertEquals("default", config.key());
+		assertNull(config.nullDefaultKey());
+		verify(manager, times(1)).getConfiguration("test", "key");
+		verify(manager, times(1)).getConfiguration("test", "nullDefaultKey");
+	}
+
+	@Test
+	public void testTargetedInvalidate()
+	{
+		when(manager.getConfiguration("test", "key")).thenReturn("moo");
+		when(manager.getConfiguration("test", "nullDefaultKey")).thenReturn("cow");
+
+		assertEquals("moo", config.key());
+		assertEquals("cow", config.nullDefaultKey());
+
+		when(manager.getConfiguration("test", "key")).thenReturn("oink");
+		handler.invalidate("key");
+
+		assertEquals("oink", config.key());
+		assertEquals("cow", config.nullDefaultKey());
+		verify(manager, times(2)).getConfiguration("test", "key");
+		verify(manager, times(1)).getConfiguration("test", "nullDefaultKey");
+
+		handler.invalidate();
+
+		assertEquals("oink", config.key());
+		assertEquals("cow", config.nullDefaultKey());
+		verify(manager, times(3)).getConfiguration("test", "key");
+		verify(manager, times(2)).getConfiguration("test", "nullDefaultKey");
+	}
+
+	@Test
+	public void testSetter()
+	{
+		when(manager.getConfiguration(eq("test"), eq("key"), eq(String.class))).thenReturn("default", "moo");
+		when(manager.objectToString("moo")).thenReturn("moo");
+
+		config.key("moo");
+		verify(manager).setConfiguration("test", "key", "moo");
+
+		config.key(null);
+		verify(manager).unsetConfiguration("test", "key");
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkGetter()
+	{
+		when(manager.getConfiguration("test", "key")).thenReturn("moo");
+
+		final int iterations = 50_000_000;
+		int len = 0;
+		for (int warmup = 0; warmup < 3; ++warmup)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				len += config.key().length();
+			}
+			long time = System.nanoTime() - start;
+			log.info("Cached getter takes ~{}ns/op", (double) time / iterations);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations / 100; ++i)
+		{
+			handler.invalidate("nullDefaultKey");
+			len += config.key().length();
+		}
+		long time = System.nanoTime() - start;
+		log.info("Getter with unrelated write takes ~{}ns/op ({})", (double) time / (iterations / 100), len);
+	}
+}
@@ -29,6 +29,8 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -145,6 +147,29 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testSetConfigInvalidatesProxy()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+
+		manager.setConfiguration("test", "nullDefaultKey", "moo");
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals("moo", conf.nullDefaultKey());
+
+		manager.setConfiguration("test", "rsprofile.123", "key", "rsprofile value");
+		Assert.assertEquals("default", conf.key());
+
+		manager.unsetConfiguration("test", "nullDefaultKey");
+		Assert.assertNull(conf.nullDefaultKey());
+
+		// proxies of the same interface share their handler
+		TestConfig conf2 = manager.getConfig(TestConfig.class);
+		conf2.key("new value");
+		Assert.assertEquals("new value", conf.key());
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
@@ -165,6 +190,22 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("test", "item_1", "a");
+		manager.setConfiguration("test", "item_2", "b");
+		manager.setConfiguration("test", "icon_1", "c");
+		manager.setConfiguration("test2", "item_3", "d");
+		manager.setConfiguration("test", "rsprofile.123", "item_4", "e");
+		manager.unsetConfiguration("test", "item_2");
+
+		Assert.assertEquals(Collections.singletonList("test.item_1"), manager.getConfigurationKeys("test.item_"));
+		Assert.assertEquals(Arrays.asList("test.icon_1", "test.item_1"), manager.getConfigurationKeys("test."));
+		Assert.assertEquals(Collections.singletonList("item_4"), manager.getRSProfileConfigurationKeys("test", "rsprofile.123", "item_"));
+		Assert.assertEquals(Collections.emptyList(), manager.getRSProfileConfigurationKeys("test", "rsprofile.456", "item_"));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+
+	@Test
+	public void testOrder()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Low());
+		eventBus.register(new High());
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0.5f);
+		eventBus.register(new Low());
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("high", "lambda", "low", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		Low low = new Low();
+		High high = new High();
+		eventBus.register(low);
+		eventBus.register(high);
+		EventBus.Subscriber sub = eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0.5f);
+
+		eventBus.unregister(high);
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("lambda", "low"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		eventBus.unregister(low);
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+
+		// resubscribing to a class whose subscribers were all removed
+		eventBus.register(high);
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("high"), calls);
+	}
+
+	@Test
+	public void testException()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw new IllegalStateException();
+		}, 1f);
+		eventBus.register(new Low());
+
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(Arrays.asList("low"), calls);
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int subscribers = 500;
+		final int iterations = 1_000_000;
+
+		EventBus eventBus = new EventBus();
+		Counter[] counters = new Counter[subscribers];
+		for (int i = 0; i < subscribers; ++i)
+		{
+			counters[i] = new Counter();
+			eventBus.register(counters[i]);
+		}
+
+		TestEvent event = new TestEvent();
+		for (int warmup = 0; warmup < 3; ++warmup)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				eventBus.post(event);
+			}
+			long time = System.nanoTime() - start;
+			log.info("Post to {} subscribers takes ~{}ns/op", subscribers, (double) time / iterations);
+		}
+
+		for (int warmup = 0; warmup < 3; ++warmup)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations / 100; ++i)
+			{
+				Counter counter = counters[i % subscribers];
+				eventBus.unregister(counter);
+				eventBus.register(counter);
+			}
+			long time = System.nanoTime() - start;
+			log.info("Unregister + register with {} subscribers takes ~{}ns/op", subscribers, (double) time / (iterations / 100));
+		}
+
+		long total = 0;
+		for (Counter counter : counters)
+		{
+			total += counter.count;
+		}
+		log.info("{} events received", total);
+	}
+
+	public static class TestEvent
+	{
+	}
+
+	public class Low
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+	}
+
+	public class High
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+	}
+
+	public static class Counter
+	{
+		private long count;
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			++count;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemIconAtlasTest
+{
+	private static final int WIDTH = 36;
+	private static final int HEIGHT = 32;
+	private static final int DEFINITION = 0x1234;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "item-icons.dat");
+	}
+
+	private static ItemManager.IconKey key(int itemId, int quantity, boolean stackable)
+	{
+		return new ItemManager.IconKey(itemId, quantity, stackable, null);
+	}
+
+	private static int[] icon(int seed)
+	{
+		int[] pixels = new int[WIDTH * HEIGHT];
+		for (int i = 0; i < pixels.length; i += 3)
+		{
+			pixels[i] = 0xff000000 | (seed * 31 + i);
+		}
+		return pixels;
+	}
+
+	@Test
+	public void testWriteAndReopen() throws IOException
+	{
+		ItemIconAtlas atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		atlas.write(key(995, 1000, true), DEFINITION, WIDTH, HEIGHT, icon(1));
+		atlas.write(key(995, 1000, false), DEFINITION, WIDTH, HEIGHT, icon(2));
+		atlas.write(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT, icon(3));
+		assertArrayEquals(icon(1), atlas.read(key(995, 1000, true), DEFINITION, WIDTH, HEIGHT));
+		atlas.close();
+
+		atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		assertTrue(atlas.contains(key(995, 1000, false), DEFINITION));
+		assertFalse(atlas.contains(key(995, 1001, false), DEFINITION));
+		assertArrayEquals(icon(1), atlas.read(key(995, 1000, true), DEFINITION, WIDTH, HEIGHT));
+		assertArrayEquals(icon(2), atlas.read(key(995, 1000, false), DEFINITION, WIDTH, HEIGHT));
+		assertArrayEquals(icon(3), atlas.read(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT));
+		assertNull(atlas.read(key(4151, 1, false), DEFINITION, WIDTH + 1, HEIGHT));
+		atlas.close();
+	}
+
+	@Test
+	public void testCacheChangeDiscardsAtlas() throws IOException
+	{
+		ItemIconAtlas atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		atlas.write(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT, icon(3));
+		atlas.close();
+
+		atlas = new ItemIconAtlas(file, 230, 30001);
+		atlas.open();
+		assertFalse(atlas.contains(key(4151, 1, false), DEFINITION));
+		atlas.write(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT, icon(4));
+		atlas.close();
+
+		atlas = new ItemIconAtlas(file, 230, 30001);
+		atlas.open();
+		assertArrayEquals(icon(4), atlas.read(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT));
+		atlas.close();
+	}
+
+	@Test
+	public void testDefinitionChange() throws IOException
+	{
+		ItemIconAtlas atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		atlas.write(key(4151, 1, false), DEFINITION, WIDTH, HEIGHT, icon(3));
+		assertFalse(atlas.contains(key(4151, 1, false), DEFINITION + 1));
+		assertNull(atlas.read(key(4151, 1, false), DEFINITION + 1, WIDTH, HEIGHT));
+
+		// a rerendered icon replaces the stale one, including after reopening
+		atlas.write(key(4151, 1, false), DEFINITION + 1, WIDTH, HEIGHT, icon(4));
+		assertArrayEquals(icon(4), atlas.read(key(4151, 1, false), DEFINITION + 1, WIDTH, HEIGHT));
+		atlas.close();
+
+		atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		assertFalse(atlas.contains(key(4151, 1, false), DEFINITION));
+		assertArrayEquals(icon(4), atlas.read(key(4151, 1, false), DEFINITION + 1, WIDTH, HEIGHT));
+		atlas.close();
+	}
+
+	@Test
+	public void testTruncatedRecord() throws IOException
+	{
+		ItemIconAtlas atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		atlas.write(key(1, 1, false), DEFINITION, WIDTH, HEIGHT, icon(1));
+		atlas.write(key(2, 1, false), DEFINITION, WIDTH, HEIGHT, icon(2));
+		atlas.close();
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 5);
+		}
+
+		atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		assertArrayEquals(icon(1), atlas.read(key(1, 1, false), DEFINITION, WIDTH, HEIGHT));
+		assertFalse(atlas.contains(key(2, 1, false), DEFINITION));
+
+		// the partial record is dropped so appends follow the last valid record
+		atlas.write(key(3, 1, false), DEFINITION, WIDTH, HEIGHT, icon(3));
+		atlas.close();
+
+		atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		assertArrayEquals(icon(3), atlas.read(key(3, 1, false), DEFINITION, WIDTH, HEIGHT));
+		atlas.close();
+	}
+
+	@Test
+	public void testAtlasInUse() throws IOException
+	{
+		ItemIconAtlas atlas = new ItemIconAtlas(file, 230, 30000);
+		atlas.open();
+		atlas.write(key(1, 1, false), DEFINITION, WIDTH, HEIGHT, icon(1));
+
+		ItemIconAtlas other = new ItemIconAtlas(file, 230, 30000);
+		other.open();
+		assertFalse(other.contains(key(1, 1, false), DEFINITION));
+		other.write(key(2, 1, false), DEFINITION, WIDTH, HEIGHT, icon(2));
+		other.close();
+
+		assertArrayEquals(icon(1), atlas.read(key(1, 1, false), DEFINITION, WIDTH, HEIGHT));
+		assertFalse(atlas.contains(key(2, 1, false), DEFINITION));
+		atlas.close();
+	}
+}
@@ -54,6 +54,7 @@ public class ItemManagerTest
 
 	@Mock
 	@Bind
+	@Named("ioExecutor")
 	private ScheduledExecutorService scheduledExecutorService;
 
 	@Mock
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemNameIndexTest
+{
+	private static ItemNameIndex index(String... names)
+	{
+		ItemNameIndex.Builder builder = new ItemNameIndex.Builder();
+		for (int i = 0; i < names.length; ++i)
+		{
+			builder.add(i, names[i], null);
+		}
+		return builder.build();
+	}
+
+	@Test
+	public void testRanking()
+	{
+		ItemNameIndex index = index(
+			"Dragon scimitar ornament kit", // 0
+			"Rune scimitar", // 1
+			"Dragon scimitar", // 2
+			"Scimitarfish", // 3
+			"Scimitar", // 4
+			"Dragon scimitar (or)"); // 5
+
+		// exact, prefix, word prefix by length, then substrings
+		assertArrayEquals(new int[]{4, 3, 1, 2, 5, 0}, index.search("SCIMITAR", 10));
+		assertArrayEquals(new int[]{4, 3}, index.search("scimitar", 2));
+		assertArrayEquals(new int[]{2, 5, 0}, index.search("dragon scim", 10));
+	}
+
+	@Test
+	public void testSubstring()
+	{
+		ItemNameIndex index = index("Scimitar dragon", "Dragon scimitar", "Abyssal whip", "Anchovies");
+
+		// every trigram of the query is in the first name, but not in order
+		assertArrayEquals(new int[]{1}, index.search("dragon sc", 10));
+		assertArrayEquals(new int[]{3, 2, 0, 1}, index.search("a", 10));
+		assertArrayEquals(new int[]{0, 1}, index.search("mi", 10));
+		assertArrayEquals(new int[]{2}, index.search("sal wh", 10));
+		assertArrayEquals(new int[0], index.search("zzz", 10));
+		assertArrayEquals(new int[0], index.search("", 10));
+	}
+
+	@Test
+	public void testIcons()
+	{
+		ItemNameIndex index = new ItemNameIndex.Builder()
+			.add(10, "Bronze arrow", "arrow")
+			.add(11, "Bronze arrow(p)", "arrow")
+			.add(12, "Bronze arrow(p+)", "arrow")
+			.add(13, "Bronze arrowheads", null)
+			.add(14, "Bronze arrowtips", null)
+			.build();
+
+		assertArrayEquals(new int[]{10, 14, 13}, index.search("bronze arrow", 10));
+		// the best match of items with the same icon is kept
+		assertArrayEquals(new int[]{11}, index.search("arrow(p", 10));
+	}
+
+	@Test
+	public void testFuzzySearch()
+	{
+		ItemNameIndex index = index("Rune platebody", "Unrest", "Shark", "Rune platelegs");
+
+		List<String> scored = new ArrayList<>();
+		int[] ids = index.fuzzySearch("rune plate", 10, (query, name) ->
+		{
+			scored.add(name);
+			return name.startsWith("rune") ? name.length() : 0;
+		});
+
+		assertArrayEquals(new int[]{0, 3}, ids);
+		// unrest has every character of "rune", but shark has no more than half of the characters of either word
+		assertEquals(List.of("rune platebody", "unrest", "rune platelegs"), scored);
+	}
+}
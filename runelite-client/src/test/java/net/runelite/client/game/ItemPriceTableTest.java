@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ItemPriceTableTest
+{
+	private static final Map<Integer, Integer> WORN_ITEMS = ImmutableMap.of(ItemID.GRACEFUL_HOOD_WORN, ItemID.GRACEFUL_HOOD);
+
+	private static ItemPrice price(int id, String name, int price, int wikiPrice)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(id);
+		itemPrice.setName(name);
+		itemPrice.setPrice(price);
+		itemPrice.setWikiPrice(wikiPrice);
+		return itemPrice;
+	}
+
+	@Test
+	public void testPrices()
+	{
+		ItemPriceTable table = new ItemPriceTable(new ItemPrice[]{
+			price(ItemID.DRAGON_CLAWS, "Dragon claws", 50_000_000, 48_000_000),
+			price(ItemID.AMYLASE, "Amylase crystal", 0, 100),
+			price(ItemID.ABYSSAL_WHIP, "Abyssal whip", 1_500_000, 0),
+		}, WORN_ITEMS, (price, wikiPrice) -> wikiPrice > 0 ? wikiPrice : price);
+
+		assertEquals(3, table.size());
+		assertEquals(1_500_000, table.getPrice(ItemID.ABYSSAL_WHIP, false));
+		assertEquals(1_500_000, table.getPrice(ItemID.ABYSSAL_WHIP, true));
+		assertEquals(48_000_000, table.getPrice(ItemID.DRAGON_CLAWS, true));
+
+		// untradeable and worn items are priced as their tradeable counterparts, graceful as 28 marks of 10 amylase
+		assertEquals(50_000_000, table.getPrice(ItemID.BH_DRAGON_CLAWS_CORRUPTED, false));
+		assertEquals(48_000_000, table.getPrice(ItemID.BH_DRAGON_CLAWS_CORRUPTED, true));
+		assertEquals(28_000, table.getPrice(ItemID.GRACEFUL_HOOD_WORN, true));
+		assertEquals(250, table.getPrice(ItemID.BATTLE_TORTOISE_SHELL, false));
+
+		assertEquals(1, table.getPrice(ItemID.COINS, false));
+		assertEquals(1000, table.getPrice(ItemID.PLATINUM, true));
+		assertEquals(0, table.getPrice(ItemID.BRONZE_DAGGER, false));
+		assertEquals(0, table.getPrice(-1, false));
+		assertEquals(0, table.getPrice(Integer.MAX_VALUE, false));
+
+		ItemPrice whip = table.getItemPrice(ItemID.ABYSSAL_WHIP);
+		assertEquals("Abyssal whip", whip.getName());
+		assertEquals(1_500_000, whip.getPrice());
+		assertNull(table.getItemPrice(ItemID.BH_DRAGON_CLAWS_CORRUPTED));
+	}
+
+	@Test
+	public void testWikiPriceOnLookup()
+	{
+		final int[] threshold = {0};
+		ItemPriceTable table = new ItemPriceTable(new ItemPrice[]{
+			price(ItemID.DRAGON_CLAWS, "Dragon claws", 50_000_000, 48_000_000),
+			price(ItemID.AMYLASE, "Amylase crystal", 80, 100),
+		}, WORN_ITEMS, (price, wikiPrice) -> wikiPrice <= threshold[0] ? wikiPrice : price);
+
+		assertEquals(50_000_000, table.getPrice(ItemID.DRAGON_CLAWS, true));
+		assertEquals(22_400, table.getPrice(ItemID.GRACEFUL_HOOD_WORN, true));
+
+		// a threshold which changes after the table is built applies to later lookups
+		threshold[0] = 1000;
+		assertEquals(50_000_000, table.getPrice(ItemID.DRAGON_CLAWS, true));
+		assertEquals(28_000, table.getPrice(ItemID.GRACEFUL_HOOD_WORN, true));
+		assertEquals(22_400, table.getPrice(ItemID.GRACEFUL_HOOD_WORN, false));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLookup()
+	{
+		final Random random = new Random(42);
+		final ItemPrice[] prices = new ItemPrice[4000];
+		final ImmutableMap.Builder<Integer, ItemPrice> builder = ImmutableMap.builder();
+		for (int i = 0; i < prices.length; ++i)
+		{
+			prices[i] = price(i * 7, "item " + i, random.nextInt(1_000_000), random.nextInt(1_000_000));
+			builder.put(prices[i].getId(), prices[i]);
+		}
+		final Map<Integer, ItemPrice> map = builder.build();
+		final ItemPriceTable table = new ItemPriceTable(prices, WORN_ITEMS, (price, wikiPrice) -> wikiPrice);
+
+		// a mix of priced, unpriced, worn and untradeable items like a bank or loot pile
+		final int[] lookups = new int[100_000];
+		final Integer[] mapped = ItemMapping.MAPPINGS.keySet().toArray(new Integer[0]);
+		for (int i = 0; i < lookups.length; ++i)
+		{
+			lookups[i] = i % 10 == 0 ? mapped[random.nextInt(mapped.length)] : random.nextInt(prices.length * 7);
+		}
+
+		for (int warmup = 0; warmup < 5; ++warmup)
+		{
+			long start = System.nanoTime();
+			long mapTotal = 0;
+			for (int itemId : lookups)
+			{
+				mapTotal += mapPrice(map, itemId);
+			}
+			long mapTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long tableTotal = 0;
+			for (int itemId : lookups)
+			{
+				tableTotal += table.getPrice(itemId, true);
+			}
+			long tableTime = System.nanoTime() - start;
+
+			assertEquals(mapTotal, tableTotal);
+			log.info("{} lookups: map {} us, table {} us", lookups.length, mapTime / 1000, tableTime / 1000);
+		}
+	}
+
+	// the lookup done before the price table, without the composition lookup for notes
+	private static int mapPrice(Map<Integer, ItemPrice> map, int itemId)
+	{
+		if (itemId == ItemID.COINS)
+		{
+			return 1;
+		}
+		if (itemId == ItemID.PLATINUM)
+		{
+			return 1000;
+		}
+
+		itemId = WORN_ITEMS.getOrDefault(itemId, itemId);
+		final Collection<ItemMapping> mappedItems = ItemMapping.map(itemId);
+		if (mappedItems == null)
+		{
+			final ItemPrice ip = map.get(itemId);
+			return ip != null ? ip.getWikiPrice() : 0;
+		}
+
+		int price = 0;
+		for (final ItemMapping mappedItem : mappedItems)
+		{
+			price += mapPrice(map, mappedItem.getTradeableItem()) * mappedItem.getQuantity();
+		}
+		return price;
+	}
+}
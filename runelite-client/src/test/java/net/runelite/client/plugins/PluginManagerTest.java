@@ -36,14 +36,22 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import com.google.inject.util.Modules;
 import java.awt.Component;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,6 +64,7 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -86,6 +95,57 @@ public class PluginManagerTest
 	private Set<Class<?>> pluginClasses;
 	private Set<Class<?>> configClasses;
 
+	// plugins in the order they were constructed in
+	private static final List<Class<?>> constructed = Collections.synchronizedList(new ArrayList<>());
+
+	@PluginDescriptor(name = "Dependency")
+	public static class DependencyPlugin extends Plugin
+	{
+		public DependencyPlugin() throws InterruptedException
+		{
+			// give dependents which aren't waiting for this plugin a chance to be constructed first
+			Thread.sleep(100);
+			constructed.add(DependencyPlugin.class);
+		}
+	}
+
+	@PluginDescriptor(name = "Dependent")
+	@PluginDependency(DependencyPlugin.class)
+	public static class DependentPlugin extends Plugin
+	{
+		public DependentPlugin()
+		{
+			constructed.add(DependentPlugin.class);
+		}
+	}
+
+	@PluginDescriptor(name = "Failing")
+	public static class FailingPlugin extends Plugin
+	{
+		public FailingPlugin()
+		{
+			throw new IllegalStateException("in plugin manager test");
+		}
+	}
+
+	@PluginDescriptor(name = "Failing dependent")
+	@PluginDependency(FailingPlugin.class)
+	public static class FailingDependentPlugin extends Plugin
+	{
+	}
+
+	@PluginDescriptor(name = "Cycle A")
+	@PluginDependency(CycleBPlugin.class)
+	public static class CycleAPlugin extends Plugin
+	{
+	}
+
+	@PluginDescriptor(name = "Cycle B")
+	@PluginDependency(CycleAPlugin.class)
+	public static class CycleBPlugin extends Plugin
+	{
+	}
+
 	@Before
 	public void before() throws IOException
 	{
@@ -216,6 +276,38 @@ public class PluginManagerTest
 		}
 	}
 
+	@Test(timeout = 10_000)
+	public void testDependencyOrder() throws PluginInstantiationException
+	{
+		constructed.clear();
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		List<Plugin> plugins = pluginManager.loadPlugins(Arrays.asList(DependentPlugin.class, DependencyPlugin.class), null);
+
+		assertEquals(Arrays.asList(DependencyPlugin.class, DependentPlugin.class), constructed);
+		assertEquals(Arrays.asList(DependencyPlugin.class, DependentPlugin.class),
+			plugins.stream().map(Object::getClass).collect(Collectors.toList()));
+	}
+
+	@Test(timeout = 10_000)
+	public void testFailedDependency() throws PluginInstantiationException
+	{
+		constructed.clear();
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		List<Plugin> plugins = pluginManager.loadPlugins(Arrays.asList(FailingDependentPlugin.class, FailingPlugin.class, DependencyPlugin.class), null);
+
+		// the failed plugin and its dependent are skipped, and the other plugins still load
+		assertEquals(1, plugins.size());
+		assertTrue(plugins.get(0) instanceof DependencyPlugin);
+		assertEquals(plugins, new ArrayList<>(pluginManager.getPlugins()));
+	}
+
+	@Test(timeout = 10_000, expected = PluginInstantiationException.class)
+	public void testDependencyCycle() throws PluginInstantiationException
+	{
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager.loadPlugins(Arrays.asList(CycleAPlugin.class, CycleBPlugin.class), null);
+	}
+
 	@Test
 	public void testTopologicalSort()
 	{
@@ -235,4 +327,33 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testPluginIndex() throws IOException
+	{
+		// the index is written by the build, and is missing when the tests are run without it
+		InputStream in = getClass().getClassLoader().getResourceAsStream("net/runelite/client/plugins/plugins.idx");
+		Assume.assumeNotNull(in);
+
+		List<String> indexed = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			for (String line; (line = reader.readLine()) != null; )
+			{
+				String[] fields = line.split("\t", -1);
+				for (String dependency : fields[2].split(","))
+				{
+					assertTrue(fields[0] + " is before its dependency " + dependency,
+						dependency.isEmpty() || indexed.contains(dependency));
+				}
+				indexed.add(fields[0]);
+			}
+		}
+
+		Set<String> expected = pluginClasses.stream()
+			.filter(cl -> cl.getSuperclass() == Plugin.class)
+			.map(Class::getName)
+			.collect(Collectors.toSet());
+		assertEquals(expected, new HashSet<>(indexed));
+	}
 }
@@ -47,6 +47,7 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.Notification;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.ui.overlay.OverlayManager;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
@@ -89,6 +90,10 @@ public class AttackStylesPluginTest
 	@Bind
 	Notifier notifier;
 
+	@Mock
+	@Bind
+	AttackStylesOverlay attackStylesOverlay;
+
 	@Inject
 	AttackStylesPlugin attackPlugin;
 
@@ -173,6 +178,23 @@ public class AttackStylesPluginTest
 		assertFalse(attackPlugin.isWarnedSkillSelected());
 	}
 
+	/*
+	 * Verify that the cached overlay is rendered again when the attack style changes.
+	 */
+	@Test
+	public void testOverlayMarkedDirty()
+	{
+		when(client.getVarbitValue(VarbitID.COMBAT_WEAPON_CATEGORY)).thenReturn(4);
+		when(client.getVarpValue(VarPlayerID.COM_MODE)).thenReturn(AttackStyle.ACCURATE.ordinal());
+
+		VarbitChanged varbitChanged = new VarbitChanged();
+		varbitChanged.setVarpId(VarPlayerID.COM_MODE);
+		attackPlugin.onVarbitChanged(varbitChanged);
+
+		assertEquals(AttackStyle.ACCURATE, attackPlugin.getAttackStyle());
+		verify(attackStylesOverlay).markDirty();
+	}
+
 	/*
 	 * Verify that attack style widgets are hidden when filtered with the AttackStylesPlugin.
 	 */
@@ -50,6 +50,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.Notification;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSearchService;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.ui.ClientToolbar;
@@ -100,6 +101,10 @@ public class GrandExchangePluginTest
 	@Bind
 	private ItemManager itemManager;
 
+	@Mock
+	@Bind
+	private ItemSearchService itemSearchService;
+
 	@Mock
 	@Bind
 	private KeyManager keyManager;
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Slf4j
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "test.dat");
+	}
+
+	private static ConfigLoot loot(LootRecordType type, String name, long last, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot(type, name);
+		loot.kills = 1;
+		loot.first = Instant.ofEpochMilli(last);
+		loot.last = Instant.ofEpochMilli(last);
+		loot.drops = drops;
+		return loot;
+	}
+
+	@Test
+	public void testPutAndLoad() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+		store.put(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 1000, 995, 10, 526, 1),
+			loot(LootRecordType.EVENT, "Barrows", 2000, 4708, 1)
+		));
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 3000, 995, 20)));
+		store.remove(LootRecordType.EVENT, "Barrows");
+
+		store = new LootStore(file);
+		store.load();
+		ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+		assertEquals(Instant.ofEpochMilli(3000), goblin.last);
+		assertArrayEquals(new int[]{995, 20}, goblin.drops);
+		assertNull(store.get(LootRecordType.EVENT, "Barrows"));
+	}
+
+	@Test
+	public void testQuery() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+		store.put(Arrays.asList(
+			loot(LootRecordType.NPC, "c", 3000),
+			loot(LootRecordType.NPC, "a", 1000),
+			loot(LootRecordType.NPC, "b", 2000)
+		));
+
+		List<ConfigLoot> loots = store.query(Instant.ofEpochMilli(1500), Instant.MAX);
+		assertEquals(2, loots.size());
+		assertEquals("b", loots.get(0).name);
+		assertEquals("c", loots.get(1).name);
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+		for (int i = 0; i < 100; ++i)
+		{
+			store.put(Arrays.asList(
+				loot(LootRecordType.NPC, "old", 1000, 995, i),
+				loot(LootRecordType.NPC, "new", 5000 + i, 995, i)
+			));
+		}
+		assertTrue(store.isCompactionDue());
+
+		long size = file.length();
+		store.compact(Instant.ofEpochMilli(2000));
+		assertFalse(store.isCompactionDue());
+		assertTrue(file.length() < size);
+
+		store = new LootStore(file);
+		store.load();
+		assertNull(store.get(LootRecordType.NPC, "old"));
+		assertArrayEquals(new int[]{995, 99}, store.get(LootRecordType.NPC, "new").drops);
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "a", 1000, 995, 1)));
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "b", 1000, 995, 2)));
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		store = new LootStore(file);
+		store.load();
+		assertEquals(1, store.get(LootRecordType.NPC, "a").drops[1]);
+		assertNull(store.get(LootRecordType.NPC, "b"));
+
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "c", 1000, 995, 3)));
+		store = new LootStore(file);
+		store.load();
+		assertEquals(3, store.get(LootRecordType.NPC, "c").drops[1]);
+	}
+
+	@Test
+	public void testUnknownRecordType() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "a", 1000, 995, 1)));
+
+		// a remove record for a type this client doesn't know, with a valid crc
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(1);
+		out.writeShort(7);
+		out.writeBytes("UNKNOWN");
+		out.writeShort(1);
+		out.writeBytes("a");
+		byte[] body = bout.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(body);
+		try (DataOutputStream fout = new DataOutputStream(new FileOutputStream(file, true)))
+		{
+			fout.writeInt(body.length);
+			fout.writeInt((int) crc.getValue());
+			fout.write(body);
+		}
+
+		store = new LootStore(file);
+		store.load();
+		assertEquals(1, store.get(LootRecordType.NPC, "a").drops[1]);
+
+		// records after it are still read
+		store.put(Collections.singletonList(loot(LootRecordType.NPC, "b", 1000, 995, 2)));
+		store = new LootStore(file);
+		store.load();
+		assertEquals(2, store.get(LootRecordType.NPC, "b").drops[1]);
+	}
+
+	@Test
+	public void testCompactSharedFile() throws IOException
+	{
+		LootStore first = new LootStore(file);
+		first.load();
+		first.put(Collections.singletonList(loot(LootRecordType.NPC, "a", 1000, 995, 1)));
+
+		LootStore second = new LootStore(file);
+		second.load();
+		second.put(Collections.singletonList(loot(LootRecordType.NPC, "b", 1000, 995, 2)));
+
+		// the compaction keeps what the other store appended after this one was loaded
+		first.compact(Instant.EPOCH);
+		assertEquals(2, first.get(LootRecordType.NPC, "b").drops[1]);
+
+		LootStore store = new LootStore(file);
+		store.load();
+		assertEquals(1, store.get(LootRecordType.NPC, "a").drops[1]);
+		assertEquals(2, store.get(LootRecordType.NPC, "b").drops[1]);
+	}
+
+	@Test
+	public void benchmarkLoad() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load();
+
+		// a year of loot, aggregated per kill type and written out every few minutes
+		List<ConfigLoot> loots = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i)
+		{
+			int[] drops = new int[40];
+			for (int j = 0; j < drops.length; j += 2)
+			{
+				drops[j] = j;
+				drops[j + 1] = i;
+			}
+			loots.add(loot(LootRecordType.NPC, "npc " + i, i, drops));
+		}
+		for (int i = 0; i < 10; ++i)
+		{
+			store.put(loots);
+		}
+
+		long start = System.nanoTime();
+		store = new LootStore(file);
+		store.load();
+		log.info("Loading {} bytes took {}ms", file.length(), (System.nanoTime() - start) / 1_000_000);
+		assertEquals(2000, store.query(Instant.EPOCH, Instant.MAX).size());
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ProfilerTest
+{
+	private final Profiler profiler = new Profiler();
+
+	@Test
+	public void testPercentile()
+	{
+		CallSite site = new CallSite(Profiler.EVENT, "test");
+		for (int i = 0; i < 99; ++i)
+		{
+			site.record(100);
+		}
+		site.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+		assertEquals(100, site.getCount());
+		assertEquals(127, site.getPercentileNanos(.5));
+		assertEquals(127, site.getPercentileNanos(.99));
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(10), site.getPercentileNanos(1));
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(10), site.getMaxNanos());
+	}
+
+	@Test
+	public void testEventBus() throws Exception
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.setProfiler(profiler);
+		eventBus.register(new Subscriber());
+
+		// nothing is recorded while disabled
+		eventBus.post(new TestEvent());
+		assertTrue(profiler.getCallSites().isEmpty());
+
+		profiler.setEnabled(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+
+		List<CallSite> sites = profiler.getCallSites();
+		assertEquals(1, sites.size());
+		assertEquals(Profiler.EVENT, sites.get(0).getCategory());
+		assertEquals("Subscriber.onTestEvent", sites.get(0).getName());
+		assertEquals(2, sites.get(0).getCount());
+
+		StringWriter out = new StringWriter();
+		profiler.exportTrace(out);
+		JsonObject trace = new JsonParser().parse(out.toString()).getAsJsonObject();
+		JsonArray events = trace.getAsJsonArray("traceEvents");
+		assertEquals(2, events.size());
+		assertEquals("Subscriber.onTestEvent", events.get(0).getAsJsonObject().get("name").getAsString());
+		assertEquals("X", events.get(0).getAsJsonObject().get("ph").getAsString());
+	}
+
+	@Test
+	public void testSharedSite()
+	{
+		profiler.setEnabled(true);
+		for (int i = 0; i < 3; ++i)
+		{
+			EventBus eventBus = new EventBus();
+			eventBus.setProfiler(profiler);
+			eventBus.register(new Subscriber());
+			eventBus.post(new TestEvent());
+		}
+
+		// each instance of the subscriber is recorded to the same site
+		List<CallSite> sites = profiler.getCallSites();
+		assertEquals(1, sites.size());
+		assertEquals(3, sites.get(0).getCount());
+	}
+
+	@Test
+	public void testReset()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.setProfiler(profiler);
+		eventBus.register(new Subscriber());
+
+		profiler.setEnabled(true);
+		eventBus.post(new TestEvent());
+		profiler.reset();
+		assertTrue(profiler.getCallSites().isEmpty());
+
+		// the subscriber's site is kept across the reset
+		eventBus.post(new TestEvent());
+		List<CallSite> sites = profiler.getCallSites();
+		assertEquals(1, sites.size());
+		assertEquals(1, sites.get(0).getCount());
+	}
+
+	@Test
+	public void testMaxSites()
+	{
+		for (int i = 0; i < Profiler.MAX_SITES + 100; ++i)
+		{
+			profiler.describedSite(Profiler.OVERLAY, "Overlay" + i).record(1);
+		}
+
+		List<CallSite> sites = profiler.getCallSites();
+		assertEquals(Profiler.MAX_SITES + 1, sites.size());
+		CallSite other = profiler.describedSite(Profiler.OVERLAY, "Overlay" + (Profiler.MAX_SITES + 200));
+		assertEquals(Profiler.OTHER, other.getName());
+		assertEquals(100, other.getCount());
+	}
+
+	public static class TestEvent
+	{
+	}
+
+	public static class Subscriber
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+		}
+	}
+}
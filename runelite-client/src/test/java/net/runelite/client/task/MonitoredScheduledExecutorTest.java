@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.util.ExecutorServiceExceptionLogger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MonitoredScheduledExecutorTest
+{
+	@Test
+	public void testTaskName()
+	{
+		Runnable lambda = () ->
+		{
+		};
+		assertEquals("MonitoredScheduledExecutorTest", MonitoredScheduledExecutor.taskName(lambda));
+		assertEquals("MonitoredScheduledExecutorTest$Task", MonitoredScheduledExecutor.taskName(new Task()));
+	}
+
+	@Test
+	public void testStats() throws Exception
+	{
+		TaskMonitor monitor = new TaskMonitor();
+		MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor("test", 2, Thread.NORM_PRIORITY, monitor);
+		ScheduledExecutorService service = new ExecutorServiceExceptionLogger(executor);
+		try
+		{
+			service.submit(new Task()).get();
+			service.schedule(new Task(), 10, TimeUnit.MILLISECONDS).get();
+		}
+		finally
+		{
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.SECONDS);
+		}
+
+		List<TaskMonitor.TaskStats> stats = monitor.getStats();
+		assertEquals(1, stats.size());
+
+		TaskMonitor.TaskStats s = stats.get(0);
+		assertEquals("test", s.getExecutor());
+		assertEquals("MonitoredScheduledExecutorTest$Task", s.getTask());
+		assertEquals(0, s.getQueued());
+		assertEquals(0, s.getRunning());
+		assertEquals(2, s.getCompleted());
+		assertTrue(s.getMaxRunMs() >= s.getAvgRunMs());
+	}
+
+	private static class Task implements Runnable
+	{
+		@Override
+		public void run()
+		{
+		}
+	}
+}
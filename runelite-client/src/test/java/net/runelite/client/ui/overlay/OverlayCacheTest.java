@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class OverlayCacheTest
+{
+	private static class CountingOverlay extends Overlay
+	{
+		private Dimension size = new Dimension(20, 10);
+		private int renders;
+
+		CountingOverlay()
+		{
+			setCacheable(true);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, size.width, size.height);
+			return size;
+		}
+	}
+
+	@Test
+	public void testRetained()
+	{
+		BufferedImage screen = new BufferedImage(512, 512, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+
+		CountingOverlay overlay = new CountingOverlay();
+		OverlayCache cache = new OverlayCache(new OverlayCache.Pool());
+
+		assertEquals(new Dimension(20, 10), cache.render(overlay, graphics));
+		assertEquals(new Dimension(20, 10), cache.render(overlay, graphics));
+		assertEquals(1, overlay.renders);
+		// the cached image is drawn
+		assertEquals(Color.RED.getRGB(), screen.getRGB(19, 9));
+		assertEquals(Color.BLACK.getRGB(), screen.getRGB(20, 10));
+
+		overlay.markDirty();
+		cache.render(overlay, graphics);
+		cache.render(overlay, graphics);
+		assertEquals(2, overlay.renders);
+
+		overlay.setPreferredSize(new Dimension(30, 30));
+		cache.render(overlay, graphics);
+		cache.render(overlay, graphics);
+		assertEquals(3, overlay.renders);
+
+		cache.release();
+		cache.render(overlay, graphics);
+		assertEquals(4, overlay.renders);
+
+		graphics.dispose();
+	}
+
+	@Test
+	public void testGrow()
+	{
+		BufferedImage screen = new BufferedImage(512, 512, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+
+		CountingOverlay overlay = new CountingOverlay();
+		overlay.size = new Dimension(300, 200);
+		OverlayCache cache = new OverlayCache(new OverlayCache.Pool());
+
+		// the first render doesn't fit in the initial image, so it is rendered again into a larger one
+		assertEquals(new Dimension(300, 200), cache.render(overlay, graphics));
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), screen.getRGB(299, 199));
+
+		graphics.dispose();
+	}
+
+	@Test
+	public void testPool()
+	{
+		BufferedImage screen = new BufferedImage(512, 512, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+		GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+		OverlayCache.Pool pool = new OverlayCache.Pool();
+
+		BufferedImage image = pool.acquire(configuration, 64, 32);
+		pool.release(configuration, image);
+		assertNotSame(image, pool.acquire(configuration, 64, 64));
+		assertSame(image, pool.acquire(configuration, 64, 32));
+		assertNotSame(image, pool.acquire(configuration, 64, 32));
+
+		graphics.dispose();
+	}
+
+	@Test
+	public void testReleaseToPool()
+	{
+		BufferedImage screen = new BufferedImage(512, 512, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+		GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+		OverlayCache.Pool pool = new OverlayCache.Pool();
+
+		CountingOverlay overlay = new CountingOverlay();
+		OverlayCache cache = new OverlayCache(pool);
+		cache.render(overlay, graphics);
+
+		// the rendered image is in the pool only once the overlay releases it
+		assertEquals(0, pool.acquire(configuration, 128, 128).getRGB(0, 0));
+		cache.release();
+		assertEquals(Color.RED.getRGB(), pool.acquire(configuration, 128, 128).getRGB(0, 0));
+
+		graphics.dispose();
+	}
+}
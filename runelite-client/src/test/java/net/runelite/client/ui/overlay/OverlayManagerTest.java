@@ -24,14 +24,19 @@
  */
 package net.runelite.client.ui.overlay;
 
+import com.google.inject.Guice;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.util.Arrays;
 import java.util.List;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.events.ConfigChanged;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
+import static org.mockito.Mockito.mock;
 
 public class OverlayManagerTest
 {
@@ -120,4 +125,33 @@ public class OverlayManagerTest
 		assertEquals(t, overlays.get(2));
 	}
 
+	@Test
+	public void testConfigChangeMarksDirty()
+	{
+		OverlayManager overlayManager = Guice.createInjector(binder ->
+		{
+			binder.bind(ConfigManager.class).toInstance(mock(ConfigManager.class));
+			binder.bind(RuneLiteConfig.class).toInstance(mock(RuneLiteConfig.class));
+		}).getInstance(OverlayManager.class);
+
+		Overlay a = new OverlayA();
+		a.setConfigGroup("a");
+		Overlay b = new OverlayB();
+		overlayManager.add(a);
+		overlayManager.add(b);
+		a.dirty = b.dirty = false;
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("a");
+		configChanged.setKey("key");
+		overlayManager.onConfigChanged(configChanged);
+		assertTrue(a.dirty);
+		assertFalse(b.dirty);
+
+		a.dirty = false;
+		configChanged.setGroup(RuneLiteConfig.GROUP_NAME);
+		overlayManager.onConfigChanged(configChanged);
+		assertTrue(a.dirty);
+		assertTrue(b.dirty);
+	}
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.Projection;
+import net.runelite.api.WorldView;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@Slf4j
+@RunWith(MockitoJUnitRunner.class)
+public class ModelOutlineRendererTest
+{
+	private static final int SIZE = 512;
+
+	// Projects local coordinates 1:1 onto the canvas, with the local origin at the center of the viewport
+	private static final Projection PROJECTION = new Projection()
+	{
+		@Override
+		public float[] project(float x, float y, float z)
+		{
+			return project(x, y, z, new float[3]);
+		}
+
+		@Override
+		public float[] project(float x, float y, float z, float[] out)
+		{
+			out[0] = x;
+			out[1] = z;
+			out[2] = SIZE;
+			return out;
+		}
+	};
+
+	@Inject
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	private MainBufferProvider bufferProvider;
+
+	@Mock
+	private WorldView worldView;
+
+	private BufferedImage image;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+		lenient().when(client.getBufferProvider()).thenReturn(bufferProvider);
+		lenient().when(bufferProvider.getImage()).thenAnswer(i -> image);
+		lenient().when(client.getViewportWidth()).thenReturn(SIZE);
+		lenient().when(client.getViewportHeight()).thenReturn(SIZE);
+		lenient().when(client.getScale()).thenReturn(SIZE);
+		lenient().when(worldView.getCanvasProjection()).thenReturn(PROJECTION);
+	}
+
+	@Test
+	public void testBatchMatchesSingleOutlines()
+	{
+		List<GameObject> objects = Arrays.asList(
+			square(-150, -150, 20),
+			square(-40, -140, 8),
+			square(100, -100, 50),
+			square(-120, 60, 30),
+			square(60, 120, 3),
+			square(200, 200, 40)); // partially outside of the viewport
+
+		int[][] styles = {
+			// width, alpha, feather
+			{1, 255, 0},
+			{2, 255, 0},
+			{4, 255, 2},
+			{6, 128, 4},
+		};
+
+		for (int[] style : styles)
+		{
+			Color color = new Color(255, 0, 0, style[1]);
+
+			for (GameObject object : objects)
+			{
+				modelOutlineRenderer.drawOutline(object, style[0], color, style[2]);
+			}
+			int[] single = pixels();
+
+			image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+			ModelOutlineRenderer.Batch batch = modelOutlineRenderer.batch();
+			for (GameObject object : objects)
+			{
+				batch.add(object, style[0], color, style[2]);
+			}
+			batch.draw();
+
+			assertArrayEquals("width " + style[0], single, pixels());
+			image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+		}
+	}
+
+	@Test
+	public void testOverlappingModels()
+	{
+		modelOutlineRenderer.batch()
+			.add(square(0, 0, 20), 3, Color.RED, 0)
+			.add(square(30, 0, 20), 3, Color.RED, 0)
+			.draw();
+
+		int center = SIZE / 2;
+		// Outlines of the same style are drawn around the combined shape, and not where the models overlap
+		for (int x = center - 20; x < center + 50; x++)
+		{
+			assertEquals(0, image.getRGB(x, center) & 0xFFFFFF);
+		}
+
+		assertEquals(Color.RED.getRGB(), image.getRGB(center - 22, center));
+		assertEquals(Color.RED.getRGB(), image.getRGB(center + 52, center));
+		assertEquals(Color.RED.getRGB(), image.getRGB(center + 15, center - 22));
+		assertEquals(Color.RED.getRGB(), image.getRGB(center + 15, center + 22));
+	}
+
+	@Test
+	public void testSharedModel()
+	{
+		// Actors are outlined with the client's shared animation model, which is changed for the next
+		// actor before the batch is drawn
+		float[] verticesX = new float[4];
+		float[] verticesZ = new float[4];
+		Model model = squareModel(verticesX, verticesZ);
+		GameObject small = object(model, -100, 0);
+		GameObject large = object(model, 100, 0);
+
+		resize(verticesX, verticesZ, 10);
+		modelOutlineRenderer.drawOutline(small, 2, Color.RED, 0);
+		resize(verticesX, verticesZ, 40);
+		modelOutlineRenderer.drawOutline(large, 2, Color.RED, 0);
+		int[] single = pixels();
+
+		image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+		ModelOutlineRenderer.Batch batch = modelOutlineRenderer.batch();
+		resize(verticesX, verticesZ, 10);
+		batch.add(small, 2, Color.RED, 0);
+		resize(verticesX, verticesZ, 40);
+		batch.add(large, 2, Color.RED, 0);
+		batch.draw();
+
+		assertArrayEquals(single, pixels());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int iterations = 200;
+		final Color color = new Color(255, 255, 0, 200);
+
+		for (int count : new int[]{1, 10, 25, 50, 100})
+		{
+			List<GameObject> objects = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				objects.add(square((i % 10) * 48 - 216, (i / 10) * 48 - 216, 16));
+			}
+
+			for (int warmup = 0; warmup < 3; warmup++)
+			{
+				long start = System.nanoTime();
+				for (int i = 0; i < iterations; i++)
+				{
+					for (GameObject object : objects)
+					{
+						modelOutlineRenderer.drawOutline(object, 4, color, 2);
+					}
+				}
+				long single = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (int i = 0; i < iterations; i++)
+				{
+					ModelOutlineRenderer.Batch batch = modelOutlineRenderer.batch();
+					for (GameObject object : objects)
+					{
+						batch.add(object, 4, color, 2);
+					}
+					batch.draw();
+				}
+				long batched = System.nanoTime() - start;
+
+				log.info("{} models: {} us/frame single, {} us/frame batched", count,
+					single / iterations / 1000, batched / iterations / 1000);
+			}
+		}
+	}
+
+	private int[] pixels()
+	{
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData().clone();
+	}
+
+	/**
+	 * Creates an object whose model is a square facing the camera, centered on x, y
+	 */
+	private GameObject square(int x, int y, int halfSize)
+	{
+		float[] verticesX = new float[4];
+		float[] verticesZ = new float[4];
+		resize(verticesX, verticesZ, halfSize);
+		return object(squareModel(verticesX, verticesZ), x, y);
+	}
+
+	/**
+	 * Creates a model of a square facing the camera, with the given vertices
+	 */
+	private static Model squareModel(float[] verticesX, float[] verticesZ)
+	{
+		Model model = mock(Model.class);
+		lenient().when(model.getVerticesCount()).thenReturn(4);
+		lenient().when(model.getVerticesX()).thenReturn(verticesX);
+		lenient().when(model.getVerticesY()).thenReturn(new float[4]);
+		lenient().when(model.getVerticesZ()).thenReturn(verticesZ);
+		// both windings so that the square is visible regardless of culling
+		lenient().when(model.getFaceCount()).thenReturn(4);
+		lenient().when(model.getFaceIndices1()).thenReturn(new int[]{0, 0, 0, 0});
+		lenient().when(model.getFaceIndices2()).thenReturn(new int[]{1, 2, 2, 3});
+		lenient().when(model.getFaceIndices3()).thenReturn(new int[]{2, 3, 1, 2});
+		return model;
+	}
+
+	private static void resize(float[] verticesX, float[] verticesZ, int halfSize)
+	{
+		System.arraycopy(new float[]{-halfSize, halfSize, halfSize, -halfSize}, 0, verticesX, 0, 4);
+		System.arraycopy(new float[]{-halfSize, -halfSize, halfSize, halfSize}, 0, verticesZ, 0, 4);
+	}
+
+	private GameObject object(Model model, int x, int y)
+	{
+		GameObject object = mock(GameObject.class);
+		when(object.getRenderable()).thenReturn(model);
+		when(object.getWorldView()).thenReturn(worldView);
+		when(object.getX()).thenReturn(x);
+		when(object.getY()).thenReturn(y);
+		return object;
+	}
+}
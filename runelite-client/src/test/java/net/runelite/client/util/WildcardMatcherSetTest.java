@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatches()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList(
+			"rune*", // 0
+			"Abyssal whip", // 1
+			"*whip", // 2
+			"string $ with special character", // 3
+			"*", // 4
+			"r*n*e", // 5
+			"a**b")); // 6
+
+		assertArrayEquals(new int[]{0, 4}, set.matches("rune pouch"));
+		assertArrayEquals(new int[]{0, 4, 5}, set.matches("Runeite Ore"));
+		assertArrayEquals(new int[]{1, 2, 4}, set.matches("ABYSSAL WHIP"));
+		assertArrayEquals(new int[]{3, 4}, set.matches("string $ with special character"));
+		assertArrayEquals(new int[]{0, 4, 5}, set.matches("rune"));
+		assertArrayEquals(new int[]{4, 6}, set.matches("ab"));
+		assertArrayEquals(new int[]{4}, set.matches(""));
+		assertArrayEquals(new int[]{4}, set.matches("Adamant dagger"));
+
+		assertFalse(WildcardMatcherSet.compile(List.of("rune*")).matchesAny("Adamant dagger"));
+		assertTrue(WildcardMatcherSet.compile(List.of("rune*")).matchesAny("rune"));
+		assertFalse(WildcardMatcherSet.compile(List.of()).matchesAny(""));
+	}
+
+	@Test
+	public void testSameAsWildcardMatcher()
+	{
+		final Random random = new Random(42);
+		final String alphabet = "aAbB* \n$.";
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			List<String> patterns = new ArrayList<>();
+			for (int p = 0; p < 8; ++p)
+			{
+				patterns.add(randomString(random, alphabet, 6));
+			}
+
+			WildcardMatcherSet set = WildcardMatcherSet.compile(patterns);
+			for (int t = 0; t < 8; ++t)
+			{
+				String text = randomString(random, alphabet.replace("*", ""), 8);
+				int[] matches = set.matches(text);
+
+				List<Integer> expected = new ArrayList<>();
+				for (int p = 0; p < patterns.size(); ++p)
+				{
+					if (WildcardMatcher.matches(patterns.get(p), text))
+					{
+						expected.add(p);
+					}
+				}
+
+				assertEquals(patterns + " " + text, expected, Arrays.stream(matches).boxed().collect(Collectors.toList()));
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final Random random = new Random(42);
+		final String alphabet = "abcdefghijklmnopqrstuvwxyz ";
+
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < 300; ++i)
+		{
+			String name = randomString(random, alphabet, 12) + "abcdefghijkl";
+			patterns.add(i % 3 == 0 ? name : i % 3 == 1 ? name.substring(0, 4) + "*" : "*" + name.substring(8));
+		}
+
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i)
+		{
+			names.add(randomString(random, alphabet, 16));
+		}
+
+		for (int warmup = 0; warmup < 3; ++warmup)
+		{
+			long start = System.nanoTime();
+			int regexMatches = 0;
+			for (String name : names)
+			{
+				for (String pattern : patterns)
+				{
+					if (WildcardMatcher.matches(pattern, name))
+					{
+						++regexMatches;
+						break;
+					}
+				}
+			}
+			long regex = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			WildcardMatcherSet set = WildcardMatcherSet.compile(patterns);
+			long compile = System.nanoTime() - start;
+			int setMatches = 0;
+			for (String name : names)
+			{
+				if (set.matchesAny(name))
+				{
+					++setMatches;
+				}
+			}
+			long compiled = System.nanoTime() - start;
+
+			assertEquals(regexMatches, setMatches);
+			log.info("{} patterns x {} names: regex {} us, compiled set {} us (of which compile {} us)",
+				patterns.size(), names.size(), regex / 1000, compiled / 1000, compile / 1000);
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int maxLength)
+	{
+		final int length = random.nextInt(maxLength + 1);
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+		{
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+}
@@ -30,33 +30,62 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.definitions.savers.ScriptSaver;
 import net.runelite.cache.script.RuneLiteInstructions;
 import net.runelite.cache.script.assembler.Assembler;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.tasks.CacheableTask;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
 import org.tomlj.Toml;
 import org.tomlj.TomlParseError;
 import org.tomlj.TomlParseResult;
 import org.tomlj.TomlTable;
 
+/**
+ * Assembles the .rs2asm scripts into the clientscript overlay, along with their .hash files.
+ * <p>
+ * Scripts are assembled in parallel. When only scripts or hashes change, only those scripts are
+ * reassembled; the script index records the id each script was assembled to, so the outputs of
+ * changed and removed scripts can be deleted.
+ */
 @CacheableTask
 public abstract class AssembleTask extends DefaultTask
 {
+	private static final String SCRIPT_EXTENSION = "rs2asm";
+	private static final String HASH_EXTENSION = "hash";
+
+	@Incremental
 	@InputDirectory
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract DirectoryProperty getScriptDirectory();
@@ -68,54 +97,191 @@ public abstract class AssembleTask extends DefaultTask
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract RegularFileProperty getComponentsFile();
 
+	/**
+	 * The script file names and the ids they were assembled to, a line per script separated by a tab.
+	 */
+	@OutputFile
+	public abstract RegularFileProperty getScriptIndexFile();
+
 	private final Logger log = getLogger();
 
 	@TaskAction
-	public void assembleRs2Asm() throws IOException
+	public void assembleRs2Asm(InputChanges changes) throws IOException
 	{
 		File scriptDirectory = getScriptDirectory().getAsFile().get();
 		File outputDirectory = getOutputDirectory().getAsFile().get();
 		File componentsFile = getComponentsFile().getAsFile().get();
+		File indexFile = getScriptIndexFile().getAsFile().get();
 
-		RuneLiteInstructions instructions = new RuneLiteInstructions();
-		instructions.init();
-
-		Assembler assembler = new Assembler(instructions, buildComponentSymbols(componentsFile));
-		ScriptSaver saver = new ScriptSaver();
-
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+		// the scripts to assemble, by name without extension
+		TreeSet<String> scripts = new TreeSet<>();
+		Map<String, Integer> scriptIds;
+		if (changes.isIncremental())
 		{
-			log.debug("Assembling {}", scriptFile);
+			scriptIds = readScriptIndex(indexFile);
+			for (FileChange change : changes.getFileChanges(getScriptDirectory()))
+			{
+				String extension = Files.getFileExtension(change.getFile().getName());
+				if (change.getFileType() == FileType.DIRECTORY || !(extension.equals(SCRIPT_EXTENSION) || extension.equals(HASH_EXTENSION)))
+				{
+					continue;
+				}
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+				String name = Files.getNameWithoutExtension(change.getFile().getName());
+				Integer oldId = scriptIds.remove(name);
+				if (oldId != null)
+				{
+					new File(scriptOut, Integer.toString(oldId)).delete();
+					new File(scriptOut, oldId + "." + HASH_EXTENSION).delete();
+				}
+
+				if (change.getChangeType() != ChangeType.REMOVED || extension.equals(HASH_EXTENSION))
+				{
+					scripts.add(name);
+				}
+			}
+
+			// a removed hash of a removed script
+			scripts.removeIf(name -> !new File(scriptDirectory, name + "." + SCRIPT_EXTENSION).exists());
+		}
+		else
+		{
+			scriptIds = new TreeMap<>();
+			for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith("." + SCRIPT_EXTENSION)))
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
+				scripts.add(Files.getNameWithoutExtension(scriptFile.getName()));
+			}
+		}
 
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+		if (!scripts.isEmpty())
+		{
+			RuneLiteInstructions instructions = new RuneLiteInstructions();
+			instructions.init();
 
-				// Copy hash file
+			// assemblers keep no state between scripts, so one is shared by every worker
+			Assembler assembler = new Assembler(instructions, Collections.unmodifiableMap(buildComponentSymbols(componentsFile)));
+			ScriptSaver saver = new ScriptSaver();
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
+			int threads = Math.min(scripts.size(), Runtime.getRuntime().availableProcessors());
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try
+			{
+				List<CompletableFuture<Integer>> futures = new ArrayList<>(scripts.size());
+				for (String name : scripts)
 				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					File scriptFile = new File(scriptDirectory, name + "." + SCRIPT_EXTENSION);
+					futures.add(CompletableFuture.supplyAsync(() -> assemble(assembler, saver, scriptFile, scriptOut), executor));
 				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+
+				int i = 0;
+				for (String name : scripts)
+				{
+					int id = futures.get(i++).join();
+					scriptIds.put(name, id);
+				}
+			}
+			catch (CompletionException e)
+			{
+				Throwable cause = e.getCause();
+				if (cause instanceof UncheckedIOException)
 				{
-					throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+					throw ((UncheckedIOException) cause).getCause();
 				}
+				if (cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				throw e;
+			}
+			finally
+			{
+				executor.shutdownNow();
+			}
+		}
+
+		Map<Integer, String> idToScript = new HashMap<>();
+		for (Map.Entry<String, Integer> entry : scriptIds.entrySet())
+		{
+			String other = idToScript.put(entry.getValue(), entry.getKey());
+			if (other != null)
+			{
+				throw new GradleException("Scripts " + other + " and " + entry.getKey() + " both have id " + entry.getValue());
+			}
+		}
+
+		writeScriptIndex(indexFile, scriptIds);
+		log.lifecycle("Assembled {} of {} scripts", scripts.size(), scriptIds.size());
+	}
+
+	private int assemble(Assembler assembler, ScriptSaver saver, File scriptFile, File scriptOut)
+	{
+		log.debug("Assembling {}", scriptFile);
+
+		try (FileInputStream fin = new FileInputStream(scriptFile))
+		{
+			ScriptDefinition script;
+			try
+			{
+				script = assembler.assemble(fin);
+			}
+			catch (RuntimeException e)
+			{
+				throw new GradleException("Unable to assemble " + scriptFile, e);
+			}
+			byte[] packedScript = saver.save(script);
+
+			File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+			Files.write(packedScript, targetFile);
 
-				++count;
+			// Copy hash file
+
+			File hashFile = new File(scriptFile.getParentFile(), Files.getNameWithoutExtension(scriptFile.getName()) + "." + HASH_EXTENSION);
+			if (hashFile.exists())
+			{
+				Files.copy(hashFile, new File(scriptOut, script.getId() + "." + HASH_EXTENSION));
+			}
+			else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+			{
+				throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
 			}
+
+			return script.getId();
 		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
 
-		log.lifecycle("Assembled {} scripts", count);
+	private static Map<String, Integer> readScriptIndex(File file) throws IOException
+	{
+		Map<String, Integer> scriptIds = new TreeMap<>();
+		if (file.exists())
+		{
+			for (String line : Files.asCharSource(file, StandardCharsets.UTF_8).readLines())
+			{
+				int tab = line.indexOf('\t');
+				if (tab != -1)
+				{
+					scriptIds.put(line.substring(0, tab), Integer.parseInt(line.substring(tab + 1)));
+				}
+			}
+		}
+		return scriptIds;
+	}
+
+	private static void writeScriptIndex(File file, Map<String, Integer> scriptIds) throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Integer> entry : scriptIds.entrySet())
+		{
+			sb.append(entry.getKey()).append('\t').append(entry.getValue()).append('\n');
+		}
+		file.getParentFile().mkdirs();
+		Files.asCharSink(file, StandardCharsets.UTF_8).write(sb);
 	}
 
 	private Map<String, Object> buildComponentSymbols(File file)
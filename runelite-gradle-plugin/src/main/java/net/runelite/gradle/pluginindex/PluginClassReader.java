@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.pluginindex;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the superclass and runtime visible class annotations from a class file, without loading
+ * the class or needing its dependencies on the classpath.
+ */
+class PluginClassReader
+{
+	/**
+	 * An annotation and its element values. Values are an Integer for primitives, a String for
+	 * strings and enum constant names, a {@link ClassValue} for classes, an {@link Annotation} or
+	 * a List for arrays.
+	 */
+	static class Annotation
+	{
+		final String type;
+		final Map<String, Object> values = new HashMap<>();
+
+		Annotation(String type)
+		{
+			this.type = type;
+		}
+	}
+
+	static class ClassValue
+	{
+		final String name;
+
+		ClassValue(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	private static final int UTF8 = 1;
+	private static final int INTEGER = 3;
+	private static final int FLOAT = 4;
+	private static final int LONG = 5;
+	private static final int DOUBLE = 6;
+	private static final int CLASS = 7;
+
+	private final DataInputStream in;
+	private Object[] constants;
+
+	String superName;
+	String name;
+	final List<Annotation> annotations = new ArrayList<>();
+
+	PluginClassReader(InputStream in)
+	{
+		this.in = new DataInputStream(in);
+	}
+
+	PluginClassReader read() throws IOException
+	{
+		if (in.readInt() != 0xCAFEBABE)
+		{
+			throw new IOException("not a class file");
+		}
+		in.readUnsignedShort(); // minor
+		in.readUnsignedShort(); // major
+
+		readConstants();
+
+		in.readUnsignedShort(); // access
+		name = className(in.readUnsignedShort());
+		int superClass = in.readUnsignedShort();
+		superName = superClass == 0 ? null : className(superClass);
+		in.skipBytes(in.readUnsignedShort() * 2); // interfaces
+
+		skipMembers(); // fields
+		skipMembers(); // methods
+
+		int attributes = in.readUnsignedShort();
+		for (int i = 0; i < attributes; ++i)
+		{
+			String attribute = (String) constants[in.readUnsignedShort()];
+			int length = in.readInt();
+			if ("RuntimeVisibleAnnotations".equals(attribute))
+			{
+				int count = in.readUnsignedShort();
+				for (int j = 0; j < count; ++j)
+				{
+					annotations.add(readAnnotation());
+				}
+			}
+			else
+			{
+				in.skipBytes(length);
+			}
+		}
+		return this;
+	}
+
+	Annotation getAnnotation(String type)
+	{
+		for (Annotation annotation : annotations)
+		{
+			if (annotation.type.equals(type))
+			{
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	private void readConstants() throws IOException
+	{
+		int count = in.readUnsignedShort();
+		constants = new Object[count];
+		for (int i = 1; i < count; ++i)
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case UTF8:
+					constants[i] = in.readUTF();
+					break;
+				case INTEGER:
+					constants[i] = in.readInt();
+					break;
+				case FLOAT:
+					in.skipBytes(4);
+					break;
+				case LONG:
+				case DOUBLE:
+					in.skipBytes(8);
+					// 8 byte constants take two entries
+					++i;
+					break;
+				case CLASS:
+					// resolved to the name in className()
+					constants[i] = new int[]{in.readUnsignedShort()};
+					break;
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					in.skipBytes(2);
+					break;
+				case 15: // MethodHandle
+					in.skipBytes(3);
+					break;
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					in.skipBytes(4);
+					break;
+				default:
+					throw new IOException("unknown constant pool tag " + tag);
+			}
+		}
+	}
+
+	private String className(int index)
+	{
+		int[] nameIndex = (int[]) constants[index];
+		return ((String) constants[nameIndex[0]]).replace('/', '.');
+	}
+
+	private void skipMembers() throws IOException
+	{
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; ++i)
+		{
+			in.skipBytes(6); // access, name, descriptor
+			int attributes = in.readUnsignedShort();
+			for (int j = 0; j < attributes; ++j)
+			{
+				in.skipBytes(2);
+				in.skipBytes(in.readInt());
+			}
+		}
+	}
+
+	private Annotation readAnnotation() throws IOException
+	{
+		Annotation annotation = new Annotation(descriptorName((String) constants[in.readUnsignedShort()]));
+		int pairs = in.readUnsignedShort();
+		for (int i = 0; i < pairs; ++i)
+		{
+			String name = (String) constants[in.readUnsignedShort()];
+			annotation.values.put(name, readElementValue());
+		}
+		return annotation;
+	}
+
+	private Object readElementValue() throws IOException
+	{
+		int tag = in.readUnsignedByte();
+		switch (tag)
+		{
+			case 'B':
+			case 'C':
+			case 'I':
+			case 'S':
+			case 'Z':
+			case 's':
+				// Integer or Utf8, and null for the wide and floating point constants which aren't kept
+				return constants[in.readUnsignedShort()];
+			case 'D':
+			case 'F':
+			case 'J':
+				in.skipBytes(2);
+				return null;
+			case 'e':
+				in.skipBytes(2); // type
+				return constants[in.readUnsignedShort()];
+			case 'c':
+				return new ClassValue(descriptorName((String) constants[in.readUnsignedShort()]));
+			case '@':
+				return readAnnotation();
+			case '[':
+				int count = in.readUnsignedShort();
+				List<Object> values = new ArrayList<>(count);
+				for (int i = 0; i < count; ++i)
+				{
+					values.add(readElementValue());
+				}
+				return values;
+			default:
+				throw new IOException("unknown element value tag " + (char) tag);
+		}
+	}
+
+	private static String descriptorName(String descriptor)
+	{
+		// Lnet/runelite/client/plugins/Plugin;
+		return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+	}
+}
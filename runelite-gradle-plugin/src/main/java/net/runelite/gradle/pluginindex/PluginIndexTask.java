@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.pluginindex;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Writes an index of the core plugins, so the client can load them at startup without scanning and
+ * loading every class in the plugin package.
+ * <p>
+ * The index has a line per plugin, in dependency order, of the plugin class name, its flags and the
+ * plugins it depends on, separated by tabs. The only flag is "developer", for developer plugins.
+ */
+@CacheableTask
+public abstract class PluginIndexTask extends DefaultTask
+{
+	static final String PLUGIN_PACKAGE = "net/runelite/client/plugins";
+	static final String INDEX_FILE = PLUGIN_PACKAGE + "/plugins.idx";
+
+	private static final String PLUGIN = "net.runelite.client.plugins.Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	private static final String PLUGIN_DEPENDENCIES = "net.runelite.client.plugins.PluginDependencies";
+
+	@InputDirectory
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public abstract DirectoryProperty getClassesDirectory();
+
+	@OutputDirectory
+	public abstract DirectoryProperty getOutputDirectory();
+
+	@TaskAction
+	public void buildPluginIndex() throws IOException
+	{
+		File pluginPackage = new File(getClassesDirectory().getAsFile().get(), PLUGIN_PACKAGE);
+		Map<String, PluginClassReader> plugins = new HashMap<>();
+		if (pluginPackage.isDirectory())
+		{
+			List<File> classFiles = new ArrayList<>();
+			try (var files = Files.walk(pluginPackage.toPath()))
+			{
+				files.map(Path::toFile)
+					// plugins are top level classes
+					.filter(f -> f.getName().endsWith(".class") && f.getName().indexOf('$') == -1)
+					.forEach(classFiles::add);
+			}
+
+			for (File classFile : classFiles)
+			{
+				PluginClassReader reader;
+				try (InputStream in = new FileInputStream(classFile))
+				{
+					reader = new PluginClassReader(in).read();
+				}
+
+				if (reader.getAnnotation(PLUGIN_DESCRIPTOR) == null)
+				{
+					continue;
+				}
+
+				if (!PLUGIN.equals(reader.superName))
+				{
+					// the client logs this when it finds the class
+					getLogger().warn("Class {} has plugin descriptor, but is not a plugin", reader.name);
+					continue;
+				}
+
+				plugins.put(reader.name, reader);
+			}
+		}
+
+		Map<String, List<String>> dependencies = new LinkedHashMap<>();
+		for (String plugin : new TreeSet<>(plugins.keySet()))
+		{
+			List<String> pluginDependencies = new ArrayList<>();
+			for (PluginClassReader.Annotation dependency : dependencies(plugins.get(plugin)))
+			{
+				String name = ((PluginClassReader.ClassValue) dependency.values.get("value")).name;
+				if (plugins.containsKey(name))
+				{
+					pluginDependencies.add(name);
+				}
+			}
+			dependencies.put(plugin, pluginDependencies);
+		}
+
+		File indexFile = new File(getOutputDirectory().getAsFile().get(), INDEX_FILE);
+		indexFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(indexFile, StandardCharsets.UTF_8))
+		{
+			for (String plugin : sort(dependencies))
+			{
+				Object developer = plugins.get(plugin).getAnnotation(PLUGIN_DESCRIPTOR).values.get("developerPlugin");
+				out.print(plugin);
+				out.print('\t');
+				out.print(Integer.valueOf(1).equals(developer) ? "developer" : "");
+				out.print('\t');
+				out.print(String.join(",", dependencies.get(plugin)));
+				out.print('\n');
+			}
+		}
+	}
+
+	private static List<PluginClassReader.Annotation> dependencies(PluginClassReader plugin)
+	{
+		PluginClassReader.Annotation dependency = plugin.getAnnotation(PLUGIN_DEPENDENCY);
+		if (dependency != null)
+		{
+			return Collections.singletonList(dependency);
+		}
+
+		// repeated @PluginDependency are compiled into their container
+		PluginClassReader.Annotation container = plugin.getAnnotation(PLUGIN_DEPENDENCIES);
+		if (container == null)
+		{
+			return Collections.emptyList();
+		}
+
+		List<PluginClassReader.Annotation> dependencies = new ArrayList<>();
+		for (Object value : (List<?>) container.values.get("value"))
+		{
+			dependencies.add((PluginClassReader.Annotation) value);
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Sort the plugins so that each plugin comes after its dependencies, and otherwise by name so
+	 * the index is reproducible
+	 */
+	static List<String> sort(Map<String, List<String>> dependencies)
+	{
+		Map<String, Integer> inDegree = new HashMap<>();
+		Map<String, List<String>> dependents = new HashMap<>();
+		for (Map.Entry<String, List<String>> entry : dependencies.entrySet())
+		{
+			inDegree.put(entry.getKey(), entry.getValue().size());
+			for (String dependency : entry.getValue())
+			{
+				dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+			}
+		}
+
+		TreeSet<String> ready = new TreeSet<>();
+		inDegree.forEach((plugin, degree) ->
+		{
+			if (degree == 0)
+			{
+				ready.add(plugin);
+			}
+		});
+
+		List<String> sorted = new ArrayList<>(dependencies.size());
+		while (!ready.isEmpty())
+		{
+			String plugin = ready.pollFirst();
+			sorted.add(plugin);
+			for (String dependent : dependents.getOrDefault(plugin, Collections.emptyList()))
+			{
+				if (inDegree.merge(dependent, -1, Integer::sum) == 0)
+				{
+					ready.add(dependent);
+				}
+			}
+		}
+
+		if (sorted.size() != dependencies.size())
+		{
+			throw new GradleException("Plugin dependency graph contains a cycle!");
+		}
+		return sorted;
+	}
+}